@@ -0,0 +1,64 @@
+package com.integrationhub.dashboard.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of {@link SystemStatusMonitor} lists as the endpoints-ship API
+ * returns them, including the derived {@code running}/{@code statusDisplay} properties.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SystemStatusSerializationBenchmark {
+
+    private static final String[] STATUSES = {"RUNNING", "UP", "OUTAGE", "DOWN", "MAINTENANCE"};
+
+    @Param({"100", "10000"})
+    private int rows;
+
+    private List<SystemStatusMonitor> statuses;
+    private JsonMapper jsonMapper;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 12, 0);
+        statuses = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            SystemStatusMonitor status = new SystemStatusMonitor();
+            status.setSsmSuid((long) i);
+            status.setSsmShipCode("SH" + (i % 60));
+            status.setSsmSystemName("SYSTEM-" + (i % 400));
+            status.setSsmSystemType(i % 2 == 0 ? "EMS" : "BW");
+            status.setSsmSystemStatus(STATUSES[i % STATUSES.length]);
+            status.setSsmSystemDateTime(now.minusMinutes(i));
+            status.setSsmCreatedDate(now.minusDays(i % 30));
+            status.setSsmMessage(i % 5 == 2 ? "Connection refused by remote host" : null);
+            statuses.add(status);
+        }
+        jsonMapper = JsonMapper.builder().build();
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() {
+        return jsonMapper.writeValueAsBytes(statuses);
+    }
+}
@@ -0,0 +1,100 @@
+package com.integrationhub.dashboard.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-queue cost of reading name and pending count from an admin QueueInfo: the
+ * reflective lookup the sweep used to do for every queue versus the cached
+ * handles in {@link EmsAdminBinding}. Stand-in classes mirror the TIBCO shapes
+ * so the benchmark runs without tibjms.jar.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmsAdminBindingBenchmark {
+
+    private static final int QUEUES = 10_000;
+
+    public static class StubAdmin {
+        public StubAdmin(String url, String username, String password) {
+        }
+
+        public StubQueueInfo[] getQueues() {
+            return new StubQueueInfo[0];
+        }
+
+        public Object getInfo() {
+            return this;
+        }
+
+        public void close() {
+        }
+    }
+
+    public static class StubQueueInfo {
+        private final String name;
+        private final long pendingMessageCount;
+
+        public StubQueueInfo(String name, long pendingMessageCount) {
+            this.name = name;
+            this.pendingMessageCount = pendingMessageCount;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getPendingMessageCount() {
+            return pendingMessageCount;
+        }
+    }
+
+    private Object[] queueInfos;
+    private EmsAdminBinding binding;
+
+    @Setup
+    public void setUp() {
+        queueInfos = new Object[QUEUES];
+        for (int i = 0; i < QUEUES; i++) {
+            queueInfos[i] = new StubQueueInfo("SC.Q.APP" + (i % 97) + ".QUEUE" + i, i * 7L);
+        }
+        binding = new EmsAdminBinding(StubAdmin.class.getName(), StubQueueInfo.class.getName());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUEUES)
+    public void reflectiveLookupPerQueue(Blackhole bh) throws Exception {
+        for (Object queueInfo : queueInfos) {
+            Class<?> queueInfoClass = Class.forName(StubQueueInfo.class.getName());
+            String queueName = (String) queueInfoClass.getMethod("getName").invoke(queueInfo);
+            long messageCount = (Long) queueInfoClass.getMethod("getPendingMessageCount").invoke(queueInfo);
+            bh.consume(queueName);
+            bh.consume(messageCount);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUEUES)
+    public void cachedMethodHandles(Blackhole bh) {
+        for (Object queueInfo : queueInfos) {
+            bh.consume(binding.queueName(queueInfo));
+            bh.consume(binding.pendingMessageCount(queueInfo));
+        }
+    }
+}
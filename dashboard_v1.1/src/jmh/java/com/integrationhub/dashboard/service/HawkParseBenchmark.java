@@ -0,0 +1,70 @@
+package com.integrationhub.dashboard.service;
+
+import com.integrationhub.dashboard.config.TibcoHawkProperties;
+import com.integrationhub.dashboard.model.HawkApplicationStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TibcoHawkService#parseStatuses} on generated Hawk monitor files of
+ * {@code instances} service instances, laid out like the real file: applications per
+ * ship, a few services each, two instances (Running/Standby) per service.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class HawkParseBenchmark {
+
+    private static final int SERVICES_PER_APPLICATION = 4;
+    private static final int INSTANCES_PER_SERVICE = 2;
+    private static final String[] STATUSES = {"Running", "Standby", "Running", "Stopped"};
+
+    @Param({"1000", "10000", "100000", "500000"})
+    private int instances;
+
+    private List<String> lines;
+    private TibcoHawkService service;
+
+    @Setup
+    public void setUp() {
+        lines = new ArrayList<>();
+        int written = 0;
+        for (int app = 0; written < instances; app++) {
+            lines.add("Application Name: SHIP" + (app % 40) + "/Domain" + (app % 7) + "/Application" + app);
+            for (int svc = 0; svc < SERVICES_PER_APPLICATION && written < instances; svc++) {
+                lines.add("    Service Name: Service" + svc + ".par");
+                lines.add("    Deployment Status: Success");
+                for (int i = 1; i <= INSTANCES_PER_SERVICE && written < instances; i++, written++) {
+                    lines.add("        Service Instance Name: Service" + svc + "-0" + i + "-01");
+                    lines.add("        Machine Name: host" + (written % 300) + ".example.com");
+                    lines.add("        Status: " + STATUSES[written % STATUSES.length]);
+                }
+            }
+            lines.add("");
+        }
+        service = new TibcoHawkService(new TibcoHawkProperties(), new SingleFlight(new SimpleMeterRegistry()),
+                new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public List<HawkApplicationStatus> parseStatuses() {
+        return service.parseStatuses(lines);
+    }
+}
@@ -0,0 +1,92 @@
+package com.integrationhub.dashboard.service;
+
+import com.integrationhub.dashboard.config.TibcoEmsProperties;
+import com.integrationhub.dashboard.model.QueueInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The filter/select pipeline of {@code selectHighVolumeQueues}: threshold and status
+ * filter, name filters and the per-server top-k, over synthetic inventories of
+ * {@code servers} x {@code queuesPerServer} queues. The EMS simulator backend stands in
+ * for tibjms.jar so the service takes its real (non-mock) path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HighVolumeSelectionBenchmark {
+
+    private static final String[] SEGMENTS = {
+            "ORDER.PROCESSING", "PAYMENT.RETRY", "INVENTORY.UPDATE", "BOOKING.SYNC", "NOTIFICATION",
+            "SC.Q.AUDIT", "BAM.EVENTS", "FCWEB.CACHE", "ARCHIVE.ORDERS", "ERROR.HANDLING"
+    };
+
+    @Param({"50"})
+    private int servers;
+
+    @Param({"200", "4000"})
+    private int queuesPerServer;
+
+    private List<List<QueueInfo>> inventories;
+    private TibcoEmsQueueService service;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        inventories = new ArrayList<>();
+        for (int s = 0; s < servers; s++) {
+            String serverName = String.format("SIM-%02d", s + 1);
+            List<QueueInfo> queues = new ArrayList<>(queuesPerServer);
+            for (int q = 0; q < queuesPerServer; q++) {
+                // Exponential depths around 1000: about 5% above the 3000 threshold
+                long depth = (long) (-1000 * Math.log(1 - random.nextDouble()));
+                queues.add(new QueueInfo(serverName, SEGMENTS[q % SEGMENTS.length] + ".Q" + q, depth));
+            }
+            inventories.add(queues);
+        }
+
+        TibcoEmsProperties properties = new TibcoEmsProperties();
+        properties.getSimulator().setQueuesPerServer(0);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        EmsAdminBackend backend = new EmsAdminSimulator(properties);
+        service = new TibcoEmsQueueService(
+                new TibcoEmsService(properties),
+                properties,
+                new EmsAdminSessionPool(properties, backend, registry),
+                backend,
+                new EmsServerCircuitBreaker(properties),
+                new QueueNameFilters(properties),
+                new ThresholdRules(properties),
+                new SingleFlight(registry),
+                registry);
+    }
+
+    @TearDown
+    public void tearDown() {
+        service.shutdown();
+    }
+
+    @Benchmark
+    public List<QueueInfo> selectHighVolumeQueues() {
+        return service.selectHighVolumeQueues(inventories);
+    }
+}
@@ -0,0 +1,87 @@
+package com.integrationhub.dashboard.service;
+
+import com.integrationhub.dashboard.model.DuplicateProcessInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TibcoProcessMonitorService#getDuplicateProcesses} (read, parse and group by
+ * process) on a generated inventory of {@code servers} entries. Most servers report
+ * "no duplicates"; the rest list a handful of .tra paths drawn from a shared pool, so
+ * the same process shows up on many hosts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProcessMonitorBenchmark {
+
+    private static final int PROCESS_POOL = 2000;
+
+    @Param({"1000", "50000"})
+    private int servers;
+
+    private Path inventory;
+    private TibcoProcessMonitorService service;
+
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        StringBuilder json = new StringBuilder("[\n");
+        for (int s = 0; s < servers; s++) {
+            if (s > 0) {
+                json.append(",\n");
+            }
+            json.append("  { \"duplicate_processes\": ");
+            if (random.nextInt(3) > 0) {
+                json.append("\"no duplicates\"");
+            } else {
+                json.append('[');
+                int count = 1 + random.nextInt(6);
+                for (int p = 0; p < count; p++) {
+                    int process = random.nextInt(PROCESS_POOL);
+                    json.append(p > 0 ? ", " : "")
+                            .append("\"/apps/tibco/tra/domain/SHIP/application/App").append(process % 150)
+                            .append("/App").append(process).append("-01-01.tra\"");
+                }
+                json.append(']');
+            }
+            json.append(", \"server\": \"srv").append(s).append("bw931\" }");
+        }
+        json.append("\n]\n");
+
+        inventory = Files.createTempFile("process-monitor-", ".json");
+        Files.writeString(inventory, json);
+        service = new TibcoProcessMonitorService(inventory.toString(), new SimpleMeterRegistry());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(inventory);
+    }
+
+    @Benchmark
+    public List<DuplicateProcessInfo> getDuplicateProcesses() {
+        return service.getDuplicateProcesses();
+    }
+}
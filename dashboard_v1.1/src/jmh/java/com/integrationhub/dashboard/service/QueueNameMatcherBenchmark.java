@@ -0,0 +1,88 @@
+package com.integrationhub.dashboard.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-name cost of the dashboard exclusion check: the former chain of five
+ * {@code toUpperCase().contains(...)} filters versus one compiled
+ * {@link QueueNameMatcher} pass.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueueNameMatcherBenchmark {
+
+    private static final int NAMES = 10_000;
+    private static final List<String> EXCLUDES = List.of("BAM", "FCWEB.CACHE", "ARCHIVE", "TEMP", "ERROR");
+    private static final String[] SEGMENTS = {
+            "SC.Q", "ORDER", "Booking", "sync", "PAYMENT", "retry", "Audit", "PUBLISHMESSAGE",
+            "AuditLogger", "inventory", "update", "notification", "bam", "Archive", "error", "FcWeb.Cache"
+    };
+
+    private String[] names;
+    private QueueNameMatcher matcher;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        names = new String[NAMES];
+        for (int i = 0; i < NAMES; i++) {
+            StringBuilder name = new StringBuilder();
+            int parts = 3 + random.nextInt(4);
+            for (int p = 0; p < parts; p++) {
+                if (p > 0) {
+                    name.append('.');
+                }
+                // Mostly ordinary segments, roughly one name in five hits an exclusion
+                name.append(SEGMENTS[random.nextInt(random.nextInt(5) == 0 ? SEGMENTS.length : 12)]);
+            }
+            names[i] = name.toString();
+        }
+        matcher = QueueNameMatcher.compile(EXCLUDES);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NAMES)
+    public int upperCaseContainsChain() {
+        int kept = 0;
+        for (String name : names) {
+            if (!name.toUpperCase().contains("BAM")
+                    && !name.toUpperCase().contains("FCWEB.CACHE")
+                    && !name.toUpperCase().contains("ARCHIVE")
+                    && !name.toUpperCase().contains("TEMP")
+                    && !name.toUpperCase().contains("ERROR")) {
+                kept++;
+            }
+        }
+        return kept;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NAMES)
+    public int compiledMatcher() {
+        int kept = 0;
+        for (String name : names) {
+            if (!matcher.matches(name)) {
+                kept++;
+            }
+        }
+        return kept;
+    }
+}
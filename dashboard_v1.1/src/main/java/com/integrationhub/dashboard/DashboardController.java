@@ -1,23 +1,56 @@
 package com.integrationhub.dashboard;
 
+import com.integrationhub.dashboard.model.DurableInfo;
+import com.integrationhub.dashboard.model.EmsServerDiagnostics;
+import com.integrationhub.dashboard.model.EmsServerStatsHistory;
+import com.integrationhub.dashboard.model.QueueDelta;
+import com.integrationhub.dashboard.model.QueueDepthPoint;
 import com.integrationhub.dashboard.model.QueueInfo;
+import com.integrationhub.dashboard.model.QueueInventoryIndex;
+import com.integrationhub.dashboard.model.QueueInventoryPage;
+import com.integrationhub.dashboard.model.QueueSnapshot;
+import com.integrationhub.dashboard.model.TopicBacklog;
+import com.integrationhub.dashboard.model.TopicInfo;
+import com.integrationhub.dashboard.service.EmsQueueCollector;
+import com.integrationhub.dashboard.service.EmsServerStatsStore;
+import com.integrationhub.dashboard.service.QueueHistoryStore;
+import com.integrationhub.dashboard.service.SingleFlight;
 import com.integrationhub.dashboard.service.TibcoEmsQueueService;
+import com.integrationhub.dashboard.service.TopK;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 
 @Controller
 public class DashboardController {
 
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final long MAX_DIAGNOSTICS_DEADLINE_MS = 60000;
+
     private final TibcoEmsQueueService tibcoEmsQueueService;
+    private final EmsQueueCollector emsQueueCollector;
+    private final QueueHistoryStore queueHistoryStore;
+    private final EmsServerStatsStore serverStatsStore;
+    private final SingleFlight singleFlight;
 
-    public DashboardController(TibcoEmsQueueService tibcoEmsQueueService) {
+    public DashboardController(TibcoEmsQueueService tibcoEmsQueueService,
+                               EmsQueueCollector emsQueueCollector,
+                               QueueHistoryStore queueHistoryStore,
+                               EmsServerStatsStore serverStatsStore,
+                               SingleFlight singleFlight) {
         this.tibcoEmsQueueService = tibcoEmsQueueService;
+        this.emsQueueCollector = emsQueueCollector;
+        this.queueHistoryStore = queueHistoryStore;
+        this.serverStatsStore = serverStatsStore;
+        this.singleFlight = singleFlight;
     }
 
     @GetMapping("/dashboard")
@@ -27,8 +60,90 @@ public class DashboardController {
 
     @GetMapping("/api/queues")
     @ResponseBody
-    public List<QueueInfo> getQueuesApi() {
-        return tibcoEmsQueueService.getHighVolumeQueues();
+    public List<QueueInfo> getQueuesApi(@RequestParam(value = "sort", defaultValue = "depth") String sort,
+                                        WebRequest webRequest) {
+        QueueSnapshot snapshot = emsQueueCollector.getSnapshot();
+        if (webRequest.checkNotModified(etag(snapshot))) {
+            return null;
+        }
+        List<QueueInfo> queues = snapshot.getHighVolumeQueues();
+        if ("growth".equalsIgnoreCase(sort)) {
+            // Fastest-growing first
+            return queues.stream()
+                    .sorted(Comparator.comparingDouble(QueueInfo::getRatePerSecond).reversed())
+                    .toList();
+        }
+        if ("bytes".equalsIgnoreCase(sort)) {
+            // Most pending bytes first; queues without a reported size last
+            return queues.stream()
+                    .sorted(Comparator.comparing(QueueInfo::getPendingMessageSize,
+                            Comparator.nullsLast(Comparator.reverseOrder())))
+                    .toList();
+        }
+        if ("noConsumers".equalsIgnoreCase(sort)) {
+            // Backlog nobody is reading first, then by depth
+            return queues.stream()
+                    .sorted(Comparator.comparing(QueueInfo::isUnconsumedBacklog).reversed()
+                            .thenComparing(Comparator.comparingLong(QueueInfo::getMessageCount).reversed()))
+                    .toList();
+        }
+        return queues;
+    }
+
+    /**
+     * Topics with the largest backlog across all servers, or only {@code server}'s, from
+     * the latest snapshot.
+     */
+    @GetMapping("/api/topics")
+    @ResponseBody
+    public List<TopicInfo> getTopics(@RequestParam(value = "server", required = false) String serverName,
+                                     @RequestParam(value = "limit", defaultValue = "100") int limit,
+                                     WebRequest webRequest) {
+        QueueSnapshot snapshot = emsQueueCollector.getSnapshot();
+        if (webRequest.checkNotModified(etag(snapshot))) {
+            return null;
+        }
+        return tibcoEmsQueueService.selectTopics(topicBacklogs(snapshot, serverName),
+                Math.min(Math.max(1, limit), MAX_PAGE_SIZE));
+    }
+
+    /**
+     * Durable subscriptions with the largest backlog across all servers, or only
+     * {@code server}'s. {@code sort=offline} puts backlogs of disconnected subscribers
+     * first.
+     */
+    @GetMapping("/api/durables")
+    @ResponseBody
+    public List<DurableInfo> getDurables(@RequestParam(value = "server", required = false) String serverName,
+                                         @RequestParam(value = "sort", defaultValue = "count") String sort,
+                                         @RequestParam(value = "limit", defaultValue = "100") int limit,
+                                         WebRequest webRequest) {
+        QueueSnapshot snapshot = emsQueueCollector.getSnapshot();
+        if (webRequest.checkNotModified(etag(snapshot))) {
+            return null;
+        }
+        return tibcoEmsQueueService.selectDurables(topicBacklogs(snapshot, serverName),
+                Math.min(Math.max(1, limit), MAX_PAGE_SIZE), "offline".equalsIgnoreCase(sort));
+    }
+
+    private Collection<TopicBacklog> topicBacklogs(QueueSnapshot snapshot, String serverName) {
+        return serverName == null || serverName.isBlank()
+                ? snapshot.getTopicBacklogs().values()
+                : List.of(snapshot.getTopicBacklog(serverName));
+    }
+
+    /**
+     * Added, changed and removed high-volume queues since snapshot {@code since};
+     * the full list (with {@code full} set) when that version is no longer known.
+     */
+    @GetMapping("/api/queues/delta")
+    @ResponseBody
+    public QueueDelta getQueueDelta(@RequestParam(value = "since", defaultValue = "0") long since,
+                                    WebRequest webRequest) {
+        if (webRequest.checkNotModified(etag(emsQueueCollector.getSnapshot()))) {
+            return null;
+        }
+        return emsQueueCollector.getQueueDelta(since);
     }
 
     @GetMapping("/api/status")
@@ -47,9 +162,17 @@ public class DashboardController {
         );
     }
 
+    /**
+     * Reads every server live, one after the other. Concurrent callers share one run,
+     * so reloading the page during a slow run does not start another sweep.
+     */
     @GetMapping("/api/test-connection")
     @ResponseBody
     public String testConnection() {
+        return singleFlight.execute("ems.testConnection", this::runConnectionTest);
+    }
+
+    private String runConnectionTest() {
         StringBuilder result = new StringBuilder();
         var servers = tibcoEmsQueueService.getAllServers();
         result.append("Testing ").append(servers.size()).append(" servers:\n\n");
@@ -61,7 +184,7 @@ public class DashboardController {
             result.append("  Queues found: ").append(queues.size()).append("\n");
             if (!queues.isEmpty()) {
                 result.append("  Top 3:\n");
-                queues.stream().limit(3).forEach(q -> 
+                TopK.select(queues, 3, Comparator.comparingLong(QueueInfo::getMessageCount).reversed()).forEach(q -> 
                     result.append("    - ").append(q.getQueueName())
                           .append(": ").append(q.getMessageCount()).append(" msgs\n")
                 );
@@ -72,6 +195,36 @@ public class DashboardController {
         return result.toString();
     }
 
+    /**
+     * Probes all EMS servers in parallel and reports connect, authenticate and getQueues
+     * latencies per server. {@code cold=true} opens new connections instead of reusing
+     * pooled sessions; {@code deadlineMs} defaults to the collector's sweep deadline.
+     */
+    @GetMapping("/api/diagnostics/ems")
+    @ResponseBody
+    public List<EmsServerDiagnostics> getEmsDiagnostics(@RequestParam(value = "cold", defaultValue = "false") boolean cold,
+                                                        @RequestParam(value = "deadlineMs", defaultValue = "${tibco.ems.collector.sweep-deadline-ms:5000}") long deadlineMs) {
+        return tibcoEmsQueueService.diagnoseServers(cold, Math.min(Math.max(1, deadlineMs), MAX_DIAGNOSTICS_DEADLINE_MS));
+    }
+
+    /**
+     * How often concurrent callers of the expensive live operations shared one execution.
+     */
+    @GetMapping("/api/coalescing")
+    @ResponseBody
+    public Map<String, SingleFlight.FlightStats> getCoalescingStats() {
+        return singleFlight.getStats();
+    }
+
+    /**
+     * Strong ETag of everything served from a snapshot. Responses are a function of the
+     * version (and the request URL), so unchanged data is answered with 304 before any
+     * serialization happens.
+     */
+    private String etag(QueueSnapshot snapshot) {
+        return "ems-" + snapshot.getVersion();
+    }
+
     private boolean checkTibcoLib() {
         try {
             Class.forName("com.tibco.tibjms.admin.TibjmsAdmin");
@@ -81,24 +234,69 @@ public class DashboardController {
         }
     }
 
+    /**
+     * One page of a server's inventory from the latest snapshot. {@code q} filters queue
+     * names ({@code match=contains} or {@code prefix}, case-insensitive), {@code sort} is
+     * {@code count}, {@code countAsc}, {@code bytes}, {@code noConsumers} or {@code name},
+     * and {@code cursor} is the {@code nextCursor} of the previous page.
+     */
     @GetMapping("/api/queues/{serverName}")
     @ResponseBody
-    public List<QueueInfo> getQueuesForServer(@PathVariable String serverName) {
-        return tibcoEmsQueueService.getAllQueuesForServer(serverName);
+    public QueueInventoryPage getQueuesForServer(@PathVariable String serverName,
+                                                 @RequestParam(value = "q", defaultValue = "") String query,
+                                                 @RequestParam(value = "match", defaultValue = QueueInventoryIndex.MATCH_CONTAINS) String match,
+                                                 @RequestParam(value = "sort", defaultValue = QueueInventoryIndex.SORT_COUNT) String sort,
+                                                 @RequestParam(value = "cursor", required = false) String cursor,
+                                                 @RequestParam(value = "limit", defaultValue = "100") int limit,
+                                                 WebRequest webRequest) {
+        QueueSnapshot snapshot = emsQueueCollector.getSnapshot();
+        if (webRequest.checkNotModified(etag(snapshot))) {
+            return null;
+        }
+        return snapshot.getInventoryIndex(serverName).page(serverName, snapshot.getVersion(),
+                query, match, sort, cursor, Math.min(Math.max(1, limit), MAX_PAGE_SIZE));
+    }
+
+    @GetMapping("/api/queues/{serverName}/{queueName}/history")
+    @ResponseBody
+    public List<QueueDepthPoint> getQueueHistory(@PathVariable String serverName,
+                                                 @PathVariable String queueName,
+                                                 @RequestParam(value = "since", defaultValue = "0") long since,
+                                                 WebRequest webRequest) {
+        // History gains points only in a sweep, before the sweep's snapshot is published
+        if (webRequest.checkNotModified(etag(emsQueueCollector.getSnapshot()))) {
+            return null;
+        }
+        return queueHistoryStore.getHistory(serverName, queueName, since);
+    }
+
+    /**
+     * Connection count, message memory, rates and pending totals of a server, latest and
+     * since {@code since} (epoch milliseconds).
+     */
+    @GetMapping("/api/servers/{serverName}/stats")
+    @ResponseBody
+    public EmsServerStatsHistory getServerStats(@PathVariable String serverName,
+                                                @RequestParam(value = "since", defaultValue = "0") long since,
+                                                WebRequest webRequest) {
+        // Samples are recorded in a sweep, before the sweep's snapshot is published
+        QueueSnapshot snapshot = emsQueueCollector.getSnapshot();
+        if (webRequest.checkNotModified(etag(snapshot))) {
+            return null;
+        }
+        return new EmsServerStatsHistory(serverName,
+                snapshot.getServerStatus().getOrDefault(serverName, "UNKNOWN"),
+                serverStatsStore.getLatest(serverName),
+                serverStatsStore.getHistory(serverName, since));
     }
 
     @GetMapping("/api/configured-servers")
     @ResponseBody
-    public List<Map<String, String>> getConfiguredServers() {
-        Map<String, String> serverStatusMap = tibcoEmsQueueService.getServerStatus();
-        return tibcoEmsQueueService.getAllServers()
-                .stream()
-                .map(server -> {
-                    Map<String, String> map = new HashMap<>();
-                    map.put("name", server.getName());
-                    map.put("status", serverStatusMap.getOrDefault(server.getName(), "UNKNOWN"));
-                    return map;
-                })
-                .toList();
+    public List<Map<String, Object>> getConfiguredServers(WebRequest webRequest) {
+        // Circuit states only change during a sweep, so the overview follows the snapshot too
+        if (webRequest.checkNotModified(etag(emsQueueCollector.getSnapshot()))) {
+            return null;
+        }
+        return emsQueueCollector.getServerOverview();
     }
 }
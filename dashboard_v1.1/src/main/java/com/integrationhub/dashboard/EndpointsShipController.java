@@ -6,6 +6,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.Collections;
 import java.util.HashMap;
@@ -37,8 +38,11 @@ public class EndpointsShipController {
      */
     @GetMapping("/api/status")
     @ResponseBody
-    public ResponseEntity<?> getAllSystemStatuses() {
+    public ResponseEntity<?> getAllSystemStatuses(WebRequest webRequest) {
         try {
+            if (isNotModified(webRequest)) {
+                return null;
+            }
             List<SystemStatusMonitor> statuses = systemStatusMonitorService.getAllSystemStatusesOrderedByDateTime();
             return ResponseEntity.ok(statuses);
         } catch (Exception e) {
@@ -56,8 +60,11 @@ public class EndpointsShipController {
      */
     @GetMapping("/api/ship/{shipCode}")
     @ResponseBody
-    public ResponseEntity<?> getSystemStatusesByShipCode(@PathVariable String shipCode) {
+    public ResponseEntity<?> getSystemStatusesByShipCode(@PathVariable String shipCode, WebRequest webRequest) {
         try {
+            if (isNotModified(webRequest)) {
+                return null;
+            }
             List<SystemStatusMonitor> statuses = systemStatusMonitorService.getSystemStatusesByShipCode(shipCode);
             return ResponseEntity.ok(statuses);
         } catch (Exception e) {
@@ -75,8 +82,11 @@ public class EndpointsShipController {
      */
     @GetMapping("/api/status/{systemName}")
     @ResponseBody
-    public ResponseEntity<?> getSystemStatusByName(@PathVariable String systemName) {
+    public ResponseEntity<?> getSystemStatusByName(@PathVariable String systemName, WebRequest webRequest) {
         try {
+            if (isNotModified(webRequest)) {
+                return null;
+            }
             return systemStatusMonitorService.getSystemStatusByName(systemName)
                     .map(status -> ResponseEntity.ok((Object) status))
                     .orElse(ResponseEntity.notFound().build());
@@ -95,8 +105,11 @@ public class EndpointsShipController {
      */
     @GetMapping("/api/running")
     @ResponseBody
-    public ResponseEntity<?> getRunningSystemStatuses() {
+    public ResponseEntity<?> getRunningSystemStatuses(WebRequest webRequest) {
         try {
+            if (isNotModified(webRequest)) {
+                return null;
+            }
             List<SystemStatusMonitor> runningStatuses = systemStatusMonitorService.getRunningSystemsStatuses();
             return ResponseEntity.ok(runningStatuses);
         } catch (Exception e) {
@@ -114,8 +127,11 @@ public class EndpointsShipController {
      */
     @GetMapping("/api/outage")
     @ResponseBody
-    public ResponseEntity<?> getOutageSystemStatuses() {
+    public ResponseEntity<?> getOutageSystemStatuses(WebRequest webRequest) {
         try {
+            if (isNotModified(webRequest)) {
+                return null;
+            }
             List<SystemStatusMonitor> outageStatuses = systemStatusMonitorService.getOutageSystemsStatuses();
             return ResponseEntity.ok(outageStatuses);
         } catch (Exception e) {
@@ -133,8 +149,11 @@ public class EndpointsShipController {
      */
     @GetMapping("/api/type/{systemType}")
     @ResponseBody
-    public ResponseEntity<?> getSystemStatusesByType(@PathVariable String systemType) {
+    public ResponseEntity<?> getSystemStatusesByType(@PathVariable String systemType, WebRequest webRequest) {
         try {
+            if (isNotModified(webRequest)) {
+                return null;
+            }
             List<SystemStatusMonitor> statuses = systemStatusMonitorService.getSystemStatusesByType(systemType);
             return ResponseEntity.ok(statuses);
         } catch (Exception e) {
@@ -152,8 +171,11 @@ public class EndpointsShipController {
      */
     @GetMapping("/api/check/{systemName}")
     @ResponseBody
-    public ResponseEntity<Map<String, Object>> checkSystemStatus(@PathVariable String systemName) {
+    public ResponseEntity<Map<String, Object>> checkSystemStatus(@PathVariable String systemName, WebRequest webRequest) {
         try {
+            if (isNotModified(webRequest)) {
+                return null;
+            }
             return systemStatusMonitorService.getSystemStatusByName(systemName)
                     .map(status -> {
                         Map<String, Object> response = new HashMap<>();
@@ -190,8 +212,12 @@ public class EndpointsShipController {
     @ResponseBody
     public ResponseEntity<Map<String, Object>> checkSystemStatusByShipCodeAndName(
             @PathVariable String shipCode, 
-            @PathVariable String systemName) {
+            @PathVariable String systemName,
+            WebRequest webRequest) {
         try {
+            if (isNotModified(webRequest)) {
+                return null;
+            }
             return systemStatusMonitorService.getSystemStatusByShipCodeAndName(shipCode, systemName)
                     .map(status -> {
                         Map<String, Object> response = new HashMap<>();
@@ -245,6 +271,14 @@ public class EndpointsShipController {
         }
     }
     
+    /**
+     * Answers 304 when the status table is unchanged since the client's copy. The ETag
+     * comes from one aggregate query, so the rows are neither loaded nor serialized then.
+     */
+    private boolean isNotModified(WebRequest webRequest) {
+        return webRequest.checkNotModified(systemStatusMonitorService.getDataVersion());
+    }
+    
     /**
      * Health check endpoint
      * GET /endpoints-ship/api/health
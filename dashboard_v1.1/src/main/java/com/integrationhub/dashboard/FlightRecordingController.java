@@ -0,0 +1,85 @@
+package com.integrationhub.dashboard;
+
+import com.integrationhub.dashboard.service.FlightRecordingService;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Control of the JDK Flight Recorder recording (see {@link FlightRecordingService}).
+ * Like every other API it only requires a logged-in session; the dashboard has a single
+ * account, so there is no separate admin role.
+ */
+@RestController
+@RequestMapping("/api/admin/recording")
+public class FlightRecordingController {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final FlightRecordingService flightRecordingService;
+
+    public FlightRecordingController(FlightRecordingService flightRecordingService) {
+        this.flightRecordingService = flightRecordingService;
+    }
+
+    @GetMapping("")
+    public FlightRecordingService.RecordingStatus getStatus() {
+        return flightRecordingService.getStatus();
+    }
+
+    @PostMapping("/start")
+    public ResponseEntity<?> start() {
+        try {
+            return ResponseEntity.ok(flightRecordingService.start());
+        } catch (IllegalStateException e) {
+            return error(HttpStatus.CONFLICT, "Conflict", e.getMessage());
+        } catch (Exception e) {
+            return error(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Error", "Unable to start recording: " + e.getMessage());
+        }
+    }
+
+    @PostMapping("/stop")
+    public ResponseEntity<?> stop() {
+        try {
+            return ResponseEntity.ok(flightRecordingService.stop());
+        } catch (IllegalStateException e) {
+            return error(HttpStatus.CONFLICT, "Conflict", e.getMessage());
+        }
+    }
+
+    @GetMapping("/download")
+    public ResponseEntity<?> download() {
+        try {
+            Path dump = flightRecordingService.dump();
+            String filename = "dashboard-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".jfr";
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                    .body(new FileSystemResource(dump));
+        } catch (IllegalStateException e) {
+            return error(HttpStatus.CONFLICT, "Conflict", e.getMessage());
+        } catch (Exception e) {
+            return error(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Error", "Unable to dump recording: " + e.getMessage());
+        }
+    }
+
+    private static ResponseEntity<Map<String, String>> error(HttpStatus status, String error, String message) {
+        Map<String, String> body = new HashMap<>();
+        body.put("error", error);
+        body.put("message", message);
+        return ResponseEntity.status(status).body(body);
+    }
+}
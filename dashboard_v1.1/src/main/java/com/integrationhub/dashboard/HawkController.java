@@ -9,6 +9,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.HashMap;
 import java.util.List;
@@ -87,6 +88,14 @@ public class HawkController {
         return "Showing " + filteredCount + " services across all statuses.";
     }
 
+    /**
+     * Answers 304 when the Hawk data file is unchanged since the client's copy. The
+     * ETag is the file's version, so nothing is read, parsed or serialized then.
+     */
+    private boolean isNotModified(WebRequest webRequest) {
+        return webRequest.checkNotModified(tibcoHawkService.getDataVersion());
+    }
+
     private boolean isStoppedStatus(HawkApplicationStatus app) {
         String normalized = normalizeStatus(app.getStatus());
         return "STOPPED".equals(normalized) || "UNKNOWN".equals(normalized);
@@ -117,7 +126,10 @@ public class HawkController {
      */
     @GetMapping("/api/applications")
     @ResponseBody
-    public List<HawkApplicationStatus> getAllApplications() {
+    public List<HawkApplicationStatus> getAllApplications(WebRequest webRequest) {
+        if (isNotModified(webRequest)) {
+            return null;
+        }
         return tibcoHawkService.getAllApplicationStatuses();
     }
 
@@ -126,7 +138,10 @@ public class HawkController {
      */
     @GetMapping("/api/applications/domain/{domainName}")
     @ResponseBody
-    public List<HawkApplicationStatus> getApplicationsByDomain(@PathVariable String domainName) {
+    public List<HawkApplicationStatus> getApplicationsByDomain(@PathVariable String domainName, WebRequest webRequest) {
+        if (isNotModified(webRequest)) {
+            return null;
+        }
         return tibcoHawkService.getApplicationStatusesForDomain(domainName);
     }
 
@@ -135,7 +150,10 @@ public class HawkController {
      */
     @GetMapping("/api/domains")
     @ResponseBody
-    public List<Map<String, String>> getConfiguredDomains() {
+    public List<Map<String, String>> getConfiguredDomains(WebRequest webRequest) {
+        if (isNotModified(webRequest)) {
+            return null;
+        }
         Map<String, String> domainStatusMap = tibcoHawkService.getDomainStatus();
         return tibcoHawkService.getAllDomains()
                 .stream()
@@ -188,7 +206,10 @@ public class HawkController {
      */
     @GetMapping("/api/applications/running")
     @ResponseBody
-    public List<HawkApplicationStatus> getRunningApplications() {
+    public List<HawkApplicationStatus> getRunningApplications(WebRequest webRequest) {
+        if (isNotModified(webRequest)) {
+            return null;
+        }
         return tibcoHawkService.getAllApplicationStatuses()
                 .stream()
                 .filter(HawkApplicationStatus::isRunning)
@@ -200,7 +221,10 @@ public class HawkController {
      */
     @GetMapping("/api/applications/stopped")
     @ResponseBody
-    public List<HawkApplicationStatus> getStoppedApplications() {
+    public List<HawkApplicationStatus> getStoppedApplications(WebRequest webRequest) {
+        if (isNotModified(webRequest)) {
+            return null;
+        }
         return tibcoHawkService.getAllApplicationStatuses()
                 .stream()
                 .filter(app -> !app.isRunning())
@@ -212,7 +236,10 @@ public class HawkController {
      */
     @GetMapping("/api/applications/host/{hostname}")
     @ResponseBody
-    public List<HawkApplicationStatus> getApplicationsByHost(@PathVariable String hostname) {
+    public List<HawkApplicationStatus> getApplicationsByHost(@PathVariable String hostname, WebRequest webRequest) {
+        if (isNotModified(webRequest)) {
+            return null;
+        }
         return tibcoHawkService.getAllApplicationStatuses()
                 .stream()
                 .filter(app -> app.getHost() != null && app.getHost().contains(hostname))
@@ -224,7 +251,10 @@ public class HawkController {
      */
     @GetMapping("/api/test-connection")
     @ResponseBody
-    public Map<String, String> testConnection() {
+    public Map<String, String> testConnection(WebRequest webRequest) {
+        if (isNotModified(webRequest)) {
+            return null;
+        }
         return tibcoHawkService.getDomainStatus();
     }
 
@@ -0,0 +1,47 @@
+package com.integrationhub.dashboard;
+
+import com.integrationhub.dashboard.service.LiveUpdateHub;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+@Controller
+public class LiveUpdateController {
+
+    private final LiveUpdateHub liveUpdateHub;
+
+    public LiveUpdateController(LiveUpdateHub liveUpdateHub) {
+        this.liveUpdateHub = liveUpdateHub;
+    }
+
+    /**
+     * Server-Sent Events stream of the given topics (queues, hawk, ships, duplicates).
+     * Browsers resume with the Last-Event-ID header they send on reconnect; a new
+     * EventSource can pass the same value as {@code lastEventId}.
+     */
+    @GetMapping(value = "/api/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public SseEmitter stream(@RequestParam(value = "topics", defaultValue = LiveUpdateHub.QUEUES) List<String> topics,
+                             @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+                             @RequestParam(value = "lastEventId", required = false) String lastEventIdParam) {
+        String lastEventId = lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam;
+        return liveUpdateHub.subscribe(topics, parseEventId(lastEventId));
+    }
+
+    private Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
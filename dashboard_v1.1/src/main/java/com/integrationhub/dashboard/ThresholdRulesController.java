@@ -0,0 +1,56 @@
+package com.integrationhub.dashboard;
+
+import com.integrationhub.dashboard.service.ThresholdRules;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * View and reload of the queue threshold rules (see {@link ThresholdRules}). Like every
+ * other API it only requires a logged-in session.
+ */
+@RestController
+@RequestMapping("/api/admin/thresholds")
+public class ThresholdRulesController {
+
+    private final ThresholdRules thresholdRules;
+
+    public ThresholdRulesController(ThresholdRules thresholdRules) {
+        this.thresholdRules = thresholdRules;
+    }
+
+    @GetMapping("")
+    public ThresholdRules.RuleSetInfo getInfo() {
+        return thresholdRules.getInfo();
+    }
+
+    /** The thresholds a queue or topic gets and the rule that set them. */
+    @GetMapping("/match")
+    public ThresholdRules.Match match(@RequestParam(required = false) String server,
+                                      @RequestParam String queue) {
+        return thresholdRules.match(server, queue);
+    }
+
+    @PostMapping("/reload")
+    public ResponseEntity<?> reload() {
+        try {
+            return ResponseEntity.ok(thresholdRules.reload());
+        } catch (IllegalStateException e) {
+            return error(HttpStatus.CONFLICT, "Conflict", e.getMessage());
+        }
+    }
+
+    private static ResponseEntity<Map<String, String>> error(HttpStatus status, String error, String message) {
+        Map<String, String> body = new HashMap<>();
+        body.put("error", error);
+        body.put("message", message);
+        return ResponseEntity.status(status).body(body);
+    }
+}
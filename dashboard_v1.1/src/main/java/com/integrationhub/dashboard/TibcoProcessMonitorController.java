@@ -9,6 +9,7 @@ import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.HashMap;
 import java.util.List;
@@ -39,7 +40,11 @@ public class TibcoProcessMonitorController {
 
     @GetMapping("/api/duplicates")
     @ResponseBody
-    public ResponseEntity<?> getDuplicateProcesses() {
+    public ResponseEntity<?> getDuplicateProcesses(WebRequest webRequest) {
+        // The ETag is the data file's version: unchanged files are answered without parsing
+        if (webRequest.checkNotModified(tibcoProcessMonitorService.getDataVersion())) {
+            return null;
+        }
         try {
             List<DuplicateProcessInfo> duplicates = tibcoProcessMonitorService.getDuplicateProcesses();
             return ResponseEntity.ok(duplicates);
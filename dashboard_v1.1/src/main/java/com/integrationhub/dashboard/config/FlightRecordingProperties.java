@@ -0,0 +1,41 @@
+package com.integrationhub.dashboard.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Limits of the on-demand Flight Recorder recording started from {@code /api/admin/recording}.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "dashboard.recording")
+public class FlightRecordingProperties {
+
+    /** JFR settings file: {@code default} (about 1% overhead) or {@code profile} (about 2%, adds allocation sampling). */
+    private String settings = "profile";
+    private long maxDurationMs = 600000;
+    private long maxSizeMb = 100;
+
+    public String getSettings() {
+        return settings;
+    }
+
+    public void setSettings(String settings) {
+        this.settings = settings;
+    }
+
+    public long getMaxDurationMs() {
+        return maxDurationMs;
+    }
+
+    public void setMaxDurationMs(long maxDurationMs) {
+        this.maxDurationMs = maxDurationMs;
+    }
+
+    public long getMaxSizeMb() {
+        return maxSizeMb;
+    }
+
+    public void setMaxSizeMb(long maxSizeMb) {
+        this.maxSizeMb = maxSizeMb;
+    }
+}
@@ -0,0 +1,143 @@
+package com.integrationhub.dashboard.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzips JSON responses of the {@code /api/} endpoints from
+ * {@code server.compression.min-response-size} up. Tomcat's own compression leaves
+ * responses with a strong ETag alone, so it happens here instead: the compressed
+ * representation gets its own strong ETag ({@code "<tag>-gzip"}), and the suffix is
+ * taken off {@code If-None-Match} before the controllers compare it with theirs.
+ */
+@Component
+public class JsonCompressionFilter extends OncePerRequestFilter {
+
+    private static final String GZIP_SUFFIX = "-gzip\"";
+
+    private final long minResponseSize;
+
+    public JsonCompressionFilter(@Value("${server.compression.min-response-size:2KB}") DataSize minResponseSize) {
+        this.minResponseSize = minResponseSize.toBytes();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        // The event stream is written incrementally and recording downloads can be large:
+        // neither must be buffered
+        return !uri.contains("/api/") || uri.endsWith("/api/stream") || uri.contains("/api/admin/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null || !acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip")) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        boolean clientHasGzip = ifNoneMatch != null && ifNoneMatch.contains(GZIP_SUFFIX);
+        ContentCachingResponseWrapper buffered = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(new IdentityEtagRequest(request), buffered);
+
+        String etag = buffered.getHeader(HttpHeaders.ETAG);
+        if (buffered.getStatus() == HttpServletResponse.SC_NOT_MODIFIED) {
+            if (clientHasGzip && isStrong(etag)) {
+                buffered.setHeader(HttpHeaders.ETAG, gzipEtag(etag));
+            }
+            buffered.copyBodyToResponse();
+            return;
+        }
+
+        byte[] body = buffered.getContentAsByteArray();
+        if (buffered.getStatus() != HttpServletResponse.SC_OK
+                || body.length < minResponseSize
+                || buffered.getHeader(HttpHeaders.CONTENT_ENCODING) != null
+                || !isJson(buffered.getContentType())) {
+            buffered.copyBodyToResponse();
+            return;
+        }
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(body);
+        }
+        buffered.resetBuffer();
+        buffered.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        if (isStrong(etag)) {
+            buffered.setHeader(HttpHeaders.ETAG, gzipEtag(etag));
+        }
+        buffered.setContentLength(compressed.size());
+        compressed.writeTo(buffered.getOutputStream());
+        buffered.copyBodyToResponse();
+    }
+
+    private static boolean isJson(String contentType) {
+        try {
+            return contentType != null && MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static boolean isStrong(String etag) {
+        return etag != null && etag.startsWith("\"") && etag.endsWith("\"");
+    }
+
+    private static String gzipEtag(String etag) {
+        return etag.substring(0, etag.length() - 1) + GZIP_SUFFIX;
+    }
+
+    /**
+     * Presents {@code If-None-Match} with the gzip suffix removed, so a client holding
+     * the compressed representation matches the controller's identity ETag.
+     */
+    private static final class IdentityEtagRequest extends HttpServletRequestWrapper {
+
+        IdentityEtagRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public String getHeader(String name) {
+            String value = super.getHeader(name);
+            return HttpHeaders.IF_NONE_MATCH.equalsIgnoreCase(name) && value != null ? strip(value) : value;
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            Enumeration<String> values = super.getHeaders(name);
+            if (!HttpHeaders.IF_NONE_MATCH.equalsIgnoreCase(name) || values == null) {
+                return values;
+            }
+            List<String> stripped = Collections.list(values).stream().map(IdentityEtagRequest::strip).toList();
+            return Collections.enumeration(stripped);
+        }
+
+        private static String strip(String value) {
+            return value.replace(GZIP_SUFFIX, "\"");
+        }
+    }
+}
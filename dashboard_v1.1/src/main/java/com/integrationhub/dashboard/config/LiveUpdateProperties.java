@@ -0,0 +1,47 @@
+package com.integrationhub.dashboard.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Settings of the {@code /api/stream} Server-Sent Events channel.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "dashboard.live")
+public class LiveUpdateProperties {
+
+    private long heartbeatMs = 15000;
+    private long streamTimeoutMs = 1800000;
+    private Map<String, Long> checkIntervalMs = new LinkedHashMap<>(Map.of(
+            "queues", 2000L,
+            "hawk", 60000L,
+            "ships", 30000L,
+            "duplicates", 60000L));
+
+    public long getHeartbeatMs() {
+        return heartbeatMs;
+    }
+
+    public void setHeartbeatMs(long heartbeatMs) {
+        this.heartbeatMs = heartbeatMs;
+    }
+
+    public long getStreamTimeoutMs() {
+        return streamTimeoutMs;
+    }
+
+    public void setStreamTimeoutMs(long streamTimeoutMs) {
+        this.streamTimeoutMs = streamTimeoutMs;
+    }
+
+    public Map<String, Long> getCheckIntervalMs() {
+        return checkIntervalMs;
+    }
+
+    public void setCheckIntervalMs(Map<String, Long> checkIntervalMs) {
+        this.checkIntervalMs = checkIntervalMs;
+    }
+}
@@ -6,15 +6,50 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 @ConfigurationProperties(prefix = "tibco.ems", ignoreUnknownFields = true, ignoreInvalidFields = true)
 public class TibcoEmsProperties {
 
     private static final Logger logger = LoggerFactory.getLogger(TibcoEmsProperties.class);
+    private String backend = "tibjms";
     private List<Server> servers = new ArrayList<>();
+    private List<Server> simulatedServers;
+    private Pool pool = new Pool();
+    private Collector collector = new Collector();
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private History history = new History();
+    private Trend trend = new Trend();
+    private Filters filters = new Filters();
+    private Selection selection = new Selection();
+    private Topics topics = new Topics();
+    private Thresholds thresholds = new Thresholds();
+    private Simulator simulator = new Simulator();
 
+    /**
+     * The EMS admin backend: {@code tibjms} (real servers through tibjms.jar) or
+     * {@code simulator}.
+     */
+    public String getBackend() {
+        return backend;
+    }
+
+    public void setBackend(String backend) {
+        this.backend = backend;
+    }
+
+    /**
+     * The configured servers, or the generated ones when the simulator is asked to model
+     * its own ({@code simulator.servers} &gt; 0).
+     */
     public List<Server> getServers() {
-        return servers;
+        if (!"simulator".equalsIgnoreCase(backend) || simulator.getServers() <= 0) {
+            return servers;
+        }
+        if (simulatedServers == null || simulatedServers.size() != simulator.getServers()) {
+            simulatedServers = simulator.generateServers();
+        }
+        return simulatedServers;
     }
 
     public void setServers(List<Server> servers) {
@@ -23,6 +58,751 @@ public class TibcoEmsProperties {
         servers.forEach(s -> logger.debug("  Loaded server: {} at {}:{}", s.getName(), s.getHost(), s.getPort()));
     }
 
+    public Pool getPool() {
+        return pool;
+    }
+
+    public void setPool(Pool pool) {
+        this.pool = pool;
+    }
+
+    public Collector getCollector() {
+        return collector;
+    }
+
+    public void setCollector(Collector collector) {
+        this.collector = collector;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    public History getHistory() {
+        return history;
+    }
+
+    public void setHistory(History history) {
+        this.history = history;
+    }
+
+    public Trend getTrend() {
+        return trend;
+    }
+
+    public void setTrend(Trend trend) {
+        this.trend = trend;
+    }
+
+    public Filters getFilters() {
+        return filters;
+    }
+
+    public void setFilters(Filters filters) {
+        this.filters = filters;
+    }
+
+    public Selection getSelection() {
+        return selection;
+    }
+
+    public void setSelection(Selection selection) {
+        this.selection = selection;
+    }
+
+    public Topics getTopics() {
+        return topics;
+    }
+
+    public Thresholds getThresholds() {
+        return thresholds;
+    }
+
+    public void setThresholds(Thresholds thresholds) {
+        this.thresholds = thresholds;
+    }
+
+    public void setTopics(Topics topics) {
+        this.topics = topics;
+    }
+
+    public Simulator getSimulator() {
+        return simulator;
+    }
+
+    public void setSimulator(Simulator simulator) {
+        this.simulator = simulator;
+    }
+
+    /**
+     * The in-process EMS simulator used with {@code backend: simulator}. Each server holds
+     * {@code queuesPerServer} queues whose depths start exponentially distributed around
+     * {@code meanDepth} and take a random walk of {@code walkStep} messages per read,
+     * along with {@code topicsPerServer} topics carrying {@code durablesPerServer}
+     * durable subscriptions between them. Latencies get up to {@code latencyJitterMs} added; {@code failureRate} and
+     * {@code timeoutRate} are per-call probabilities, a timeout hanging for
+     * {@code timeoutMs}. Servers named in {@code unreachableServers} never connect and
+     * those in {@code hangingServers} always time out.
+     */
+    public static class Simulator {
+        private int servers = 0;
+        private int hosts = 10;
+        private int queuesPerServer = 1000;
+        private int topicsPerServer = 50;
+        private int durablesPerServer = 200;
+        private long meanDepth = 1000;
+        private long walkStep = 50;
+        private long seed = 42;
+        private long connectLatencyMs = 20;
+        private long getQueuesLatencyMs = 50;
+        private long perThousandQueuesLatencyMs = 5;
+        private long latencyJitterMs = 20;
+        private double failureRate = 0.0;
+        private double timeoutRate = 0.0;
+        private long timeoutMs = 30000;
+        private List<String> unreachableServers = new ArrayList<>();
+        private List<String> hangingServers = new ArrayList<>();
+
+        /**
+         * Number of servers to generate ({@code SIM-01} ...), spread over {@code hosts}
+         * hosts; 0 simulates the configured servers instead.
+         */
+        public int getServers() {
+            return servers;
+        }
+
+        public void setServers(int servers) {
+            this.servers = servers;
+        }
+
+        public int getHosts() {
+            return hosts;
+        }
+
+        public void setHosts(int hosts) {
+            this.hosts = hosts;
+        }
+
+        public int getQueuesPerServer() {
+            return queuesPerServer;
+        }
+
+        public void setQueuesPerServer(int queuesPerServer) {
+            this.queuesPerServer = queuesPerServer;
+        }
+
+        public int getTopicsPerServer() {
+            return topicsPerServer;
+        }
+
+        public void setTopicsPerServer(int topicsPerServer) {
+            this.topicsPerServer = topicsPerServer;
+        }
+
+        public int getDurablesPerServer() {
+            return durablesPerServer;
+        }
+
+        public void setDurablesPerServer(int durablesPerServer) {
+            this.durablesPerServer = durablesPerServer;
+        }
+
+        public long getMeanDepth() {
+            return meanDepth;
+        }
+
+        public void setMeanDepth(long meanDepth) {
+            this.meanDepth = meanDepth;
+        }
+
+        public long getWalkStep() {
+            return walkStep;
+        }
+
+        public void setWalkStep(long walkStep) {
+            this.walkStep = walkStep;
+        }
+
+        public long getSeed() {
+            return seed;
+        }
+
+        public void setSeed(long seed) {
+            this.seed = seed;
+        }
+
+        public long getConnectLatencyMs() {
+            return connectLatencyMs;
+        }
+
+        public void setConnectLatencyMs(long connectLatencyMs) {
+            this.connectLatencyMs = connectLatencyMs;
+        }
+
+        public long getGetQueuesLatencyMs() {
+            return getQueuesLatencyMs;
+        }
+
+        public void setGetQueuesLatencyMs(long getQueuesLatencyMs) {
+            this.getQueuesLatencyMs = getQueuesLatencyMs;
+        }
+
+        public long getPerThousandQueuesLatencyMs() {
+            return perThousandQueuesLatencyMs;
+        }
+
+        public void setPerThousandQueuesLatencyMs(long perThousandQueuesLatencyMs) {
+            this.perThousandQueuesLatencyMs = perThousandQueuesLatencyMs;
+        }
+
+        public long getLatencyJitterMs() {
+            return latencyJitterMs;
+        }
+
+        public void setLatencyJitterMs(long latencyJitterMs) {
+            this.latencyJitterMs = latencyJitterMs;
+        }
+
+        public double getFailureRate() {
+            return failureRate;
+        }
+
+        public void setFailureRate(double failureRate) {
+            this.failureRate = failureRate;
+        }
+
+        public double getTimeoutRate() {
+            return timeoutRate;
+        }
+
+        public void setTimeoutRate(double timeoutRate) {
+            this.timeoutRate = timeoutRate;
+        }
+
+        public long getTimeoutMs() {
+            return timeoutMs;
+        }
+
+        public void setTimeoutMs(long timeoutMs) {
+            this.timeoutMs = timeoutMs;
+        }
+
+        public List<String> getUnreachableServers() {
+            return unreachableServers;
+        }
+
+        public void setUnreachableServers(List<String> unreachableServers) {
+            this.unreachableServers = unreachableServers;
+        }
+
+        public List<String> getHangingServers() {
+            return hangingServers;
+        }
+
+        public void setHangingServers(List<String> hangingServers) {
+            this.hangingServers = hangingServers;
+        }
+
+        List<Server> generateServers() {
+            List<Server> generated = new ArrayList<>();
+            int hostCount = Math.max(1, hosts);
+            for (int i = 1; i <= servers; i++) {
+                Server server = new Server();
+                server.setName(String.format(Locale.ROOT, "SIM-%02d", i));
+                server.setHost("sim-host-" + ((i - 1) % hostCount + 1));
+                server.setPort(7222 + (i - 1) / hostCount);
+                server.setUsername("admin");
+                server.setPassword("");
+                generated.add(server);
+            }
+            return generated;
+        }
+    }
+
+    /**
+     * Size of the dashboard's high-volume list: at most {@code maxQueuesPerServer}
+     * queues from each server (0 = no per-server limit), {@code maxQueues} overall.
+     */
+    public static class Selection {
+        private int maxQueues = 50;
+        private int maxQueuesPerServer = 0;
+
+        public int getMaxQueues() {
+            return maxQueues;
+        }
+
+        public void setMaxQueues(int maxQueues) {
+            this.maxQueues = maxQueues;
+        }
+
+        public int getMaxQueuesPerServer() {
+            return maxQueuesPerServer;
+        }
+
+        public void setMaxQueuesPerServer(int maxQueuesPerServer) {
+            this.maxQueuesPerServer = maxQueuesPerServer;
+        }
+    }
+
+    /**
+     * Message-count thresholds. A destination is {@code warning} above {@code warning}
+     * and {@code critical} above {@code critical} messages, unless a rule matches it;
+     * only warning/critical queues above {@code highVolume}, or above the lower of their
+     * own thresholds when a rule sets one below it, reach the dashboard list.
+     * When {@code rulesFile} is set, that YAML file (same keys as this section, without
+     * the file settings) replaces these values and is reloaded whenever it changes,
+     * checked every {@code reloadCheckMs}.
+     */
+    public static class Thresholds {
+        private long warning = 5000;
+        private long critical = 10000;
+        private long highVolume = 3000;
+        private List<ThresholdRule> rules = new ArrayList<>();
+        private String rulesFile = "";
+        private long reloadCheckMs = 10000;
+
+        public long getWarning() {
+            return warning;
+        }
+
+        public void setWarning(long warning) {
+            this.warning = warning;
+        }
+
+        public long getCritical() {
+            return critical;
+        }
+
+        public void setCritical(long critical) {
+            this.critical = critical;
+        }
+
+        public long getHighVolume() {
+            return highVolume;
+        }
+
+        public void setHighVolume(long highVolume) {
+            this.highVolume = highVolume;
+        }
+
+        public List<ThresholdRule> getRules() {
+            return rules;
+        }
+
+        public void setRules(List<ThresholdRule> rules) {
+            this.rules = rules;
+        }
+
+        public String getRulesFile() {
+            return rulesFile;
+        }
+
+        public void setRulesFile(String rulesFile) {
+            this.rulesFile = rulesFile;
+        }
+
+        public long getReloadCheckMs() {
+            return reloadCheckMs;
+        }
+
+        public void setReloadCheckMs(long reloadCheckMs) {
+            this.reloadCheckMs = reloadCheckMs;
+        }
+    }
+
+    /**
+     * Thresholds for destinations matching an EMS wildcard {@code pattern}: {@code *}
+     * matches one name element, a trailing {@code >} one or more. {@code servers} limits
+     * the rule to those servers (all when empty); unset thresholds keep the defaults.
+     */
+    public static class ThresholdRule {
+        private String pattern;
+        private List<String> servers = new ArrayList<>();
+        private Long warning;
+        private Long critical;
+
+        public String getPattern() {
+            return pattern;
+        }
+
+        public void setPattern(String pattern) {
+            this.pattern = pattern;
+        }
+
+        public List<String> getServers() {
+            return servers;
+        }
+
+        public void setServers(List<String> servers) {
+            this.servers = servers;
+        }
+
+        public Long getWarning() {
+            return warning;
+        }
+
+        public void setWarning(Long warning) {
+            this.warning = warning;
+        }
+
+        public Long getCritical() {
+            return critical;
+        }
+
+        public void setCritical(Long critical) {
+            this.critical = critical;
+        }
+    }
+
+    /**
+     * Topic and durable subscriber collection. Each sweep reads them over the same admin
+     * session as the queues, but only the {@code maxTopicsPerServer} topics and
+     * {@code maxDurablesPerServer} durables with the largest backlog of each server are
+     * kept (plus as many of the largest offline ones), so memory stays bounded however
+     * many subscriptions a server has.
+     */
+    public static class Topics {
+        private boolean enabled = true;
+        private int maxTopicsPerServer = 50;
+        private int maxDurablesPerServer = 100;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxTopicsPerServer() {
+            return maxTopicsPerServer;
+        }
+
+        public void setMaxTopicsPerServer(int maxTopicsPerServer) {
+            this.maxTopicsPerServer = maxTopicsPerServer;
+        }
+
+        public int getMaxDurablesPerServer() {
+            return maxDurablesPerServer;
+        }
+
+        public void setMaxDurablesPerServer(int maxDurablesPerServer) {
+            this.maxDurablesPerServer = maxDurablesPerServer;
+        }
+    }
+
+    /**
+     * Case-insensitive "name contains" patterns applied to every server.
+     */
+    public static class Filters {
+        private List<String> inventoryExclude = new ArrayList<>(List.of("FCWEB.CACHE"));
+        private List<String> exclude = new ArrayList<>(List.of("BAM", "FCWEB.CACHE", "ARCHIVE", "TEMP", "ERROR"));
+        private List<String> include = new ArrayList<>();
+
+        public List<String> getInventoryExclude() {
+            return inventoryExclude;
+        }
+
+        public void setInventoryExclude(List<String> inventoryExclude) {
+            this.inventoryExclude = inventoryExclude;
+        }
+
+        public List<String> getExclude() {
+            return exclude;
+        }
+
+        public void setExclude(List<String> exclude) {
+            this.exclude = exclude;
+        }
+
+        public List<String> getInclude() {
+            return include;
+        }
+
+        public void setInclude(List<String> include) {
+            this.include = include;
+        }
+    }
+
+    /**
+     * Smoothing of the per-queue growth rate (EWMA time constant).
+     */
+    public static class Trend {
+        private long smoothingSeconds = 300;
+
+        public long getSmoothingSeconds() {
+            return smoothingSeconds;
+        }
+
+        public void setSmoothingSeconds(long smoothingSeconds) {
+            this.smoothingSeconds = smoothingSeconds;
+        }
+    }
+
+    /**
+     * Retention and memory budget of the in-memory queue-depth and server statistics
+     * history.
+     */
+    public static class History {
+        private long retentionMs = 86400000;
+        private long maxBytes = 268435456;
+        private int blockSize = 32;
+        private int maxServerSamples = 2880;
+
+        public long getRetentionMs() {
+            return retentionMs;
+        }
+
+        public void setRetentionMs(long retentionMs) {
+            this.retentionMs = retentionMs;
+        }
+
+        public long getMaxBytes() {
+            return maxBytes;
+        }
+
+        public void setMaxBytes(long maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        public int getBlockSize() {
+            return blockSize;
+        }
+
+        public void setBlockSize(int blockSize) {
+            this.blockSize = blockSize;
+        }
+
+        public int getMaxServerSamples() {
+            return maxServerSamples;
+        }
+
+        public void setMaxServerSamples(int maxServerSamples) {
+            this.maxServerSamples = maxServerSamples;
+        }
+    }
+
+    /**
+     * When to stop contacting a failing server and how long to back off.
+     */
+    public static class CircuitBreaker {
+        private int failureThreshold = 3;
+        private long initialBackoffMs = 30000;
+        private long maxBackoffMs = 900000;
+
+        public int getFailureThreshold() {
+            return failureThreshold;
+        }
+
+        public void setFailureThreshold(int failureThreshold) {
+            this.failureThreshold = failureThreshold;
+        }
+
+        public long getInitialBackoffMs() {
+            return initialBackoffMs;
+        }
+
+        public void setInitialBackoffMs(long initialBackoffMs) {
+            this.initialBackoffMs = initialBackoffMs;
+        }
+
+        public long getMaxBackoffMs() {
+            return maxBackoffMs;
+        }
+
+        public void setMaxBackoffMs(long maxBackoffMs) {
+            this.maxBackoffMs = maxBackoffMs;
+        }
+    }
+
+    /**
+     * Schedule of the background sweep that refreshes the queue snapshot. Every
+     * {@code pollTickMs} the servers that are due are swept. With {@code adaptive} set a
+     * server's interval moves between {@code minPollIntervalMs} and
+     * {@code maxPollIntervalMs}: it halves from the maximum at {@code volatilityReference}
+     * messages per second of summed queue growth, and drops to the minimum while the
+     * server has a critical queue. Otherwise every server is polled every
+     * {@code refreshIntervalMs}. Intervals get a random {@code jitterRatio} spread.
+     */
+    public static class Collector {
+        private long initialDelayMs = 0;
+        private long refreshIntervalMs = 30000;
+        private long pollTickMs = 5000;
+        private boolean adaptive = true;
+        private long minPollIntervalMs = 10000;
+        private long maxPollIntervalMs = 120000;
+        private double volatilityReference = 10.0;
+        private double jitterRatio = 0.1;
+        private long sweepDeadlineMs = 5000;
+        private long maxStaleMs = 600000;
+        private boolean virtualThreads = true;
+        private int maxConcurrentPerHost = 2;
+        private int deltaHistory = 20;
+
+        public long getInitialDelayMs() {
+            return initialDelayMs;
+        }
+
+        public void setInitialDelayMs(long initialDelayMs) {
+            this.initialDelayMs = initialDelayMs;
+        }
+
+        public long getRefreshIntervalMs() {
+            return refreshIntervalMs;
+        }
+
+        public void setRefreshIntervalMs(long refreshIntervalMs) {
+            this.refreshIntervalMs = refreshIntervalMs;
+        }
+
+        public long getPollTickMs() {
+            return pollTickMs;
+        }
+
+        public void setPollTickMs(long pollTickMs) {
+            this.pollTickMs = pollTickMs;
+        }
+
+        public boolean isAdaptive() {
+            return adaptive;
+        }
+
+        public void setAdaptive(boolean adaptive) {
+            this.adaptive = adaptive;
+        }
+
+        public long getMinPollIntervalMs() {
+            return minPollIntervalMs;
+        }
+
+        public void setMinPollIntervalMs(long minPollIntervalMs) {
+            this.minPollIntervalMs = minPollIntervalMs;
+        }
+
+        public long getMaxPollIntervalMs() {
+            return maxPollIntervalMs;
+        }
+
+        public void setMaxPollIntervalMs(long maxPollIntervalMs) {
+            this.maxPollIntervalMs = maxPollIntervalMs;
+        }
+
+        public double getVolatilityReference() {
+            return volatilityReference;
+        }
+
+        public void setVolatilityReference(double volatilityReference) {
+            this.volatilityReference = volatilityReference;
+        }
+
+        public double getJitterRatio() {
+            return jitterRatio;
+        }
+
+        public void setJitterRatio(double jitterRatio) {
+            this.jitterRatio = jitterRatio;
+        }
+
+        public long getSweepDeadlineMs() {
+            return sweepDeadlineMs;
+        }
+
+        public void setSweepDeadlineMs(long sweepDeadlineMs) {
+            this.sweepDeadlineMs = sweepDeadlineMs;
+        }
+
+        public long getMaxStaleMs() {
+            return maxStaleMs;
+        }
+
+        public void setMaxStaleMs(long maxStaleMs) {
+            this.maxStaleMs = maxStaleMs;
+        }
+
+        public boolean isVirtualThreads() {
+            return virtualThreads;
+        }
+
+        public void setVirtualThreads(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+        }
+
+        public int getMaxConcurrentPerHost() {
+            return maxConcurrentPerHost;
+        }
+
+        public void setMaxConcurrentPerHost(int maxConcurrentPerHost) {
+            this.maxConcurrentPerHost = maxConcurrentPerHost;
+        }
+
+        /**
+         * How many recent snapshot versions are kept to answer delta requests; clients
+         * further behind get the full list.
+         */
+        public int getDeltaHistory() {
+            return deltaHistory;
+        }
+
+        public void setDeltaHistory(int deltaHistory) {
+            this.deltaHistory = deltaHistory;
+        }
+    }
+
+    /**
+     * Settings for the long-lived TibjmsAdmin sessions kept per EMS server.
+     */
+    public static class Pool {
+        private int maxSessionsPerServer = 2;
+        private long borrowTimeoutMs = 2000;
+        private long validationIntervalMs = 60000;
+        private long idleTimeoutMs = 300000;
+        private long evictionIntervalMs = 60000;
+
+        public int getMaxSessionsPerServer() {
+            return maxSessionsPerServer;
+        }
+
+        public void setMaxSessionsPerServer(int maxSessionsPerServer) {
+            this.maxSessionsPerServer = maxSessionsPerServer;
+        }
+
+        public long getBorrowTimeoutMs() {
+            return borrowTimeoutMs;
+        }
+
+        public void setBorrowTimeoutMs(long borrowTimeoutMs) {
+            this.borrowTimeoutMs = borrowTimeoutMs;
+        }
+
+        public long getValidationIntervalMs() {
+            return validationIntervalMs;
+        }
+
+        public void setValidationIntervalMs(long validationIntervalMs) {
+            this.validationIntervalMs = validationIntervalMs;
+        }
+
+        public long getIdleTimeoutMs() {
+            return idleTimeoutMs;
+        }
+
+        public void setIdleTimeoutMs(long idleTimeoutMs) {
+            this.idleTimeoutMs = idleTimeoutMs;
+        }
+
+        public long getEvictionIntervalMs() {
+            return evictionIntervalMs;
+        }
+
+        public void setEvictionIntervalMs(long evictionIntervalMs) {
+            this.evictionIntervalMs = evictionIntervalMs;
+        }
+    }
+
     public static class Server {
         private String name;
         private String host;
@@ -30,6 +810,9 @@ public class TibcoEmsProperties {
         private String username;
         private String password;
         private boolean sslEnabled;
+        private Long pollIntervalMs;
+        private List<String> exclude = new ArrayList<>();
+        private List<String> include = new ArrayList<>();
 
         public String getName() {
             return name;
@@ -79,6 +862,34 @@ public class TibcoEmsProperties {
             this.sslEnabled = sslEnabled;
         }
 
+        /**
+         * Fixed poll interval for this server, overriding the adaptive schedule; null
+         * (the default) leaves it to the collector.
+         */
+        public Long getPollIntervalMs() {
+            return pollIntervalMs;
+        }
+
+        public void setPollIntervalMs(Long pollIntervalMs) {
+            this.pollIntervalMs = pollIntervalMs;
+        }
+
+        public List<String> getExclude() {
+            return exclude;
+        }
+
+        public void setExclude(List<String> exclude) {
+            this.exclude = exclude;
+        }
+
+        public List<String> getInclude() {
+            return include;
+        }
+
+        public void setInclude(List<String> include) {
+            this.include = include;
+        }
+
         public String getConnectionUrl() {
             String protocol = sslEnabled ? "ssl" : "tcp";
             return protocol + "://" + host + ":" + port;
@@ -0,0 +1,87 @@
+package com.integrationhub.dashboard.model;
+
+/**
+ * Backlog of one durable subscription: messages the server holds for the subscriber
+ * whether it is connected or not. Optional statistics are null when the server did
+ * not report them.
+ */
+public class DurableInfo {
+
+    private final String serverName;
+    private final String topicName;
+    private final String durableName;
+    private final long messageCount;
+    private String status;
+    private String clientId;
+    private Long pendingMessageSize;
+    private Boolean connected;
+
+    public DurableInfo(String serverName, String topicName, String durableName, long messageCount) {
+        this.serverName = serverName;
+        this.topicName = topicName;
+        this.durableName = durableName;
+        this.messageCount = messageCount;
+        this.status = QueueInfo.determineStatus(messageCount, QueueInfo.WARNING_THRESHOLD, QueueInfo.CRITICAL_THRESHOLD);
+    }
+
+    public String getServerName() {
+        return serverName;
+    }
+
+    public String getTopicName() {
+        return topicName;
+    }
+
+    public String getDurableName() {
+        return durableName;
+    }
+
+    public long getMessageCount() {
+        return messageCount;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * Reclassifies against the thresholds of the rule that matches the topic name.
+     */
+    public void applyThresholds(long warningThreshold, long criticalThreshold) {
+        this.status = QueueInfo.determineStatus(messageCount, warningThreshold, criticalThreshold);
+    }
+
+    public String getClientId() {
+        return clientId;
+    }
+
+    public void setClientId(String clientId) {
+        this.clientId = clientId;
+    }
+
+    public Long getPendingMessageSize() {
+        return pendingMessageSize;
+    }
+
+    public void setPendingMessageSize(Long pendingMessageSize) {
+        this.pendingMessageSize = pendingMessageSize;
+    }
+
+    /**
+     * Whether a subscriber is currently attached to the durable.
+     */
+    public Boolean getConnected() {
+        return connected;
+    }
+
+    public void setConnected(Boolean connected) {
+        this.connected = connected;
+    }
+
+    /**
+     * Whether messages are piling up for a subscriber that is not connected.
+     */
+    public boolean isOfflineBacklog() {
+        return messageCount > 0 && Boolean.FALSE.equals(connected);
+    }
+}
@@ -0,0 +1,27 @@
+package com.integrationhub.dashboard.model;
+
+/**
+ * Result of probing one EMS server. Latencies are in milliseconds and null for steps
+ * that did not run: {@code connectMs} (plain TCP connect) is only measured on cold
+ * probes, {@code authenticateMs} only when a new admin session had to be opened. On a
+ * cold probe {@code authenticateMs} is the session time minus {@code connectMs}; when a
+ * warm probe has to open a session it also includes that session's own connect.
+ */
+public record EmsServerDiagnostics(String serverName,
+                                   String url,
+                                   String outcome,
+                                   boolean pooledSession,
+                                   Long connectMs,
+                                   Long authenticateMs,
+                                   Long getQueuesMs,
+                                   long totalMs,
+                                   Integer queueCount,
+                                   String failedStep,
+                                   String errorClass,
+                                   String errorMessage) {
+
+    public static final String OK = "OK";
+    public static final String FAILED = "FAILED";
+    /** The probe was still running when the deadline passed. */
+    public static final String TIMEOUT = "TIMEOUT";
+}
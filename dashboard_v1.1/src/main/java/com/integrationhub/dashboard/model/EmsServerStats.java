@@ -0,0 +1,30 @@
+package com.integrationhub.dashboard.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Server-wide EMS statistics read from the admin {@code ServerInfo} in a sweep.
+ * {@code timestamp} is epoch milliseconds; memory and pending sizes are in bytes, rates
+ * in messages per second. Values the admin API did not provide are null.
+ */
+public record EmsServerStats(long timestamp,
+                             Integer connectionCount,
+                             Long messageMemory,
+                             Long maxMessageMemory,
+                             Long inboundMessageRate,
+                             Long outboundMessageRate,
+                             Long pendingMessageCount,
+                             Long pendingMessageSize) {
+
+    /**
+     * Message memory in use as a percentage of the configured maximum, or null when the
+     * server has no limit or did not report one.
+     */
+    @JsonProperty
+    public Double memoryUsagePercent() {
+        if (messageMemory == null || maxMessageMemory == null || maxMessageMemory <= 0) {
+            return null;
+        }
+        return 100.0 * messageMemory / maxMessageMemory;
+    }
+}
@@ -0,0 +1,14 @@
+package com.integrationhub.dashboard.model;
+
+import java.util.List;
+
+/**
+ * Server statistics of one EMS server: connection status, the newest sample (null
+ * before the first successful read) and the samples since the requested time, oldest
+ * first.
+ */
+public record EmsServerStatsHistory(String serverName,
+                                    String status,
+                                    EmsServerStats latest,
+                                    List<EmsServerStats> history) {
+}
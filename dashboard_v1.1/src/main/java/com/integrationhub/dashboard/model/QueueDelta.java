@@ -0,0 +1,70 @@
+package com.integrationhub.dashboard.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Difference in the high-volume queue list between snapshot {@code fromVersion} and
+ * {@code version}. When {@code full} is set the client is too far behind (or has no
+ * version yet) and {@code queues} holds the whole list instead; the other lists are
+ * then empty.
+ */
+public record QueueDelta(long fromVersion,
+                         long version,
+                         boolean full,
+                         List<QueueInfo> added,
+                         List<QueueInfo> changed,
+                         List<QueueKey> removed,
+                         List<QueueInfo> queues) {
+
+    public record QueueKey(String serverName, String queueName) {
+
+        static QueueKey of(QueueInfo queue) {
+            return new QueueKey(queue.getServerName(), queue.getQueueName());
+        }
+    }
+
+    /** Growth rates closer than this (messages per second) are not reported as a change. */
+    private static final double RATE_TOLERANCE = 0.05;
+
+    public static QueueDelta full(long version, List<QueueInfo> queues) {
+        return new QueueDelta(0, version, true, List.of(), List.of(), List.of(), queues);
+    }
+
+    public static QueueDelta between(long fromVersion, List<QueueInfo> from, long version, List<QueueInfo> to) {
+        Map<QueueKey, QueueInfo> previous = new LinkedHashMap<>();
+        for (QueueInfo queue : from) {
+            previous.put(QueueKey.of(queue), queue);
+        }
+
+        List<QueueInfo> added = new ArrayList<>();
+        List<QueueInfo> changed = new ArrayList<>();
+        for (QueueInfo queue : to) {
+            QueueInfo before = previous.remove(QueueKey.of(queue));
+            if (before == null) {
+                added.add(queue);
+            } else if (differs(before, queue)) {
+                changed.add(queue);
+            }
+        }
+        return new QueueDelta(fromVersion, version, false, added, changed,
+                new ArrayList<>(previous.keySet()), List.of());
+    }
+
+    public boolean hasChanges() {
+        return full || !added.isEmpty() || !changed.isEmpty() || !removed.isEmpty();
+    }
+
+    private static boolean differs(QueueInfo before, QueueInfo after) {
+        return before.getMessageCount() != after.getMessageCount()
+                || !Objects.equals(before.getStatus(), after.getStatus())
+                || !Objects.equals(before.getConsumerCount(), after.getConsumerCount())
+                || !Objects.equals(before.getPendingMessageSize(), after.getPendingMessageSize())
+                || Math.abs(before.getRatePerSecond() - after.getRatePerSecond()) >= RATE_TOLERANCE
+                || !Objects.equals(before.getSecondsToWarning(), after.getSecondsToWarning())
+                || !Objects.equals(before.getSecondsToCritical(), after.getSecondsToCritical());
+    }
+}
@@ -0,0 +1,7 @@
+package com.integrationhub.dashboard.model;
+
+/**
+ * One queue-depth sample: epoch milliseconds (second resolution) and pending messages.
+ */
+public record QueueDepthPoint(long timestamp, long messageCount) {
+}
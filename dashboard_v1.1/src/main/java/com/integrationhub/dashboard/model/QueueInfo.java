@@ -1,10 +1,25 @@
 package com.integrationhub.dashboard.model;
 
 public class QueueInfo {
+    /** Defaults until {@link #applyThresholds} sets the ones of the matching rule. */
+    public static final long WARNING_THRESHOLD = 5000;
+    public static final long CRITICAL_THRESHOLD = 10000;
+
     private String serverName;
     private String queueName;
     private long messageCount;
     private String status;
+    private long warningThreshold = WARNING_THRESHOLD;
+    private long criticalThreshold = CRITICAL_THRESHOLD;
+    private double ratePerSecond;
+    private Long secondsToWarning;
+    private Long secondsToCritical;
+    private Integer consumerCount;
+    private Long pendingMessageSize;
+    private Long inboundMessageRate;
+    private Long outboundMessageRate;
+    private Long inboundTotalMessages;
+    private Long outboundTotalMessages;
 
     public QueueInfo(String serverName, String queueName, long messageCount) {
         this.serverName = serverName;
@@ -14,15 +29,40 @@ public class QueueInfo {
     }
 
     private String determineStatus(long count) {
-        if (count > 10000) {
+        return determineStatus(count, WARNING_THRESHOLD, CRITICAL_THRESHOLD);
+    }
+
+    /**
+     * Status of a destination holding {@code count} pending messages; topics and
+     * durables are classified the same way as queues.
+     */
+    public static String determineStatus(long count, long warningThreshold, long criticalThreshold) {
+        if (count > criticalThreshold) {
             return "critical";
-        } else if (count > 5000) {
+        } else if (count > warningThreshold) {
             return "warning";
         } else {
             return "ok";
         }
     }
 
+    /**
+     * Reclassifies the queue against the thresholds of the rule that matches it.
+     */
+    public void applyThresholds(long warningThreshold, long criticalThreshold) {
+        this.warningThreshold = warningThreshold;
+        this.criticalThreshold = criticalThreshold;
+        this.status = determineStatus(messageCount, warningThreshold, criticalThreshold);
+    }
+
+    public long getWarningThreshold() {
+        return warningThreshold;
+    }
+
+    public long getCriticalThreshold() {
+        return criticalThreshold;
+    }
+
     public String getServerName() {
         return serverName;
     }
@@ -39,6 +79,112 @@ public class QueueInfo {
         return status;
     }
 
+    /**
+     * Smoothed growth in messages per second; negative while the queue drains.
+     */
+    public double getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    /**
+     * Estimated seconds until the warning threshold is crossed, or null if the queue
+     * is already past it or not growing.
+     */
+    public Long getSecondsToWarning() {
+        return secondsToWarning;
+    }
+
+    /**
+     * Estimated seconds until the critical threshold is crossed, or null if the queue
+     * is already past it or not growing.
+     */
+    public Long getSecondsToCritical() {
+        return secondsToCritical;
+    }
+
+    /**
+     * Receivers attached to the queue; null when the EMS server did not report it
+     * (mock data, or an admin API without the call).
+     */
+    public Integer getConsumerCount() {
+        return consumerCount;
+    }
+
+    public void setConsumerCount(Integer consumerCount) {
+        this.consumerCount = consumerCount;
+    }
+
+    /**
+     * Total size of the pending messages in bytes, or null when not reported.
+     */
+    public Long getPendingMessageSize() {
+        return pendingMessageSize;
+    }
+
+    public void setPendingMessageSize(Long pendingMessageSize) {
+        this.pendingMessageSize = pendingMessageSize;
+    }
+
+    /**
+     * Messages per second received by the queue, from the server's inbound statistics;
+     * null when statistics are disabled on the server.
+     */
+    public Long getInboundMessageRate() {
+        return inboundMessageRate;
+    }
+
+    public void setInboundMessageRate(Long inboundMessageRate) {
+        this.inboundMessageRate = inboundMessageRate;
+    }
+
+    /**
+     * Messages per second delivered to consumers, from the server's outbound statistics;
+     * null when statistics are disabled on the server.
+     */
+    public Long getOutboundMessageRate() {
+        return outboundMessageRate;
+    }
+
+    public void setOutboundMessageRate(Long outboundMessageRate) {
+        this.outboundMessageRate = outboundMessageRate;
+    }
+
+    public Long getInboundTotalMessages() {
+        return inboundTotalMessages;
+    }
+
+    public void setInboundTotalMessages(Long inboundTotalMessages) {
+        this.inboundTotalMessages = inboundTotalMessages;
+    }
+
+    public Long getOutboundTotalMessages() {
+        return outboundTotalMessages;
+    }
+
+    public void setOutboundTotalMessages(Long outboundTotalMessages) {
+        this.outboundTotalMessages = outboundTotalMessages;
+    }
+
+    /**
+     * Whether messages are waiting with nobody to receive them.
+     */
+    public boolean isUnconsumedBacklog() {
+        return messageCount > 0 && consumerCount != null && consumerCount == 0;
+    }
+
+    public void setTrend(double ratePerSecond) {
+        this.ratePerSecond = ratePerSecond;
+        this.secondsToWarning = secondsUntil(warningThreshold, ratePerSecond);
+        this.secondsToCritical = secondsUntil(criticalThreshold, ratePerSecond);
+    }
+
+    private Long secondsUntil(long threshold, double rate) {
+        if (rate <= 0 || messageCount > threshold) {
+            return null;
+        }
+        return (long) Math.ceil((threshold - messageCount) / rate);
+    }
+
     public String getStatusIcon() {
         return switch (status) {
             case "critical" -> "🔴";
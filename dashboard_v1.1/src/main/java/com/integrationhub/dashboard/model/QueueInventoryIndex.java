@@ -0,0 +1,224 @@
+package com.integrationhub.dashboard.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * Search and paging index over one server inventory, built once per snapshot.
+ * Queues are kept in two orders, by name and by message count, with their
+ * upper-cased names precomputed so a search never allocates per queue. The orders
+ * by pending bytes and by unconsumed backlog are built on first use.
+ *
+ * <p>Cursors are keyset cursors: they carry the sort key of the last queue
+ * returned, not an offset, so paging stays consistent across snapshots.
+ */
+public final class QueueInventoryIndex {
+
+    public static final String SORT_NAME = "name";
+    public static final String SORT_COUNT = "count";
+    public static final String SORT_COUNT_ASC = "countAsc";
+    public static final String SORT_BYTES = "bytes";
+    public static final String SORT_NO_CONSUMERS = "noConsumers";
+
+    public static final String MATCH_PREFIX = "prefix";
+    public static final String MATCH_CONTAINS = "contains";
+
+    public static final QueueInventoryIndex EMPTY = new QueueInventoryIndex(List.of());
+
+    /** {@code key} is the value of the order the entry belongs to, largest first. */
+    private record Entry(QueueInfo queue, String name, String upperName, long key) {
+    }
+
+    private static final Comparator<Entry> BY_NAME = Comparator.comparing(Entry::upperName)
+            .thenComparing(Entry::name);
+    private static final Comparator<Entry> BY_KEY = Comparator.comparingLong(Entry::key).reversed()
+            .thenComparing(BY_NAME);
+
+    private final Entry[] byName;
+    private final Entry[] byCount;
+    private volatile Entry[] byBytes;
+    private volatile Entry[] byBacklog;
+
+    public QueueInventoryIndex(List<QueueInfo> queues) {
+        Entry[] entries = new Entry[queues.size()];
+        for (int i = 0; i < entries.length; i++) {
+            QueueInfo queue = queues.get(i);
+            String name = queue.getQueueName() == null ? "" : queue.getQueueName();
+            entries[i] = new Entry(queue, name, name.toUpperCase(Locale.ROOT), queue.getMessageCount());
+        }
+        this.byName = entries.clone();
+        Arrays.sort(byName, BY_NAME);
+        this.byCount = entries;
+        Arrays.sort(byCount, BY_KEY);
+    }
+
+    public int size() {
+        return byName.length;
+    }
+
+    /**
+     * Returns up to {@code limit} queues after {@code cursor}, in the given sort order
+     * ({@link #SORT_COUNT} for largest first, unknown values included), keeping only
+     * names that start with or contain {@code query}, ignoring case.
+     * {@link #SORT_BYTES} puts the most pending bytes first, {@link #SORT_NO_CONSUMERS}
+     * the largest backlogs without consumers, followed by all other queues by count.
+     */
+    public QueueInventoryPage page(String serverName, long version, String query, String match,
+                                   String sort, String cursor, int limit) {
+        limit = Math.max(1, limit);
+        String needle = query == null ? "" : query.trim().toUpperCase(Locale.ROOT);
+        boolean prefix = MATCH_PREFIX.equalsIgnoreCase(match);
+        Entry after = decodeCursor(cursor);
+
+        if (SORT_NAME.equals(sort)) {
+            int from = 0;
+            int to = byName.length;
+            if (prefix && !needle.isEmpty()) {
+                // Names sharing a prefix are contiguous in name order
+                from = firstIndex(byName, e -> e.upperName().compareTo(needle) >= 0);
+                to = firstIndex(byName, e -> e.upperName().compareTo(needle) >= 0 && !e.upperName().startsWith(needle));
+            }
+            int total = prefix || needle.isEmpty() ? to - from : count(byName, needle, false);
+            int start = after == null ? from : Math.max(from, firstIndex(byName, e -> BY_NAME.compare(e, after) > 0));
+            return collect(serverName, version, total, byName, start, to, 1, needle, prefix, limit);
+        }
+
+        int total = needle.isEmpty() ? byCount.length : count(byCount, needle, prefix);
+        if (SORT_COUNT_ASC.equals(sort)) {
+            // Count order walked backwards: smallest first, ties in reverse name order
+            int start = after == null
+                    ? byCount.length - 1
+                    : firstIndex(byCount, e -> BY_KEY.compare(e, after) >= 0) - 1;
+            return collect(serverName, version, total, byCount, start, -1, -1, needle, prefix, limit);
+        }
+        Entry[] ordered = keyOrder(sort);
+        int start = after == null ? 0 : firstIndex(ordered, e -> BY_KEY.compare(e, after) > 0);
+        return collect(serverName, version, total, ordered, start, ordered.length, 1, needle, prefix, limit);
+    }
+
+    private Entry[] keyOrder(String sort) {
+        if (SORT_BYTES.equals(sort)) {
+            Entry[] ordered = byBytes;
+            if (ordered == null) {
+                byBytes = ordered = orderBy(QueueInventoryIndex::bytesKey);
+            }
+            return ordered;
+        }
+        if (SORT_NO_CONSUMERS.equals(sort)) {
+            Entry[] ordered = byBacklog;
+            if (ordered == null) {
+                byBacklog = ordered = orderBy(QueueInventoryIndex::backlogKey);
+            }
+            return ordered;
+        }
+        return byCount;
+    }
+
+    // Racing first requests may both build the order; either result is the same
+    private Entry[] orderBy(ToLongFunction<QueueInfo> key) {
+        Entry[] entries = new Entry[byCount.length];
+        for (int i = 0; i < entries.length; i++) {
+            Entry entry = byCount[i];
+            entries[i] = new Entry(entry.queue(), entry.name(), entry.upperName(), key.applyAsLong(entry.queue()));
+        }
+        Arrays.sort(entries, BY_KEY);
+        return entries;
+    }
+
+    /** Pending bytes; queues that did not report a size come last. */
+    private static long bytesKey(QueueInfo queue) {
+        return queue.getPendingMessageSize() == null ? -1 : queue.getPendingMessageSize();
+    }
+
+    /**
+     * Message count for a backlog without consumers; every other queue is shifted below
+     * all of those, keeping its count order.
+     */
+    private static long backlogKey(QueueInfo queue) {
+        return queue.isUnconsumedBacklog() ? queue.getMessageCount() : queue.getMessageCount() - Long.MAX_VALUE;
+    }
+
+    private QueueInventoryPage collect(String serverName, long version, int total, Entry[] entries,
+                                       int start, int end, int step,
+                                       String needle, boolean prefix, int limit) {
+        List<QueueInfo> page = new ArrayList<>(Math.min(limit, Math.max(0, total)));
+        Entry last = null;
+        String nextCursor = null;
+        for (int i = start; i != end; i += step) {
+            Entry entry = entries[i];
+            if (!matches(entry, needle, prefix)) {
+                continue;
+            }
+            if (page.size() == limit) {
+                nextCursor = encodeCursor(last);
+                break;
+            }
+            page.add(entry.queue());
+            last = entry;
+        }
+        return new QueueInventoryPage(serverName, version, total, page, nextCursor);
+    }
+
+    private static boolean matches(Entry entry, String needle, boolean prefix) {
+        if (needle.isEmpty()) {
+            return true;
+        }
+        return prefix ? entry.upperName().startsWith(needle) : entry.upperName().contains(needle);
+    }
+
+    private static int count(Entry[] entries, String needle, boolean prefix) {
+        int count = 0;
+        for (Entry entry : entries) {
+            if (matches(entry, needle, prefix)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * First index whose entry satisfies a predicate that is false up to some point in
+     * the array and true from there on; the array length if it never holds.
+     */
+    private static int firstIndex(Entry[] entries, Predicate<Entry> predicate) {
+        int low = 0;
+        int high = entries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (predicate.test(entries[mid])) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private static String encodeCursor(Entry entry) {
+        String key = entry.key() + ":" + entry.name();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Entry decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = key.indexOf(':');
+            long sortKey = Long.parseLong(key.substring(0, separator));
+            String name = key.substring(separator + 1);
+            return new Entry(null, name, name.toUpperCase(Locale.ROOT), sortKey);
+        } catch (RuntimeException e) {
+            // A malformed cursor restarts from the first page
+            return null;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.integrationhub.dashboard.model;
+
+import java.util.List;
+
+/**
+ * One page of a server's queue inventory. {@code total} counts every queue that
+ * matches the search, {@code nextCursor} is null on the last page.
+ */
+public record QueueInventoryPage(String serverName,
+                                 long version,
+                                 int total,
+                                 List<QueueInfo> queues,
+                                 String nextCursor) {
+}
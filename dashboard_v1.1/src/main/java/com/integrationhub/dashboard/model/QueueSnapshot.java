@@ -0,0 +1,145 @@
+package com.integrationhub.dashboard.model;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable result of one EMS collection sweep. A new instance replaces the
+ * previous one as a whole, so readers never see a partially refreshed view.
+ */
+public final class QueueSnapshot {
+
+    /** Server inventory came from the sweep that produced this snapshot. */
+    public static final String FRESH = "FRESH";
+    /** Server missed its latest poll; its inventory is carried over from an earlier one. */
+    public static final String STALE = "STALE";
+    /** No usable inventory for the server. */
+    public static final String MISSING = "MISSING";
+
+    public static final QueueSnapshot EMPTY = new QueueSnapshot(0, 0, List.of(), Map.of(), Map.of(), Map.of());
+
+    private final long version;
+    private final long collectedAt;
+    private final List<QueueInfo> highVolumeQueues;
+    private final Map<String, List<QueueInfo>> queuesByServer;
+    private final Map<String, String> serverStatus;
+    private final Map<String, Long> serverCollectedAt;
+    private final Map<String, QueueInventoryIndex> inventoryIndexes;
+    private final Set<String> staleServers;
+    private final Map<String, TopicBacklog> topicBacklogs;
+
+    /**
+     * Snapshot of one sweep over every server: servers whose inventory is older than
+     * the sweep are stale.
+     */
+    public QueueSnapshot(long version,
+                         long collectedAt,
+                         List<QueueInfo> highVolumeQueues,
+                         Map<String, List<QueueInfo>> queuesByServer,
+                         Map<String, String> serverStatus,
+                         Map<String, Long> serverCollectedAt) {
+        this(version, collectedAt, highVolumeQueues, queuesByServer, serverStatus, serverCollectedAt,
+                serverCollectedAt.entrySet().stream()
+                        .filter(entry -> entry.getValue() != collectedAt)
+                        .map(Map.Entry::getKey)
+                        .collect(Collectors.toSet()),
+                Map.of(), null);
+    }
+
+    /**
+     * Snapshot where servers are polled on their own schedules, so an inventory older
+     * than the snapshot is only stale when listed in {@code staleServers}, carrying the
+     * topic and durable backlog of each server. An inventory taken over unchanged from
+     * {@code previous} (the same list instance) keeps that snapshot's index instead of
+     * being indexed again; {@code previous} may be null.
+     */
+    public QueueSnapshot(long version,
+                         long collectedAt,
+                         List<QueueInfo> highVolumeQueues,
+                         Map<String, List<QueueInfo>> queuesByServer,
+                         Map<String, String> serverStatus,
+                         Map<String, Long> serverCollectedAt,
+                         Set<String> staleServers,
+                         Map<String, TopicBacklog> topicBacklogs,
+                         QueueSnapshot previous) {
+        this.version = version;
+        this.collectedAt = collectedAt;
+        this.highVolumeQueues = List.copyOf(highVolumeQueues);
+        Map<String, List<QueueInfo>> servers = new LinkedHashMap<>();
+        Map<String, QueueInventoryIndex> indexes = new LinkedHashMap<>();
+        queuesByServer.forEach((name, queues) -> {
+            // List.copyOf returns an unmodifiable list as it is, so a carried-over
+            // inventory is still the previous snapshot's instance here
+            List<QueueInfo> inventory = List.copyOf(queues);
+            servers.put(name, inventory);
+            QueueInventoryIndex index = previous != null && previous.queuesByServer.get(name) == inventory
+                    ? previous.inventoryIndexes.get(name)
+                    : null;
+            indexes.put(name, index != null ? index : new QueueInventoryIndex(inventory));
+        });
+        this.queuesByServer = Collections.unmodifiableMap(servers);
+        this.inventoryIndexes = Collections.unmodifiableMap(indexes);
+        this.serverStatus = Collections.unmodifiableMap(new LinkedHashMap<>(serverStatus));
+        this.serverCollectedAt = Collections.unmodifiableMap(new LinkedHashMap<>(serverCollectedAt));
+        this.staleServers = Set.copyOf(staleServers);
+        this.topicBacklogs = Collections.unmodifiableMap(new LinkedHashMap<>(topicBacklogs));
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public long getCollectedAt() {
+        return collectedAt;
+    }
+
+    public List<QueueInfo> getHighVolumeQueues() {
+        return highVolumeQueues;
+    }
+
+    public Map<String, List<QueueInfo>> getQueuesByServer() {
+        return queuesByServer;
+    }
+
+    public List<QueueInfo> getQueuesForServer(String serverName) {
+        return queuesByServer.getOrDefault(serverName, List.of());
+    }
+
+    /**
+     * Search and paging index over the server inventory held in this snapshot.
+     */
+    public QueueInventoryIndex getInventoryIndex(String serverName) {
+        return inventoryIndexes.getOrDefault(serverName, QueueInventoryIndex.EMPTY);
+    }
+
+    public Map<String, TopicBacklog> getTopicBacklogs() {
+        return topicBacklogs;
+    }
+
+    public TopicBacklog getTopicBacklog(String serverName) {
+        return topicBacklogs.getOrDefault(serverName, TopicBacklog.EMPTY);
+    }
+
+    public Map<String, String> getServerStatus() {
+        return serverStatus;
+    }
+
+    /**
+     * When the inventory held for the server was collected, or null if there is none.
+     */
+    public Long getServerCollectedAt(String serverName) {
+        return serverCollectedAt.get(serverName);
+    }
+
+    public String getServerFreshness(String serverName) {
+        Long serverTime = serverCollectedAt.get(serverName);
+        if (serverTime == null) {
+            return MISSING;
+        }
+        return staleServers.contains(serverName) ? STALE : FRESH;
+    }
+}
@@ -0,0 +1,20 @@
+package com.integrationhub.dashboard.model;
+
+import java.util.List;
+
+/**
+ * Topic and durable backlog of one server: the largest topics and durables, sorted by
+ * message count descending, and how many of each the server had in total.
+ */
+public record TopicBacklog(List<TopicInfo> topics,
+                           List<DurableInfo> durables,
+                           int topicCount,
+                           int durableCount) {
+
+    public static final TopicBacklog EMPTY = new TopicBacklog(List.of(), List.of(), 0, 0);
+
+    public TopicBacklog {
+        topics = List.copyOf(topics);
+        durables = List.copyOf(durables);
+    }
+}
@@ -0,0 +1,73 @@
+package com.integrationhub.dashboard.model;
+
+/**
+ * Backlog of one topic on an EMS server: messages pending for any of its subscribers.
+ * Optional statistics are null when the server did not report them.
+ */
+public class TopicInfo {
+
+    private final String serverName;
+    private final String topicName;
+    private final long messageCount;
+    private String status;
+    private Long pendingMessageSize;
+    private Integer subscriberCount;
+    private Integer durableCount;
+
+    public TopicInfo(String serverName, String topicName, long messageCount) {
+        this.serverName = serverName;
+        this.topicName = topicName;
+        this.messageCount = messageCount;
+        this.status = QueueInfo.determineStatus(messageCount, QueueInfo.WARNING_THRESHOLD, QueueInfo.CRITICAL_THRESHOLD);
+    }
+
+    public String getServerName() {
+        return serverName;
+    }
+
+    public String getTopicName() {
+        return topicName;
+    }
+
+    public long getMessageCount() {
+        return messageCount;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * Reclassifies against the thresholds of the rule that matches the topic name.
+     */
+    public void applyThresholds(long warningThreshold, long criticalThreshold) {
+        this.status = QueueInfo.determineStatus(messageCount, warningThreshold, criticalThreshold);
+    }
+
+    public Long getPendingMessageSize() {
+        return pendingMessageSize;
+    }
+
+    public void setPendingMessageSize(Long pendingMessageSize) {
+        this.pendingMessageSize = pendingMessageSize;
+    }
+
+    /**
+     * Subscribers attached to the topic, durable or not.
+     */
+    public Integer getSubscriberCount() {
+        return subscriberCount;
+    }
+
+    public void setSubscriberCount(Integer subscriberCount) {
+        this.subscriberCount = subscriberCount;
+    }
+
+    public Integer getDurableCount() {
+        return durableCount;
+    }
+
+    public void setDurableCount(Integer durableCount) {
+        this.durableCount = durableCount;
+    }
+}
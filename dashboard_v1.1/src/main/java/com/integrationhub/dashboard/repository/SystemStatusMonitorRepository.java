@@ -2,6 +2,7 @@ package com.integrationhub.dashboard.repository;
 
 import com.integrationhub.dashboard.model.SystemStatusMonitor;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -27,4 +28,14 @@ public interface SystemStatusMonitorRepository extends JpaRepository<SystemStatu
     
     // Find by system type
     List<SystemStatusMonitor> findBySsmSystemType(String ssmSystemType);
+    
+    // Cheap change marker: row count, highest id and latest status and creation times. Inserts
+    // and deletes move the count or the id, status changes move ssm_system_date_time. The table
+    // has no rowversion column, so an edit that leaves both timestamps alone goes unnoticed.
+    @Query(value = "SELECT CONCAT(COUNT_BIG(*), '-', MAX(ssm_suid),"
+            + " '-', CONVERT(VARCHAR(27), MAX(ssm_system_date_time), 126),"
+            + " '-', CONVERT(VARCHAR(27), MAX(ssm_created_date), 126))"
+            + " FROM dbo.system_status_monitoring",
+            nativeQuery = true)
+    String findDataVersion();
 }
@@ -0,0 +1,60 @@
+package com.integrationhub.dashboard.service;
+
+import com.integrationhub.dashboard.model.DurableInfo;
+import com.integrationhub.dashboard.model.EmsServerStats;
+import com.integrationhub.dashboard.model.QueueInfo;
+import com.integrationhub.dashboard.model.TopicInfo;
+
+/**
+ * The part of the TIBCO EMS admin API the dashboard uses. Admin sessions and queue
+ * infos are opaque objects owned by the backend, so the rest of the code never needs
+ * tibjms.jar on the compile path. Selected with {@code tibco.ems.backend}:
+ * {@code tibjms} (default, {@link EmsAdminBinding}) or {@code simulator}
+ * ({@link EmsAdminSimulator}).
+ */
+public interface EmsAdminBackend {
+
+    boolean isAvailable();
+
+    /** Opens an authenticated admin session. */
+    Object connect(String url, String username, String password) throws Exception;
+
+    /** Queue infos of every queue on the server behind the session. */
+    Object[] getQueues(Object admin) throws Exception;
+
+    /** Topic infos of every topic on the server behind the session. */
+    Object[] getTopics(Object admin) throws Exception;
+
+    /** Durable infos of every durable subscription on the server behind the session. */
+    Object[] getDurables(Object admin) throws Exception;
+
+    /** Server info; cheap enough to use as a liveness probe for pooled sessions. */
+    Object getInfo(Object admin) throws Exception;
+
+    void close(Object admin) throws Exception;
+
+    String queueName(Object queueInfo);
+
+    long pendingMessageCount(Object queueInfo);
+
+    /**
+     * Copies consumer count, pending bytes and inbound/outbound statistics from a queue
+     * info onto {@code target}. Values the backend cannot provide are left unset.
+     */
+    void readQueueStatistics(Object queueInfo, QueueInfo target);
+
+    /** Name, backlog and subscriber counts of a topic info. */
+    TopicInfo readTopic(String serverName, Object topicInfo);
+
+    /** Names, backlog and connection state of a durable info. */
+    DurableInfo readDurable(String serverName, Object durableInfo);
+
+    /**
+     * Connection count, message memory, rates and pending totals from a server info as
+     * returned by {@link #getInfo}, stamped with {@code timestamp}.
+     */
+    EmsServerStats readServerStatistics(Object serverInfo, long timestamp);
+
+    /** Turns a configured password into the one to connect with. */
+    String decodePassword(String password);
+}
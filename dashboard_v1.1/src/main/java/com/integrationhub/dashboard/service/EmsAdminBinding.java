@@ -0,0 +1,471 @@
+package com.integrationhub.dashboard.service;
+
+import com.integrationhub.dashboard.model.DurableInfo;
+import com.integrationhub.dashboard.model.EmsServerStats;
+import com.integrationhub.dashboard.model.QueueInfo;
+import com.integrationhub.dashboard.model.TopicInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Binds the TIBCO EMS admin API without a compile-time dependency on tibjms.jar.
+ * The classes are looked up once and their methods cached as {@link MethodHandle}s
+ * adapted to {@code Object} receivers, so reading a queue in a sweep is a direct
+ * call with no per-queue reflective lookup or boxing of the pending count. The queue
+ * and ServerInfo statistics calls (consumers, pending size, rates, memory) are bound
+ * when present and skipped otherwise; so are the topic and durable calls, which return
+ * nothing when the API lacks them.
+ */
+@Component
+@ConditionalOnProperty(prefix = "tibco.ems", name = "backend", havingValue = "tibjms", matchIfMissing = true)
+public class EmsAdminBinding implements EmsAdminBackend {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmsAdminBinding.class);
+
+    static final String ADMIN_CLASS = "com.tibco.tibjms.admin.TibjmsAdmin";
+    static final String QUEUE_INFO_CLASS = "com.tibco.tibjms.admin.QueueInfo";
+    static final String OBFUSCATE_CLASS = "com.tibco.tibjms.TibjmsObfuscate";
+
+    private final boolean available;
+    private final MethodHandle newAdmin;
+    private final MethodHandle getQueues;
+    private final MethodHandle getInfo;
+    private final MethodHandle close;
+    private final MethodHandle queueName;
+    private final MethodHandle pendingMessageCount;
+    private final QueueStatisticsHandles statistics;
+    private final ServerStatisticsHandles serverStatistics;
+    private final TopicHandles topics;
+
+    /** Optional QueueInfo statistics calls; individual handles are null when missing. */
+    private record QueueStatisticsHandles(MethodHandle consumerCount,
+                                          MethodHandle pendingMessageSize,
+                                          MethodHandle inboundStatistics,
+                                          MethodHandle outboundStatistics,
+                                          MethodHandle totalMessages,
+                                          MethodHandle messageRate) {
+
+        static final QueueStatisticsHandles NONE = new QueueStatisticsHandles(null, null, null, null, null, null);
+    }
+
+    /** Optional ServerInfo statistics calls; individual handles are null when missing. */
+    private record ServerStatisticsHandles(MethodHandle connectionCount,
+                                           MethodHandle messageMemory,
+                                           MethodHandle maxMessageMemory,
+                                           MethodHandle inboundMessageRate,
+                                           MethodHandle outboundMessageRate,
+                                           MethodHandle pendingMessageCount,
+                                           MethodHandle pendingMessageSize) {
+
+        static final ServerStatisticsHandles NONE = new ServerStatisticsHandles(null, null, null, null, null, null, null);
+    }
+
+    /**
+     * getTopics()/getDurables() and the TopicInfo/DurableInfo getters. {@code getTopics}
+     * or {@code getDurables} is null when that part is unavailable; the remaining
+     * optional getters are null when missing.
+     */
+    private record TopicHandles(MethodHandle getTopics,
+                                MethodHandle topicName,
+                                MethodHandle topicPendingCount,
+                                MethodHandle topicPendingSize,
+                                MethodHandle topicSubscriberCount,
+                                MethodHandle topicDurableCount,
+                                MethodHandle getDurables,
+                                MethodHandle durableName,
+                                MethodHandle durableTopicName,
+                                MethodHandle durablePendingCount,
+                                MethodHandle durablePendingSize,
+                                MethodHandle durableClientId,
+                                MethodHandle durableConnected) {
+
+        static final TopicHandles NONE = new TopicHandles(null, null, null, null, null, null,
+                null, null, null, null, null, null, null);
+    }
+
+    public EmsAdminBinding() {
+        this(ADMIN_CLASS, QUEUE_INFO_CLASS);
+    }
+
+    EmsAdminBinding(String adminClassName, String queueInfoClassName) {
+        MethodHandle newAdminHandle = null;
+        MethodHandle getQueuesHandle = null;
+        MethodHandle getInfoHandle = null;
+        MethodHandle closeHandle = null;
+        MethodHandle queueNameHandle = null;
+        MethodHandle pendingCountHandle = null;
+        QueueStatisticsHandles statisticsHandles = QueueStatisticsHandles.NONE;
+        ServerStatisticsHandles serverStatisticsHandles = ServerStatisticsHandles.NONE;
+        TopicHandles topicHandles = TopicHandles.NONE;
+        boolean bound = false;
+
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> adminClass = Class.forName(adminClassName);
+            Class<?> queueInfoClass = Class.forName(queueInfoClassName);
+
+            newAdminHandle = lookup.findConstructor(adminClass,
+                            MethodType.methodType(void.class, String.class, String.class, String.class))
+                    .asType(MethodType.methodType(Object.class, String.class, String.class, String.class));
+            getQueuesHandle = lookup.findVirtual(adminClass, "getQueues",
+                            MethodType.methodType(queueInfoClass.arrayType()))
+                    .asType(MethodType.methodType(Object[].class, Object.class));
+            getInfoHandle = bindNoArg(lookup, adminClass, "getInfo");
+            closeHandle = lookup.findVirtual(adminClass, "close", MethodType.methodType(void.class))
+                    .asType(MethodType.methodType(void.class, Object.class));
+            queueNameHandle = lookup.findVirtual(queueInfoClass, "getName", MethodType.methodType(String.class))
+                    .asType(MethodType.methodType(String.class, Object.class));
+            pendingCountHandle = lookup.findVirtual(queueInfoClass, "getPendingMessageCount",
+                            MethodType.methodType(long.class))
+                    .asType(MethodType.methodType(long.class, Object.class));
+            statisticsHandles = bindStatistics(lookup, queueInfoClass);
+            // ServerInfo is only reached through getInfo's return type
+            serverStatisticsHandles = bindServerStatistics(lookup, adminClass.getMethod("getInfo").getReturnType());
+            topicHandles = bindTopics(lookup, adminClass);
+            bound = true;
+        } catch (ClassNotFoundException e) {
+            logger.warn("TIBCO EMS library not found. Please add tibjms.jar to the lib/ directory.");
+        } catch (ReflectiveOperationException e) {
+            logger.error("TIBCO EMS admin API does not match the expected signatures: {}", e.getMessage());
+        }
+
+        this.available = bound;
+        this.newAdmin = newAdminHandle;
+        this.getQueues = getQueuesHandle;
+        this.getInfo = getInfoHandle;
+        this.close = closeHandle;
+        this.queueName = queueNameHandle;
+        this.pendingMessageCount = pendingCountHandle;
+        this.statistics = statisticsHandles;
+        this.serverStatistics = serverStatisticsHandles;
+        this.topics = topicHandles;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /** new TibjmsAdmin(url, username, password) */
+    @Override
+    public Object connect(String url, String username, String password) throws Exception {
+        try {
+            return (Object) newAdmin.invokeExact(url, username, password);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /** admin.getQueues() */
+    @Override
+    public Object[] getQueues(Object admin) throws Exception {
+        try {
+            return (Object[]) getQueues.invokeExact(admin);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /** admin.getTopics(), or nothing when the API has no topic calls */
+    @Override
+    public Object[] getTopics(Object admin) throws Exception {
+        if (topics.getTopics() == null) {
+            return new Object[0];
+        }
+        try {
+            return (Object[]) topics.getTopics().invokeExact(admin);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /** admin.getDurables(), or nothing when the API has no durable calls */
+    @Override
+    public Object[] getDurables(Object admin) throws Exception {
+        if (topics.getDurables() == null) {
+            return new Object[0];
+        }
+        try {
+            return (Object[]) topics.getDurables().invokeExact(admin);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /** admin.getInfo(), used as a cheap liveness probe for pooled sessions */
+    @Override
+    public Object getInfo(Object admin) throws Exception {
+        try {
+            return (Object) getInfo.invokeExact(admin);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /** admin.close() */
+    @Override
+    public void close(Object admin) throws Exception {
+        try {
+            close.invokeExact(admin);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /** queueInfo.getName() */
+    @Override
+    public String queueName(Object queueInfo) {
+        try {
+            return (String) queueName.invokeExact(queueInfo);
+        } catch (Throwable t) {
+            throw new IllegalStateException("QueueInfo.getName failed", t);
+        }
+    }
+
+    /** queueInfo.getPendingMessageCount() */
+    @Override
+    public long pendingMessageCount(Object queueInfo) {
+        try {
+            return (long) pendingMessageCount.invokeExact(queueInfo);
+        } catch (Throwable t) {
+            throw new IllegalStateException("QueueInfo.getPendingMessageCount failed", t);
+        }
+    }
+
+    /**
+     * queueInfo.getConsumerCount(), getPendingMessageSize() and the message rate and
+     * total of getInboundStatistics() / getOutboundStatistics(), read from the QueueInfo
+     * that getQueues() already returned, so no extra round trip to the server.
+     */
+    @Override
+    public void readQueueStatistics(Object queueInfo, QueueInfo target) {
+        try {
+            if (statistics.consumerCount() != null) {
+                target.setConsumerCount((int) statistics.consumerCount().invokeExact(queueInfo));
+            }
+            if (statistics.pendingMessageSize() != null) {
+                target.setPendingMessageSize((long) statistics.pendingMessageSize().invokeExact(queueInfo));
+            }
+            if (statistics.inboundStatistics() != null) {
+                Object inbound = (Object) statistics.inboundStatistics().invokeExact(queueInfo);
+                if (inbound != null) {
+                    target.setInboundMessageRate((long) statistics.messageRate().invokeExact(inbound));
+                    target.setInboundTotalMessages((long) statistics.totalMessages().invokeExact(inbound));
+                }
+                Object outbound = (Object) statistics.outboundStatistics().invokeExact(queueInfo);
+                if (outbound != null) {
+                    target.setOutboundMessageRate((long) statistics.messageRate().invokeExact(outbound));
+                    target.setOutboundTotalMessages((long) statistics.totalMessages().invokeExact(outbound));
+                }
+            }
+        } catch (Throwable t) {
+            throw new IllegalStateException("QueueInfo statistics failed", t);
+        }
+    }
+
+    /** topicInfo.getName(), getPendingMessageCount() and the optional counters */
+    @Override
+    public TopicInfo readTopic(String serverName, Object topicInfo) {
+        try {
+            TopicInfo topic = new TopicInfo(serverName,
+                    (String) topics.topicName().invokeExact(topicInfo),
+                    (long) topics.topicPendingCount().invokeExact(topicInfo));
+            topic.setPendingMessageSize(readLong(topics.topicPendingSize(), topicInfo));
+            if (topics.topicSubscriberCount() != null) {
+                topic.setSubscriberCount((int) topics.topicSubscriberCount().invokeExact(topicInfo));
+            }
+            if (topics.topicDurableCount() != null) {
+                topic.setDurableCount((int) topics.topicDurableCount().invokeExact(topicInfo));
+            }
+            return topic;
+        } catch (Throwable t) {
+            throw new IllegalStateException("TopicInfo read failed", t);
+        }
+    }
+
+    /** durableInfo.getDurableName(), getTopicName(), getPendingMessageCount() and the optional fields */
+    @Override
+    public DurableInfo readDurable(String serverName, Object durableInfo) {
+        try {
+            DurableInfo durable = new DurableInfo(serverName,
+                    (String) topics.durableTopicName().invokeExact(durableInfo),
+                    (String) topics.durableName().invokeExact(durableInfo),
+                    (long) topics.durablePendingCount().invokeExact(durableInfo));
+            durable.setPendingMessageSize(readLong(topics.durablePendingSize(), durableInfo));
+            if (topics.durableClientId() != null) {
+                durable.setClientId((String) topics.durableClientId().invokeExact(durableInfo));
+            }
+            if (topics.durableConnected() != null) {
+                durable.setConnected((boolean) topics.durableConnected().invokeExact(durableInfo));
+            }
+            return durable;
+        } catch (Throwable t) {
+            throw new IllegalStateException("DurableInfo read failed", t);
+        }
+    }
+
+    @Override
+    public EmsServerStats readServerStatistics(Object serverInfo, long timestamp) {
+        try {
+            return new EmsServerStats(timestamp,
+                    serverStatistics.connectionCount() == null ? null
+                            : (Integer) (int) serverStatistics.connectionCount().invokeExact(serverInfo),
+                    readLong(serverStatistics.messageMemory(), serverInfo),
+                    readLong(serverStatistics.maxMessageMemory(), serverInfo),
+                    readLong(serverStatistics.inboundMessageRate(), serverInfo),
+                    readLong(serverStatistics.outboundMessageRate(), serverInfo),
+                    readLong(serverStatistics.pendingMessageCount(), serverInfo),
+                    readLong(serverStatistics.pendingMessageSize(), serverInfo));
+        } catch (Throwable t) {
+            throw new IllegalStateException("ServerInfo statistics failed", t);
+        }
+    }
+
+    private static Long readLong(MethodHandle handle, Object target) throws Throwable {
+        return handle == null ? null : (long) handle.invokeExact(target);
+    }
+
+    /**
+     * Decodes a {@code #!}-obfuscated password with TibjmsObfuscate. Only called when
+     * connection settings are resolved, so plain reflection is fine here.
+     */
+    @Override
+    public String decodePassword(String password) {
+        if (password == null || !password.startsWith("#!")) {
+            return password;
+        }
+        try {
+            Class<?> obfuscateClass = Class.forName(OBFUSCATE_CLASS);
+            return (String) obfuscateClass.getMethod("decode", String.class)
+                    .invoke(null, password.substring(2)); // Remove #! prefix
+        } catch (Exception e) {
+            logger.warn("Failed to decrypt password, using as-is: {}", e.getMessage());
+            return password;
+        }
+    }
+
+    private static QueueStatisticsHandles bindStatistics(MethodHandles.Lookup lookup, Class<?> queueInfoClass) {
+        MethodHandle consumerCount = optional(lookup, queueInfoClass, "getConsumerCount", int.class);
+        MethodHandle pendingMessageSize = optional(lookup, queueInfoClass, "getPendingMessageSize", long.class);
+        MethodHandle inbound = null;
+        MethodHandle outbound = null;
+        MethodHandle totalMessages = null;
+        MethodHandle messageRate = null;
+        try {
+            // StatData is only reached through the statistics getters' return type
+            Class<?> statDataClass = queueInfoClass.getMethod("getInboundStatistics").getReturnType();
+            totalMessages = lookup.findVirtual(statDataClass, "getTotalMessages", MethodType.methodType(long.class))
+                    .asType(MethodType.methodType(long.class, Object.class));
+            messageRate = lookup.findVirtual(statDataClass, "getMessageRate", MethodType.methodType(long.class))
+                    .asType(MethodType.methodType(long.class, Object.class));
+            inbound = bindNoArg(lookup, queueInfoClass, "getInboundStatistics");
+            outbound = bindNoArg(lookup, queueInfoClass, "getOutboundStatistics");
+        } catch (ReflectiveOperationException e) {
+            logger.info("EMS admin API has no queue statistics calls, inbound/outbound rates will not be shown");
+            inbound = null;
+            outbound = null;
+        }
+        return new QueueStatisticsHandles(consumerCount, pendingMessageSize, inbound, outbound, totalMessages, messageRate);
+    }
+
+    private static ServerStatisticsHandles bindServerStatistics(MethodHandles.Lookup lookup, Class<?> serverInfoClass) {
+        return new ServerStatisticsHandles(
+                optional(lookup, serverInfoClass, "getConnectionCount", int.class),
+                optional(lookup, serverInfoClass, "getMsgMem", long.class),
+                optional(lookup, serverInfoClass, "getMaxMsgMemory", long.class),
+                optional(lookup, serverInfoClass, "getInboundMessageRate", long.class),
+                optional(lookup, serverInfoClass, "getOutboundMessageRate", long.class),
+                optional(lookup, serverInfoClass, "getPendingMessageCount", long.class),
+                optional(lookup, serverInfoClass, "getPendingMessageSize", long.class));
+    }
+
+    private static TopicHandles bindTopics(MethodHandles.Lookup lookup, Class<?> adminClass) {
+        MethodHandle getTopics = null;
+        MethodHandle topicName = null;
+        MethodHandle topicPendingCount = null;
+        MethodHandle topicPendingSize = null;
+        MethodHandle topicSubscriberCount = null;
+        MethodHandle topicDurableCount = null;
+        try {
+            // TopicInfo and DurableInfo are only reached through the getters' array types
+            Class<?> topicInfoClass = elementType(adminClass, "getTopics");
+            getTopics = lookup.unreflect(adminClass.getMethod("getTopics"))
+                    .asType(MethodType.methodType(Object[].class, Object.class));
+            topicName = lookup.findVirtual(topicInfoClass, "getName", MethodType.methodType(String.class))
+                    .asType(MethodType.methodType(String.class, Object.class));
+            topicPendingCount = lookup.findVirtual(topicInfoClass, "getPendingMessageCount", MethodType.methodType(long.class))
+                    .asType(MethodType.methodType(long.class, Object.class));
+            topicPendingSize = optional(lookup, topicInfoClass, "getPendingMessageSize", long.class);
+            topicSubscriberCount = optional(lookup, topicInfoClass, "getSubscriberCount", int.class);
+            topicDurableCount = optional(lookup, topicInfoClass, "getDurableCount", int.class);
+        } catch (ReflectiveOperationException e) {
+            logger.info("EMS admin API has no usable topic calls, topics will not be shown");
+            getTopics = null;
+        }
+
+        MethodHandle getDurables = null;
+        MethodHandle durableName = null;
+        MethodHandle durableTopicName = null;
+        MethodHandle durablePendingCount = null;
+        MethodHandle durablePendingSize = null;
+        MethodHandle durableClientId = null;
+        MethodHandle durableConnected = null;
+        try {
+            Class<?> durableInfoClass = elementType(adminClass, "getDurables");
+            getDurables = lookup.unreflect(adminClass.getMethod("getDurables"))
+                    .asType(MethodType.methodType(Object[].class, Object.class));
+            durableName = lookup.findVirtual(durableInfoClass, "getDurableName", MethodType.methodType(String.class))
+                    .asType(MethodType.methodType(String.class, Object.class));
+            durableTopicName = lookup.findVirtual(durableInfoClass, "getTopicName", MethodType.methodType(String.class))
+                    .asType(MethodType.methodType(String.class, Object.class));
+            durablePendingCount = lookup.findVirtual(durableInfoClass, "getPendingMessageCount", MethodType.methodType(long.class))
+                    .asType(MethodType.methodType(long.class, Object.class));
+            durablePendingSize = optional(lookup, durableInfoClass, "getPendingMessageSize", long.class);
+            durableClientId = optional(lookup, durableInfoClass, "getClientID", String.class);
+            durableConnected = optional(lookup, durableInfoClass, "isConnected", boolean.class);
+        } catch (ReflectiveOperationException e) {
+            logger.info("EMS admin API has no usable durable calls, durables will not be shown");
+            getDurables = null;
+        }
+        return new TopicHandles(getTopics, topicName, topicPendingCount, topicPendingSize, topicSubscriberCount,
+                topicDurableCount, getDurables, durableName, durableTopicName, durablePendingCount,
+                durablePendingSize, durableClientId, durableConnected);
+    }
+
+    private static Class<?> elementType(Class<?> owner, String arrayGetter) throws NoSuchMethodException {
+        Class<?> elementType = owner.getMethod(arrayGetter).getReturnType().getComponentType();
+        if (elementType == null) {
+            throw new NoSuchMethodException(owner.getName() + "." + arrayGetter + " does not return an array");
+        }
+        return elementType;
+    }
+
+    private static MethodHandle optional(MethodHandles.Lookup lookup, Class<?> owner, String name, Class<?> returnType) {
+        try {
+            return lookup.findVirtual(owner, name, MethodType.methodType(returnType))
+                    .asType(MethodType.methodType(returnType, Object.class));
+        } catch (ReflectiveOperationException e) {
+            logger.info("EMS admin API has no {}.{}, leaving it out of the statistics", owner.getSimpleName(), name);
+            return null;
+        }
+    }
+
+    private static MethodHandle bindNoArg(MethodHandles.Lookup lookup, Class<?> owner, String name)
+            throws ReflectiveOperationException {
+        MethodHandle handle = lookup.unreflect(owner.getMethod(name));
+        return handle.asType(MethodType.methodType(Object.class, Object.class));
+    }
+
+    private static Exception rethrow(Throwable t) {
+        if (t instanceof Error error) {
+            throw error;
+        }
+        return t instanceof Exception e ? e : new IllegalStateException(t);
+    }
+}
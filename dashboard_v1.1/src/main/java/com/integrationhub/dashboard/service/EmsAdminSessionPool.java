@@ -0,0 +1,294 @@
+package com.integrationhub.dashboard.service;
+
+import com.integrationhub.dashboard.config.TibcoEmsProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Keeps long-lived TibjmsAdmin sessions per EMS server so a refresh does not pay
+ * for a full connect/authenticate handshake. Connection URLs and decoded passwords
+ * are resolved once when the pool is created.
+ */
+@Component
+public class EmsAdminSessionPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmsAdminSessionPool.class);
+
+    @FunctionalInterface
+    public interface AdminCallback<T> {
+        T doWithAdmin(Object admin) throws Exception;
+    }
+
+    /**
+     * Timings of one diagnostic round trip. {@code sessionNanos} is the time taken to get
+     * a session, which for a new one means connecting and authenticating. On failure
+     * {@code failedStep} is {@code session} or {@code getQueues}.
+     */
+    public record SessionProbe(boolean reused,
+                               long sessionNanos,
+                               Long getQueuesNanos,
+                               Integer queueCount,
+                               String failedStep,
+                               Exception error) {
+    }
+
+    private final TibcoEmsProperties.Pool settings;
+    private final EmsAdminBackend backend;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, ServerPool> pools = new LinkedHashMap<>();
+
+    public EmsAdminSessionPool(TibcoEmsProperties tibcoEmsProperties, EmsAdminBackend backend, MeterRegistry meterRegistry) {
+        this.settings = tibcoEmsProperties.getPool();
+        this.backend = backend;
+        this.meterRegistry = meterRegistry;
+
+        for (TibcoEmsProperties.Server server : tibcoEmsProperties.getServers()) {
+            ConnectionSettings connection = new ConnectionSettings(
+                    server.getName(),
+                    server.getConnectionUrl(),
+                    server.getUsername(),
+                    backend.decodePassword(server.getPassword()));
+            ServerPool pool = new ServerPool(connection, Math.max(1, settings.getMaxSessionsPerServer()));
+            pools.put(server.getName(), pool);
+            Gauge.builder("ems.pool.sessions.idle", pool, serverPool -> serverPool.idle.size())
+                    .tag("server", server.getName())
+                    .register(meterRegistry);
+        }
+        logger.info("EmsAdminSessionPool initialized for {} servers (max {} sessions each)",
+                pools.size(), settings.getMaxSessionsPerServer());
+    }
+
+    public boolean isAvailable() {
+        return backend.isAvailable();
+    }
+
+    /**
+     * Runs the callback with a pooled admin session for the given server. A failure on
+     * a reused session discards it and retries once on a fresh connection, so a session
+     * dropped by the EMS server costs one reconnect rather than a failed refresh.
+     */
+    public <T> T execute(String serverName, AdminCallback<T> callback) throws Exception {
+        ServerPool pool = pools.get(serverName);
+        if (pool == null) {
+            throw new IllegalArgumentException("Unknown EMS server: " + serverName);
+        }
+        if (!isAvailable()) {
+            throw new IllegalStateException("TIBCO EMS admin library not available");
+        }
+
+        PooledSession session = pool.borrow();
+        // reused vs opened is the hit ratio of the session pool
+        meterRegistry.counter("ems.pool.borrows", "server", serverName, "session", session.reused ? "reused" : "opened")
+                .increment();
+        try {
+            T result = callback.doWithAdmin(session.admin);
+            pool.release(session);
+            return result;
+        } catch (Exception e) {
+            pool.invalidate(session);
+            // A cancelled caller is not retried
+            if (!session.reused || e instanceof InterruptedException) {
+                throw e;
+            }
+            logger.info("Pooled session to {} failed ({}), reconnecting", serverName, e.getMessage());
+        }
+
+        PooledSession fresh = pool.borrowFresh();
+        try {
+            T result = callback.doWithAdmin(fresh.admin);
+            pool.release(fresh);
+            return result;
+        } catch (Exception e) {
+            pool.invalidate(fresh);
+            throw e;
+        }
+    }
+
+    /**
+     * Times getting a session and one {@code getQueues()} call on it, for diagnostics.
+     * An idle pooled session is used when there is one, unless {@code cold} is set: then
+     * a new session is opened and closed again afterwards, leaving the pool as it was.
+     * Failures are reported in the result, not retried.
+     */
+    public SessionProbe probe(String serverName, boolean cold) {
+        ServerPool pool = pools.get(serverName);
+        long started = System.nanoTime();
+        PooledSession session;
+        try {
+            if (pool == null) {
+                throw new IllegalArgumentException("Unknown EMS server: " + serverName);
+            }
+            if (!isAvailable()) {
+                throw new IllegalStateException("TIBCO EMS admin library not available");
+            }
+            session = cold ? pool.borrowFresh() : pool.borrow();
+        } catch (Exception e) {
+            return new SessionProbe(false, System.nanoTime() - started, null, null, "session", e);
+        }
+
+        long sessionNanos = System.nanoTime() - started;
+        long callStarted = System.nanoTime();
+        try {
+            Object[] queues = backend.getQueues(session.admin);
+            long getQueuesNanos = System.nanoTime() - callStarted;
+            if (cold) {
+                pool.invalidate(session);
+            } else {
+                pool.release(session);
+            }
+            return new SessionProbe(session.reused, sessionNanos, getQueuesNanos,
+                    queues == null ? 0 : queues.length, null, null);
+        } catch (Exception e) {
+            pool.invalidate(session);
+            return new SessionProbe(session.reused, sessionNanos, System.nanoTime() - callStarted, null, "getQueues", e);
+        }
+    }
+
+    /**
+     * Closes sessions that have sat idle longer than the configured idle timeout.
+     */
+    @Scheduled(fixedDelayString = "${tibco.ems.pool.eviction-interval-ms:60000}")
+    public void evictIdleSessions() {
+        long cutoff = System.currentTimeMillis() - settings.getIdleTimeoutMs();
+        int evicted = 0;
+        for (ServerPool pool : pools.values()) {
+            evicted += pool.evictIdleBefore(cutoff);
+        }
+        if (evicted > 0) {
+            logger.info("Evicted {} idle EMS admin sessions", evicted);
+        }
+    }
+
+    public Map<String, Integer> getIdleSessionCounts() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        pools.forEach((name, pool) -> counts.put(name, pool.idle.size()));
+        return counts;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        logger.info("Closing pooled EMS admin sessions");
+        for (ServerPool pool : pools.values()) {
+            pool.evictIdleBefore(Long.MAX_VALUE);
+        }
+    }
+
+    private Object connect(ConnectionSettings connection) throws Exception {
+        logger.info("Opening admin session to {} at {} with user {}",
+                connection.name(), connection.url(), connection.username());
+        return backend.connect(connection.url(), connection.username(), connection.password());
+    }
+
+    private boolean validate(Object admin) {
+        try {
+            backend.getInfo(admin);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private void close(Object admin) {
+        try {
+            backend.close(admin);
+        } catch (Exception e) {
+            logger.debug("Error closing admin connection: {}", e.getMessage());
+        }
+    }
+
+    private record ConnectionSettings(String name, String url, String username, String password) {
+    }
+
+    private static final class PooledSession {
+        final Object admin;
+        final boolean reused;
+        volatile long lastUsed;
+
+        PooledSession(Object admin, boolean reused, long lastUsed) {
+            this.admin = admin;
+            this.reused = reused;
+            this.lastUsed = lastUsed;
+        }
+    }
+
+    private final class ServerPool {
+        final ConnectionSettings connection;
+        final Semaphore permits;
+        final ConcurrentLinkedDeque<PooledSession> idle = new ConcurrentLinkedDeque<>();
+
+        ServerPool(ConnectionSettings connection, int maxSessions) {
+            this.connection = connection;
+            this.permits = new Semaphore(maxSessions, true);
+        }
+
+        PooledSession borrow() throws Exception {
+            acquirePermit();
+            try {
+                PooledSession session;
+                while ((session = idle.pollFirst()) != null) {
+                    long idleFor = System.currentTimeMillis() - session.lastUsed;
+                    if (idleFor < settings.getValidationIntervalMs() || validate(session.admin)) {
+                        return new PooledSession(session.admin, true, session.lastUsed);
+                    }
+                    logger.info("Discarding stale admin session to {}", connection.name());
+                    close(session.admin);
+                }
+                return new PooledSession(connect(connection), false, System.currentTimeMillis());
+            } catch (Exception e) {
+                permits.release();
+                throw e;
+            }
+        }
+
+        PooledSession borrowFresh() throws Exception {
+            acquirePermit();
+            try {
+                return new PooledSession(connect(connection), false, System.currentTimeMillis());
+            } catch (Exception e) {
+                permits.release();
+                throw e;
+            }
+        }
+
+        void release(PooledSession session) {
+            session.lastUsed = System.currentTimeMillis();
+            idle.offerFirst(session);
+            permits.release();
+        }
+
+        void invalidate(PooledSession session) {
+            close(session.admin);
+            permits.release();
+        }
+
+        int evictIdleBefore(long cutoff) {
+            int evicted = 0;
+            for (PooledSession session : idle) {
+                if (session.lastUsed < cutoff && idle.remove(session)) {
+                    close(session.admin);
+                    evicted++;
+                }
+            }
+            return evicted;
+        }
+
+        private void acquirePermit() throws Exception {
+            if (!permits.tryAcquire(settings.getBorrowTimeoutMs(), TimeUnit.MILLISECONDS)) {
+                throw new TimeoutException("No admin session available for " + connection.name()
+                        + " within " + settings.getBorrowTimeoutMs() + " ms");
+            }
+        }
+    }
+}
@@ -0,0 +1,386 @@
+package com.integrationhub.dashboard.service;
+
+import com.integrationhub.dashboard.config.TibcoEmsProperties;
+import com.integrationhub.dashboard.model.DurableInfo;
+import com.integrationhub.dashboard.model.EmsServerStats;
+import com.integrationhub.dashboard.model.QueueInfo;
+import com.integrationhub.dashboard.model.TopicInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process stand-in for a fleet of EMS servers, so sweeps, timeouts, partial results
+ * and filtering can be exercised (and load-tested) without tibjms.jar or real servers.
+ * Servers are matched by connection URL; each read of a server advances its queue
+ * depths one step of a random walk, fed by inbound and drained by outbound traffic.
+ * About one queue in ten has no consumers and only grows, filling the server's message
+ * memory, whose limit is drawn per server at start. Durable subscriptions walk the same
+ * way when topics are read; about one in ten is disconnected and only grows. Behaviour
+ * is set under
+ * {@code tibco.ems.simulator}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "tibco.ems", name = "backend", havingValue = "simulator")
+public class EmsAdminSimulator implements EmsAdminBackend {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmsAdminSimulator.class);
+
+    /** Queue name prefixes, including some the default filters drop (BAM, FCWEB.CACHE, ARCHIVE, ...). */
+    private static final String[] DOMAINS = {
+            "ORDER.PROCESSING", "PAYMENT.RETRY", "INVENTORY.UPDATE", "BOOKING.SYNC", "NOTIFICATION",
+            "CUSTOMER.EVENTS", "AUDIT.LOG", "BAM.EVENTS", "FCWEB.CACHE", "ARCHIVE.ORDERS", "ERROR.HANDLING"
+    };
+
+    /** A queue info as returned by {@link #getQueues}; rates are messages per read. */
+    public record SimulatedQueue(String name,
+                                 long pendingMessageCount,
+                                 int consumerCount,
+                                 long pendingMessageSize,
+                                 long inboundMessageRate,
+                                 long outboundMessageRate,
+                                 long inboundTotalMessages,
+                                 long outboundTotalMessages) {
+    }
+
+    /** A topic info as returned by {@link #getTopics}. */
+    public record SimulatedTopic(String name,
+                                 long pendingMessageCount,
+                                 long pendingMessageSize,
+                                 int subscriberCount,
+                                 int durableCount) {
+    }
+
+    /** A durable info as returned by {@link #getDurables}. */
+    public record SimulatedDurable(String durableName,
+                                   String topicName,
+                                   String clientId,
+                                   long pendingMessageCount,
+                                   long pendingMessageSize,
+                                   boolean connected) {
+    }
+
+    /** A server info as returned by {@link #getInfo}; rates are messages per read. */
+    public record SimulatedServerInfo(String name,
+                                      int connectionCount,
+                                      long messageMemory,
+                                      long maxMessageMemory,
+                                      long inboundMessageRate,
+                                      long outboundMessageRate,
+                                      long pendingMessageCount,
+                                      long pendingMessageSize) {
+    }
+
+    /** An open admin session. */
+    public static final class SimulatedSession {
+        private final SimulatedServer server;
+        private volatile boolean closed;
+
+        SimulatedSession(SimulatedServer server) {
+            this.server = server;
+        }
+    }
+
+    private final TibcoEmsProperties.Simulator settings;
+    private final Map<String, SimulatedServer> serversByUrl = new HashMap<>();
+
+    public EmsAdminSimulator(TibcoEmsProperties tibcoEmsProperties) {
+        this.settings = tibcoEmsProperties.getSimulator();
+        List<TibcoEmsProperties.Server> servers = tibcoEmsProperties.getServers();
+        for (TibcoEmsProperties.Server server : servers) {
+            serversByUrl.put(server.getConnectionUrl(), new SimulatedServer(server.getName(),
+                    Math.max(0, settings.getQueuesPerServer()), Math.max(0, settings.getTopicsPerServer()),
+                    Math.max(0, settings.getDurablesPerServer()), settings.getSeed() ^ server.getName().hashCode()));
+        }
+        logger.info("EMS simulator modelling {} servers x {} queues (failure rate {}, timeout rate {})",
+                servers.size(), settings.getQueuesPerServer(), settings.getFailureRate(), settings.getTimeoutRate());
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public Object connect(String url, String username, String password) throws Exception {
+        SimulatedServer server = serversByUrl.get(url);
+        pause(settings.getConnectLatencyMs());
+        if (server == null || settings.getUnreachableServers().contains(server.name)) {
+            throw new ConnectException("Simulated server at " + url + " is unreachable");
+        }
+        maybeFail(server, "connect");
+        return new SimulatedSession(server);
+    }
+
+    @Override
+    public Object[] getQueues(Object admin) throws Exception {
+        SimulatedServer server = open(admin);
+        pause(settings.getGetQueuesLatencyMs()
+                + server.depths.length * settings.getPerThousandQueuesLatencyMs() / 1000);
+        maybeFail(server, "getQueues");
+        return server.read(settings.getWalkStep());
+    }
+
+    /** Advances every durable one step and returns the topics they belong to. */
+    @Override
+    public Object[] getTopics(Object admin) throws Exception {
+        SimulatedServer server = open(admin);
+        pause(settings.getGetQueuesLatencyMs());
+        maybeFail(server, "getTopics");
+        return server.readTopics(settings.getWalkStep());
+    }
+
+    /** The durables as of the last {@link #getTopics}. */
+    @Override
+    public Object[] getDurables(Object admin) throws Exception {
+        SimulatedServer server = open(admin);
+        pause(settings.getGetQueuesLatencyMs());
+        maybeFail(server, "getDurables");
+        return server.durables();
+    }
+
+    @Override
+    public Object getInfo(Object admin) throws Exception {
+        SimulatedServer server = open(admin);
+        maybeFail(server, "getInfo");
+        return server.info();
+    }
+
+    @Override
+    public void close(Object admin) {
+        ((SimulatedSession) admin).closed = true;
+    }
+
+    @Override
+    public String queueName(Object queueInfo) {
+        return ((SimulatedQueue) queueInfo).name();
+    }
+
+    @Override
+    public long pendingMessageCount(Object queueInfo) {
+        return ((SimulatedQueue) queueInfo).pendingMessageCount();
+    }
+
+    @Override
+    public void readQueueStatistics(Object queueInfo, QueueInfo target) {
+        SimulatedQueue queue = (SimulatedQueue) queueInfo;
+        target.setConsumerCount(queue.consumerCount());
+        target.setPendingMessageSize(queue.pendingMessageSize());
+        target.setInboundMessageRate(queue.inboundMessageRate());
+        target.setOutboundMessageRate(queue.outboundMessageRate());
+        target.setInboundTotalMessages(queue.inboundTotalMessages());
+        target.setOutboundTotalMessages(queue.outboundTotalMessages());
+    }
+
+    @Override
+    public TopicInfo readTopic(String serverName, Object topicInfo) {
+        SimulatedTopic simulated = (SimulatedTopic) topicInfo;
+        TopicInfo topic = new TopicInfo(serverName, simulated.name(), simulated.pendingMessageCount());
+        topic.setPendingMessageSize(simulated.pendingMessageSize());
+        topic.setSubscriberCount(simulated.subscriberCount());
+        topic.setDurableCount(simulated.durableCount());
+        return topic;
+    }
+
+    @Override
+    public DurableInfo readDurable(String serverName, Object durableInfo) {
+        SimulatedDurable simulated = (SimulatedDurable) durableInfo;
+        DurableInfo durable = new DurableInfo(serverName, simulated.topicName(), simulated.durableName(),
+                simulated.pendingMessageCount());
+        durable.setClientId(simulated.clientId());
+        durable.setPendingMessageSize(simulated.pendingMessageSize());
+        durable.setConnected(simulated.connected());
+        return durable;
+    }
+
+    @Override
+    public EmsServerStats readServerStatistics(Object serverInfo, long timestamp) {
+        SimulatedServerInfo info = (SimulatedServerInfo) serverInfo;
+        return new EmsServerStats(timestamp, info.connectionCount(), info.messageMemory(), info.maxMessageMemory(),
+                info.inboundMessageRate(), info.outboundMessageRate(), info.pendingMessageCount(),
+                info.pendingMessageSize());
+    }
+
+    @Override
+    public String decodePassword(String password) {
+        return password;
+    }
+
+    private static SimulatedServer open(Object admin) {
+        SimulatedSession session = (SimulatedSession) admin;
+        if (session.closed) {
+            throw new IllegalStateException("Admin session to " + session.server.name + " is closed");
+        }
+        return session.server;
+    }
+
+    /**
+     * Fails the call with {@code failureRate} probability, or hangs it for
+     * {@code timeoutMs} with {@code timeoutRate} probability (always for hanging servers).
+     * A hang ends early when the calling thread is interrupted, as a cancelled sweep does.
+     */
+    private void maybeFail(SimulatedServer server, String operation) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (settings.getHangingServers().contains(server.name) || random.nextDouble() < settings.getTimeoutRate()) {
+            Thread.sleep(settings.getTimeoutMs());
+            throw new SocketTimeoutException("Simulated " + operation + " on " + server.name + " timed out");
+        }
+        if (random.nextDouble() < settings.getFailureRate()) {
+            throw new IllegalStateException("Simulated " + operation + " failure on " + server.name);
+        }
+    }
+
+    private void pause(long latencyMs) throws InterruptedException {
+        long jitter = settings.getLatencyJitterMs() > 0
+                ? ThreadLocalRandom.current().nextLong(settings.getLatencyJitterMs() + 1) : 0;
+        if (latencyMs + jitter > 0) {
+            TimeUnit.MILLISECONDS.sleep(latencyMs + jitter);
+        }
+    }
+
+    private final class SimulatedServer {
+        final String name;
+        final String[] queueNames;
+        final long[] depths;
+        final int[] consumers;
+        final int[] messageSizes;
+        final long[] inboundTotals;
+        final long[] outboundTotals;
+        final String[] topicNames;
+        final int[] topicMessageSizes;
+        final int[] durableTopics;
+        final long[] durableDepths;
+        final boolean[] durableConnected;
+        final SplittableRandom random;
+        final int connectionCount;
+        final long maxMessageMemory;
+        long pendingMessages;
+        long pendingBytes;
+        long inboundRate;
+        long outboundRate;
+
+        SimulatedServer(String name, int queueCount, int topicCount, int durableCount, long seed) {
+            this.name = name;
+            this.queueNames = new String[queueCount];
+            this.depths = new long[queueCount];
+            this.consumers = new int[queueCount];
+            this.messageSizes = new int[queueCount];
+            this.inboundTotals = new long[queueCount];
+            this.outboundTotals = new long[queueCount];
+            this.topicNames = new String[topicCount];
+            this.topicMessageSizes = new int[topicCount];
+            this.durableTopics = new int[topicCount == 0 ? 0 : durableCount];
+            this.durableDepths = new long[durableTopics.length];
+            this.durableConnected = new boolean[durableTopics.length];
+            this.random = new SplittableRandom(seed);
+            double meanDepth = Math.max(1, settings.getMeanDepth());
+            for (int t = 0; t < topicCount; t++) {
+                topicNames[t] = DOMAINS[t % DOMAINS.length] + ".T" + (t / DOMAINS.length);
+                topicMessageSizes[t] = 200 + random.nextInt(8000);
+            }
+            for (int d = 0; d < durableTopics.length; d++) {
+                durableTopics[d] = random.nextInt(topicCount);
+                durableDepths[d] = (long) (-meanDepth * Math.log(1 - random.nextDouble()));
+                durableConnected[d] = random.nextInt(10) != 0;
+            }
+            for (int i = 0; i < queueCount; i++) {
+                queueNames[i] = DOMAINS[i % DOMAINS.length] + ".Q" + (i / DOMAINS.length);
+                depths[i] = (long) (-meanDepth * Math.log(1 - random.nextDouble()));
+                consumers[i] = random.nextInt(10) == 0 ? 0 : 1 + random.nextInt(4);
+                messageSizes[i] = 200 + random.nextInt(8000);
+                pendingMessages += depths[i];
+                pendingBytes += depths[i] * messageSizes[i];
+            }
+            // Roughly one connection per consumer plus producers; the memory limit starts
+            // the server between 20% and 70% full
+            int consumerTotal = 0;
+            for (int count : consumers) {
+                consumerTotal += count;
+            }
+            this.connectionCount = 10 + consumerTotal / 2;
+            this.maxMessageMemory = Math.max(1L << 20, (long) (pendingBytes / (0.2 + random.nextDouble() * 0.5)));
+        }
+
+        /** Advances every durable one step and returns the topics with their totals. */
+        synchronized SimulatedTopic[] readTopics(long walkStep) {
+            long[] pending = new long[topicNames.length];
+            int[] subscribers = new int[topicNames.length];
+            int[] durableCounts = new int[topicNames.length];
+            for (int d = 0; d < durableDepths.length; d++) {
+                if (walkStep > 0) {
+                    long step = random.nextLong(-walkStep, walkStep + 1);
+                    // A disconnected subscriber receives nothing, so its backlog only grows
+                    durableDepths[d] = durableConnected[d]
+                            ? Math.max(0, durableDepths[d] + step)
+                            : durableDepths[d] + Math.abs(step);
+                }
+                int topic = durableTopics[d];
+                pending[topic] += durableDepths[d];
+                durableCounts[topic]++;
+                if (durableConnected[d]) {
+                    subscribers[topic]++;
+                }
+            }
+            SimulatedTopic[] topics = new SimulatedTopic[topicNames.length];
+            for (int t = 0; t < topics.length; t++) {
+                topics[t] = new SimulatedTopic(topicNames[t], pending[t], pending[t] * topicMessageSizes[t],
+                        subscribers[t], durableCounts[t]);
+            }
+            return topics;
+        }
+
+        synchronized SimulatedDurable[] durables() {
+            SimulatedDurable[] durables = new SimulatedDurable[durableDepths.length];
+            for (int d = 0; d < durables.length; d++) {
+                int topic = durableTopics[d];
+                durables[d] = new SimulatedDurable("SUB." + d, topicNames[topic], "client-" + (d % 17),
+                        durableDepths[d], durableDepths[d] * topicMessageSizes[topic], durableConnected[d]);
+            }
+            return durables;
+        }
+
+        synchronized SimulatedServerInfo info() {
+            return new SimulatedServerInfo(name, connectionCount, pendingBytes, maxMessageMemory,
+                    inboundRate, outboundRate, pendingMessages, pendingBytes);
+        }
+
+        /** Advances every queue one step and returns the new inventory. */
+        synchronized SimulatedQueue[] read(long walkStep) {
+            SimulatedQueue[] queues = new SimulatedQueue[depths.length];
+            pendingMessages = 0;
+            pendingBytes = 0;
+            inboundRate = 0;
+            outboundRate = 0;
+            for (int i = 0; i < depths.length; i++) {
+                long inbound = 0;
+                long outbound = 0;
+                if (walkStep > 0) {
+                    long step = random.nextLong(-walkStep, walkStep + 1);
+                    inbound = Math.max(0, step) + random.nextLong(walkStep + 1);
+                    // Without consumers nothing is delivered and the queue only grows
+                    outbound = consumers[i] == 0 ? 0 : Math.min(depths[i] + inbound, inbound - step);
+                }
+                depths[i] = depths[i] + inbound - outbound;
+                inboundTotals[i] += inbound;
+                outboundTotals[i] += outbound;
+                pendingMessages += depths[i];
+                pendingBytes += depths[i] * messageSizes[i];
+                inboundRate += inbound;
+                outboundRate += outbound;
+                queues[i] = new SimulatedQueue(queueNames[i], depths[i], consumers[i], depths[i] * messageSizes[i],
+                        inbound, outbound, inboundTotals[i], outboundTotals[i]);
+            }
+            return queues;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.integrationhub.dashboard.service;
+
+import com.integrationhub.dashboard.config.TibcoEmsProperties;
+import com.integrationhub.dashboard.model.QueueInfo;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides when each EMS server is next polled. Quiet servers drift towards the maximum
+ * interval, busy ones towards the minimum, and a server with a critical queue (or one
+ * about to turn critical before the next poll at the maximum interval) is polled at
+ * the minimum. Volatility is the sum of the smoothed growth rates of the server's
+ * queues, as computed by {@link QueueTrendTracker}. Failed polls keep the current
+ * interval; backing off dead servers is left to the {@link EmsServerCircuitBreaker}.
+ */
+@Component
+public class EmsPollScheduler {
+
+    public record PollState(long intervalMs, long nextPollAt, double volatility, boolean critical, boolean lastPollFailed) {
+    }
+
+    private final TibcoEmsProperties.Collector settings;
+    private final Map<String, PollState> states = new ConcurrentHashMap<>();
+
+    public EmsPollScheduler(TibcoEmsProperties tibcoEmsProperties, MeterRegistry meterRegistry) {
+        this.settings = tibcoEmsProperties.getCollector();
+        for (TibcoEmsProperties.Server server : tibcoEmsProperties.getServers()) {
+            String name = server.getName();
+            Gauge.builder("ems.server.poll.interval", this, scheduler -> scheduler.getState(name).intervalMs())
+                    .description("Current poll interval of the server")
+                    .baseUnit("milliseconds")
+                    .tag("server", name)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * The servers whose next poll is due at {@code now}; servers not polled yet are due.
+     */
+    public List<TibcoEmsProperties.Server> dueServers(List<TibcoEmsProperties.Server> servers, long now) {
+        List<TibcoEmsProperties.Server> due = new ArrayList<>();
+        for (TibcoEmsProperties.Server server : servers) {
+            PollState state = states.get(server.getName());
+            if (state == null || state.nextPollAt() <= now) {
+                due.add(server);
+            }
+        }
+        return due;
+    }
+
+    /**
+     * Schedules the next poll after a successful one from the fresh, trend-annotated
+     * inventory.
+     */
+    public void recordPoll(TibcoEmsProperties.Server server, List<QueueInfo> queues, long now) {
+        double volatility = 0;
+        boolean critical = false;
+        long horizonSeconds = Math.max(1, settings.getMaxPollIntervalMs() / 1000);
+        for (QueueInfo queue : queues) {
+            volatility += Math.abs(queue.getRatePerSecond());
+            Long secondsToCritical = queue.getSecondsToCritical();
+            if ("critical".equals(queue.getStatus()) || (secondsToCritical != null && secondsToCritical <= horizonSeconds)) {
+                critical = true;
+            }
+        }
+        long intervalMs = intervalFor(server, volatility, critical);
+        states.put(server.getName(), new PollState(intervalMs, now + jittered(intervalMs), volatility, critical, false));
+    }
+
+    /**
+     * Schedules the next attempt after a failed, timed-out or skipped poll at the
+     * server's current interval.
+     */
+    public void recordFailure(TibcoEmsProperties.Server server, long now) {
+        PollState previous = states.get(server.getName());
+        long intervalMs = previous != null ? previous.intervalMs() : intervalFor(server, 0, false);
+        states.put(server.getName(), new PollState(intervalMs, now + jittered(intervalMs),
+                previous != null ? previous.volatility() : 0, previous != null && previous.critical(), true));
+    }
+
+    /**
+     * Whether the last attempt to poll the server failed, so the inventory held for it
+     * is older than its schedule says.
+     */
+    public boolean isOverdue(String serverName) {
+        PollState state = states.get(serverName);
+        return state != null && state.lastPollFailed();
+    }
+
+    public PollState getState(String serverName) {
+        PollState state = states.get(serverName);
+        return state != null ? state : new PollState(baseInterval(), 0, 0, false, false);
+    }
+
+    private long intervalFor(TibcoEmsProperties.Server server, double volatility, boolean critical) {
+        if (server.getPollIntervalMs() != null && server.getPollIntervalMs() > 0) {
+            return server.getPollIntervalMs();
+        }
+        if (!settings.isAdaptive()) {
+            return settings.getRefreshIntervalMs();
+        }
+        long min = settings.getMinPollIntervalMs();
+        long max = Math.max(min, settings.getMaxPollIntervalMs());
+        if (critical) {
+            return min;
+        }
+        double reference = settings.getVolatilityReference() > 0 ? settings.getVolatilityReference() : 1;
+        long interval = Math.round(max / (1 + volatility / reference));
+        return Math.max(min, Math.min(max, interval));
+    }
+
+    private long baseInterval() {
+        return settings.isAdaptive() ? settings.getMaxPollIntervalMs() : settings.getRefreshIntervalMs();
+    }
+
+    /**
+     * Spreads the interval by up to {@code jitterRatio} either way so servers that
+     * started together do not stay in lockstep.
+     */
+    private long jittered(long intervalMs) {
+        double ratio = Math.max(0, Math.min(1, settings.getJitterRatio()));
+        if (ratio == 0) {
+            return intervalMs;
+        }
+        double factor = 1 + ThreadLocalRandom.current().nextDouble(-ratio, ratio);
+        return Math.round(intervalMs * factor);
+    }
+}
@@ -0,0 +1,260 @@
+package com.integrationhub.dashboard.service;
+
+import com.integrationhub.dashboard.config.TibcoEmsProperties;
+import com.integrationhub.dashboard.model.EmsServerStats;
+import com.integrationhub.dashboard.model.QueueDelta;
+import com.integrationhub.dashboard.model.QueueInfo;
+import com.integrationhub.dashboard.model.QueueSnapshot;
+import com.integrationhub.dashboard.model.TopicBacklog;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Sweeps the EMS servers that are due according to the {@link EmsPollScheduler} and
+ * publishes the result as an immutable {@link QueueSnapshot}. API requests read the
+ * latest snapshot, so their latency no longer depends on EMS and EMS load no longer
+ * grows with viewers.
+ */
+@Component
+public class EmsQueueCollector {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmsQueueCollector.class);
+
+    private final TibcoEmsQueueService tibcoEmsQueueService;
+    private final QueueHistoryStore queueHistoryStore;
+    private final EmsServerStatsStore serverStatsStore;
+    private final QueueTrendTracker queueTrendTracker;
+    private final EmsServerCircuitBreaker circuitBreaker;
+    private final EmsPollScheduler pollScheduler;
+    private final TibcoEmsProperties.Collector settings;
+    private final Timer sweepTimer;
+    private final AtomicReference<QueueSnapshot> snapshot = new AtomicReference<>(QueueSnapshot.EMPTY);
+    // High-volume lists of the latest snapshots, oldest first, for answering delta requests
+    private volatile List<VersionedQueues> recentVersions = List.of();
+
+    private record VersionedQueues(long version, List<QueueInfo> queues) {
+    }
+
+    public EmsQueueCollector(TibcoEmsQueueService tibcoEmsQueueService,
+                             QueueHistoryStore queueHistoryStore,
+                             EmsServerStatsStore serverStatsStore,
+                             QueueTrendTracker queueTrendTracker,
+                             EmsServerCircuitBreaker circuitBreaker,
+                             EmsPollScheduler pollScheduler,
+                             TibcoEmsProperties tibcoEmsProperties,
+                             MeterRegistry meterRegistry) {
+        this.tibcoEmsQueueService = tibcoEmsQueueService;
+        this.queueHistoryStore = queueHistoryStore;
+        this.serverStatsStore = serverStatsStore;
+        this.queueTrendTracker = queueTrendTracker;
+        this.circuitBreaker = circuitBreaker;
+        this.pollScheduler = pollScheduler;
+        this.settings = tibcoEmsProperties.getCollector();
+
+        this.sweepTimer = meterRegistry.timer("ems.sweep");
+        Gauge.builder("ems.queues.high_volume", this, collector -> collector.getSnapshot().getHighVolumeQueues().size())
+                .description("Queues shown on the dashboard in the latest snapshot")
+                .register(meterRegistry);
+        Gauge.builder("ems.snapshot.age", this, EmsQueueCollector::snapshotAgeSeconds)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        for (TibcoEmsProperties.Server server : tibcoEmsQueueService.getAllServers()) {
+            String name = server.getName();
+            Gauge.builder("ems.server.queues", this, collector -> collector.getSnapshot().getQueuesForServer(name).size())
+                    .description("Queues in the server inventory held by the latest snapshot")
+                    .tag("server", name)
+                    .register(meterRegistry);
+        }
+    }
+
+    private double snapshotAgeSeconds() {
+        long collectedAt = snapshot.get().getCollectedAt();
+        return collectedAt == 0 ? Double.NaN : (System.currentTimeMillis() - collectedAt) / 1000.0;
+    }
+
+    public QueueSnapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * Changes to the high-volume queue list since snapshot {@code sinceVersion}. Falls
+     * back to the full list when that version is unknown or no longer retained.
+     */
+    public QueueDelta getQueueDelta(long sinceVersion) {
+        List<VersionedQueues> versions = recentVersions;
+        QueueSnapshot current = snapshot.get();
+        if (versions.isEmpty()) {
+            return QueueDelta.full(current.getVersion(), current.getHighVolumeQueues());
+        }
+        VersionedQueues latest = versions.get(versions.size() - 1);
+        for (VersionedQueues version : versions) {
+            if (version.version() == sinceVersion) {
+                return QueueDelta.between(version.version(), version.queues(), latest.version(), latest.queues());
+            }
+        }
+        return QueueDelta.full(latest.version(), latest.queues());
+    }
+
+    /**
+     * Changes made by the latest sweep, or the full list if there is no earlier version.
+     */
+    public QueueDelta getLatestQueueDelta() {
+        List<VersionedQueues> versions = recentVersions;
+        if (versions.size() < 2) {
+            return getQueueDelta(0);
+        }
+        VersionedQueues before = versions.get(versions.size() - 2);
+        VersionedQueues latest = versions.get(versions.size() - 1);
+        return QueueDelta.between(before.version(), before.queues(), latest.version(), latest.queues());
+    }
+
+    /**
+     * Connection status, data freshness, poll schedule, circuit state and latest server
+     * statistics of every configured server.
+     */
+    public List<Map<String, Object>> getServerOverview() {
+        QueueSnapshot current = snapshot.get();
+        Map<String, String> serverStatusMap = current.getServerStatus();
+        return tibcoEmsQueueService.getAllServers()
+                .stream()
+                .map(server -> {
+                    Map<String, Object> map = new HashMap<>();
+                    map.put("name", server.getName());
+                    map.put("status", serverStatusMap.getOrDefault(server.getName(), "UNKNOWN"));
+                    map.put("freshness", current.getServerFreshness(server.getName()));
+                    map.put("collectedAt", current.getServerCollectedAt(server.getName()));
+                    EmsPollScheduler.PollState poll = pollScheduler.getState(server.getName());
+                    map.put("pollIntervalMs", poll.intervalMs());
+                    map.put("nextPollAt", poll.nextPollAt());
+                    map.put("volatility", poll.volatility());
+                    EmsServerCircuitBreaker.CircuitState circuit = circuitBreaker.getState(server.getName());
+                    map.put("circuit", circuit.state());
+                    map.put("consecutiveFailures", circuit.consecutiveFailures());
+                    map.put("retryAt", circuit.retryAt());
+                    EmsServerStats stats = serverStatsStore.getLatest(server.getName());
+                    map.put("connectionCount", stats != null ? stats.connectionCount() : null);
+                    map.put("memoryUsagePercent", stats != null ? stats.memoryUsagePercent() : null);
+                    return map;
+                })
+                .toList();
+    }
+
+    @Scheduled(initialDelayString = "${tibco.ems.collector.initial-delay-ms:0}",
+            fixedDelayString = "${tibco.ems.collector.poll-tick-ms:5000}")
+    public void collect() {
+        long started = System.currentTimeMillis();
+        List<TibcoEmsProperties.Server> servers = tibcoEmsQueueService.getAllServers();
+        List<TibcoEmsProperties.Server> due = pollScheduler.dueServers(servers, started);
+        if (due.isEmpty()) {
+            return;
+        }
+        try {
+            TibcoEmsQueueService.SweepResult sweep = tibcoEmsQueueService.collectQueues(due);
+            Map<String, List<QueueInfo>> collected = sweep.queuesByServer();
+            long collectedAt = System.currentTimeMillis();
+            QueueSnapshot previous = snapshot.get();
+            collected.forEach((server, queues) -> queueTrendTracker.update(server, queues, collectedAt));
+            for (TibcoEmsProperties.Server server : due) {
+                List<QueueInfo> queues = collected.get(server.getName());
+                if (queues != null) {
+                    pollScheduler.recordPoll(server, queues, collectedAt);
+                } else if (!sweep.notPolled().contains(server.getName())) {
+                    pollScheduler.recordFailure(server, collectedAt);
+                }
+                // A server never reached before the deadline stays due for the next tick
+            }
+
+            // Servers not polled this time keep their last inventory for a while; it is
+            // only stale when their latest poll failed
+            Map<String, List<QueueInfo>> queuesByServer = new LinkedHashMap<>();
+            Map<String, Long> serverCollectedAt = new LinkedHashMap<>();
+            Map<String, TopicBacklog> topicBacklogs = new LinkedHashMap<>();
+            Map<String, TopicBacklog> freshBacklogs = tibcoEmsQueueService.getTopicBacklogs();
+            Set<String> staleServers = new HashSet<>();
+            for (TibcoEmsProperties.Server server : servers) {
+                String name = server.getName();
+                List<QueueInfo> queues = collected.get(name);
+                if (queues != null) {
+                    queuesByServer.put(name, queues);
+                    serverCollectedAt.put(name, collectedAt);
+                    // A server whose topic read failed keeps its previous backlog
+                    topicBacklogs.put(name, freshBacklogs.getOrDefault(name, previous.getTopicBacklog(name)));
+                    continue;
+                }
+                Long previousTime = previous.getServerCollectedAt(name);
+                if (previousTime != null && collectedAt - previousTime <= settings.getMaxStaleMs()) {
+                    queuesByServer.put(name, previous.getQueuesForServer(name));
+                    serverCollectedAt.put(name, previousTime);
+                    topicBacklogs.put(name, previous.getTopicBacklog(name));
+                    if (pollScheduler.isOverdue(name)) {
+                        staleServers.add(name);
+                    }
+                }
+            }
+
+            List<QueueInfo> highVolumeQueues = tibcoEmsQueueService.selectHighVolumeQueues(queuesByServer.values());
+            // The first version is seeded from the clock so versions held by browsers stay
+            // unique across restarts and can never match a different snapshot
+            QueueSnapshot next = new QueueSnapshot(
+                    previous == QueueSnapshot.EMPTY ? collectedAt : previous.getVersion() + 1,
+                    collectedAt,
+                    highVolumeQueues,
+                    queuesByServer,
+                    tibcoEmsQueueService.getServerStatus(),
+                    serverCollectedAt,
+                    staleServers,
+                    topicBacklogs,
+                    previous);
+            // History first: anything served under the new snapshot's version must include it
+            collected.forEach((server, queues) -> queueHistoryStore.record(server, queues, collectedAt));
+            queueHistoryStore.pruneExpired(collectedAt);
+            Map<String, EmsServerStats> serverStats = tibcoEmsQueueService.getServerStats();
+            for (String server : collected.keySet()) {
+                EmsServerStats stats = serverStats.get(server);
+                if (stats != null) {
+                    serverStatsStore.record(server, stats);
+                }
+            }
+            serverStatsStore.pruneExpired(collectedAt);
+
+            snapshot.set(next);
+            rememberVersion(next);
+
+            logger.info("Published queue snapshot v{} ({} of {} servers due, {} polled, {} stale, {} missing, {} high-volume queues, {} durables) in {} ms",
+                    next.getVersion(), due.size(), servers.size(), collected.size(), staleServers.size(),
+                    servers.size() - queuesByServer.size(), highVolumeQueues.size(),
+                    topicBacklogs.values().stream().mapToInt(backlog -> backlog.durables().size()).sum(),
+                    collectedAt - started);
+        } catch (Exception e) {
+            logger.error("EMS collection sweep failed, keeping snapshot v{}: {}",
+                    snapshot.get().getVersion(), e.getMessage(), e);
+        } finally {
+            sweepTimer.record(System.currentTimeMillis() - started, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void rememberVersion(QueueSnapshot published) {
+        List<VersionedQueues> versions = new ArrayList<>(recentVersions);
+        versions.add(new VersionedQueues(published.getVersion(), published.getHighVolumeQueues()));
+        int keep = Math.max(1, settings.getDeltaHistory());
+        if (versions.size() > keep) {
+            versions = versions.subList(versions.size() - keep, versions.size());
+        }
+        recentVersions = List.copyOf(versions);
+    }
+}
@@ -0,0 +1,127 @@
+package com.integrationhub.dashboard.service;
+
+import com.integrationhub.dashboard.config.TibcoEmsProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks repeated failures per EMS server. After {@code failure-threshold} failed
+ * sweeps in a row the server is skipped for a backoff window that doubles (up to
+ * {@code max-backoff-ms}) each time a single probe attempt fails again, so a dead
+ * server stops costing a connect timeout on every sweep.
+ */
+@Component
+public class EmsServerCircuitBreaker {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmsServerCircuitBreaker.class);
+
+    public static final String CLOSED = "CLOSED";
+    public static final String OPEN = "OPEN";
+    public static final String HALF_OPEN = "HALF_OPEN";
+
+    public record CircuitState(String state, int consecutiveFailures, Long retryAt) {
+    }
+
+    private final TibcoEmsProperties.CircuitBreaker settings;
+    private final Map<String, ServerCircuit> circuits = new ConcurrentHashMap<>();
+
+    public EmsServerCircuitBreaker(TibcoEmsProperties tibcoEmsProperties) {
+        this.settings = tibcoEmsProperties.getCircuitBreaker();
+    }
+
+    /**
+     * Whether the server should be contacted now. Once the backoff window has
+     * elapsed exactly one caller is let through as the recovery probe.
+     */
+    public boolean allowRequest(String serverName) {
+        return circuit(serverName).allowRequest(System.currentTimeMillis());
+    }
+
+    public void recordSuccess(String serverName) {
+        circuit(serverName).recordSuccess();
+    }
+
+    public void recordFailure(String serverName) {
+        circuit(serverName).recordFailure(System.currentTimeMillis());
+    }
+
+    /**
+     * Hands back a request allowed by {@link #allowRequest} that was never made. A
+     * recovery probe given back this way is offered again on the next call.
+     */
+    public void releaseRequest(String serverName) {
+        circuit(serverName).releaseRequest();
+    }
+
+    public CircuitState getState(String serverName) {
+        return circuit(serverName).describe();
+    }
+
+    private ServerCircuit circuit(String serverName) {
+        return circuits.computeIfAbsent(serverName, ServerCircuit::new);
+    }
+
+    private final class ServerCircuit {
+        private final String serverName;
+        private String state = CLOSED;
+        private int consecutiveFailures;
+        private long backoffMs;
+        private long openUntil;
+
+        ServerCircuit(String serverName) {
+            this.serverName = serverName;
+        }
+
+        synchronized boolean allowRequest(long now) {
+            if (CLOSED.equals(state)) {
+                return true;
+            }
+            if (OPEN.equals(state) && now >= openUntil) {
+                state = HALF_OPEN;
+                logger.info("Probing EMS server {} after {} ms backoff", serverName, backoffMs);
+                return true;
+            }
+            return false;
+        }
+
+        synchronized void recordSuccess() {
+            if (!CLOSED.equals(state)) {
+                logger.info("EMS server {} recovered, closing circuit", serverName);
+            }
+            state = CLOSED;
+            consecutiveFailures = 0;
+            backoffMs = 0;
+            openUntil = 0;
+        }
+
+        synchronized void releaseRequest() {
+            if (HALF_OPEN.equals(state)) {
+                // The backoff window has already passed, so the next caller probes again
+                state = OPEN;
+            }
+        }
+
+        synchronized void recordFailure(long now) {
+            consecutiveFailures++;
+            if (HALF_OPEN.equals(state)) {
+                backoffMs = Math.min(backoffMs * 2, settings.getMaxBackoffMs());
+            } else if (CLOSED.equals(state) && consecutiveFailures >= settings.getFailureThreshold()) {
+                backoffMs = Math.min(settings.getInitialBackoffMs(), settings.getMaxBackoffMs());
+            } else {
+                return;
+            }
+            state = OPEN;
+            openUntil = now + backoffMs;
+            logger.warn("EMS server {} failed {} times in a row, skipping it for {} ms",
+                    serverName, consecutiveFailures, backoffMs);
+        }
+
+        synchronized CircuitState describe() {
+            return new CircuitState(state, consecutiveFailures, OPEN.equals(state) ? openUntil : null);
+        }
+    }
+}
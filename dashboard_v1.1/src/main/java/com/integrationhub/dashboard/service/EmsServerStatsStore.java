@@ -0,0 +1,109 @@
+package com.integrationhub.dashboard.service;
+
+import com.integrationhub.dashboard.config.TibcoEmsProperties;
+import com.integrationhub.dashboard.model.EmsServerStats;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory history of server statistics, one sample per successful poll. There are
+ * only as many series as servers, so samples are kept as they are, bounded by the
+ * history retention window and {@code max-server-samples} per server. The newest
+ * sample's memory usage and connection count are exported as gauges.
+ */
+@Component
+public class EmsServerStatsStore {
+
+    private final TibcoEmsProperties.History settings;
+    private final Map<String, ArrayDeque<EmsServerStats>> series = new ConcurrentHashMap<>();
+
+    public EmsServerStatsStore(TibcoEmsProperties tibcoEmsProperties, MeterRegistry meterRegistry) {
+        this.settings = tibcoEmsProperties.getHistory();
+        for (TibcoEmsProperties.Server server : tibcoEmsProperties.getServers()) {
+            String name = server.getName();
+            Gauge.builder("ems.server.message.memory.usage", this, store -> {
+                        EmsServerStats latest = store.getLatest(name);
+                        Double usage = latest == null ? null : latest.memoryUsagePercent();
+                        return usage == null ? Double.NaN : usage;
+                    })
+                    .description("Message memory in use as a percentage of the server's maximum")
+                    .baseUnit("percent")
+                    .tag("server", name)
+                    .register(meterRegistry);
+            Gauge.builder("ems.server.connections", this, store -> {
+                        EmsServerStats latest = store.getLatest(name);
+                        return latest == null || latest.connectionCount() == null ? Double.NaN : latest.connectionCount();
+                    })
+                    .description("Client connections to the server")
+                    .tag("server", name)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Appends a sample unless the server already has one at or after its timestamp, as
+     * when a server was not read again since the last sweep.
+     */
+    public void record(String serverName, EmsServerStats stats) {
+        ArrayDeque<EmsServerStats> samples = series.computeIfAbsent(serverName, k -> new ArrayDeque<>());
+        synchronized (samples) {
+            if (!samples.isEmpty() && samples.peekLast().timestamp() >= stats.timestamp()) {
+                return;
+            }
+            samples.addLast(stats);
+            while (samples.size() > Math.max(1, settings.getMaxServerSamples())) {
+                samples.pollFirst();
+            }
+        }
+    }
+
+    /**
+     * Drops samples older than the retention window and servers left with none.
+     */
+    public void pruneExpired(long now) {
+        long cutoff = now - settings.getRetentionMs();
+        series.values().removeIf(samples -> {
+            synchronized (samples) {
+                while (!samples.isEmpty() && samples.peekFirst().timestamp() < cutoff) {
+                    samples.pollFirst();
+                }
+                return samples.isEmpty();
+            }
+        });
+    }
+
+    /** Samples of a server at or after {@code since} (epoch milliseconds), oldest first. */
+    public List<EmsServerStats> getHistory(String serverName, long since) {
+        ArrayDeque<EmsServerStats> samples = series.get(serverName);
+        if (samples == null) {
+            return List.of();
+        }
+        List<EmsServerStats> result = new ArrayList<>();
+        synchronized (samples) {
+            for (EmsServerStats stats : samples) {
+                if (stats.timestamp() >= since) {
+                    result.add(stats);
+                }
+            }
+        }
+        return result;
+    }
+
+    /** The newest sample of a server, or null when it has none. */
+    public EmsServerStats getLatest(String serverName) {
+        ArrayDeque<EmsServerStats> samples = series.get(serverName);
+        if (samples == null) {
+            return null;
+        }
+        synchronized (samples) {
+            return samples.peekLast();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.integrationhub.dashboard.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder events for the dashboard's data paths. They cost next to nothing
+ * unless a recording is running (see {@link FlightRecordingService}); fields that take
+ * work to compute are only filled in when {@code shouldCommit()} says the event is kept.
+ */
+public final class FlightEvents {
+
+    private static final String CATEGORY = "Integration Dashboard";
+
+    private FlightEvents() {
+    }
+
+    @Name("com.integrationhub.dashboard.EmsServerFetch")
+    @Label("EMS Server Fetch")
+    @Description("Reading the queue inventory of one EMS server")
+    @Category({CATEGORY, "EMS"})
+    @StackTrace(false)
+    public static class EmsServerFetch extends Event {
+        @Label("Server")
+        public String server;
+
+        @Label("Queues")
+        public int queueCount;
+
+        @Label("Outcome")
+        public String outcome;
+    }
+
+    @Name("com.integrationhub.dashboard.HawkParse")
+    @Label("Hawk Parse")
+    @Description("Parsing the Hawk monitor file into application statuses")
+    @Category({CATEGORY, "Hawk"})
+    @StackTrace(false)
+    public static class HawkParse extends Event {
+        @Label("Source")
+        public String source;
+
+        @Label("Domains")
+        public int domainCount;
+
+        @Label("Lines")
+        public int lineCount;
+
+        @Label("Rows")
+        public int rowCount;
+
+        @Label("Size")
+        @DataAmount
+        public long bytes;
+    }
+
+    @Name("com.integrationhub.dashboard.ProcessMonitorLoad")
+    @Label("Process Monitor Load")
+    @Description("Reading and parsing the duplicate-process JSON file")
+    @Category({CATEGORY, "Process Monitor"})
+    @StackTrace(false)
+    public static class ProcessMonitorLoad extends Event {
+        @Label("Source")
+        public String source;
+
+        @Label("Rows")
+        public int rowCount;
+
+        @Label("Size")
+        @DataAmount
+        public long bytes;
+    }
+
+    @Name("com.integrationhub.dashboard.StatusQuery")
+    @Label("Status Query")
+    @Description("A system_status_monitoring query through SystemStatusMonitorRepository")
+    @Category({CATEGORY, "Database"})
+    @StackTrace(false)
+    public static class StatusQuery extends Event {
+        @Label("Method")
+        public String method;
+
+        @Label("Argument")
+        public String argument;
+
+        @Label("Rows")
+        public int rowCount;
+
+        @Label("Failed")
+        public boolean failed;
+    }
+}
@@ -0,0 +1,126 @@
+package com.integrationhub.dashboard.service;
+
+import com.integrationhub.dashboard.config.FlightRecordingProperties;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * One on-demand JDK Flight Recorder recording at a time, bounded in duration and size
+ * so a forgotten recording stops by itself and never fills the disk. Besides the JDK's
+ * own events it carries the dashboard's {@link FlightEvents}.
+ */
+@Service
+public class FlightRecordingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlightRecordingService.class);
+
+    public record RecordingStatus(String state,
+                                  String settings,
+                                  Instant startedAt,
+                                  Instant stoppedAt,
+                                  long maxDurationMs,
+                                  long maxSizeBytes,
+                                  long sizeBytes) {
+    }
+
+    private final FlightRecordingProperties properties;
+    private Recording recording;
+    private Path lastDump;
+
+    public FlightRecordingService(FlightRecordingProperties properties) {
+        this.properties = properties;
+    }
+
+    public synchronized RecordingStatus start() throws IOException, ParseException {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new IllegalStateException("A recording is already running");
+        }
+        closeRecording();
+
+        Recording next = new Recording(Configuration.getConfiguration(properties.getSettings()));
+        next.setName("integration-dashboard");
+        next.setToDisk(true);
+        next.setMaxSize(properties.getMaxSizeMb() * 1024 * 1024);
+        next.setDuration(Duration.ofMillis(properties.getMaxDurationMs()));
+        next.enable(FlightEvents.EmsServerFetch.class);
+        next.enable(FlightEvents.HawkParse.class);
+        next.enable(FlightEvents.ProcessMonitorLoad.class);
+        next.enable(FlightEvents.StatusQuery.class);
+        next.start();
+        recording = next;
+        logger.info("Started flight recording ({} settings, stops after {} ms or at {} MB)",
+                properties.getSettings(), properties.getMaxDurationMs(), properties.getMaxSizeMb());
+        return getStatus();
+    }
+
+    public synchronized RecordingStatus stop() {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            throw new IllegalStateException("No recording is running");
+        }
+        recording.stop();
+        logger.info("Stopped flight recording ({} bytes)", recording.getSize());
+        return getStatus();
+    }
+
+    public synchronized RecordingStatus getStatus() {
+        if (recording == null) {
+            return new RecordingStatus("NONE", properties.getSettings(), null, null,
+                    properties.getMaxDurationMs(), properties.getMaxSizeMb() * 1024 * 1024, 0);
+        }
+        return new RecordingStatus(recording.getState().name(), properties.getSettings(),
+                recording.getStartTime(), recording.getStopTime(),
+                properties.getMaxDurationMs(), recording.getMaxSize(), recording.getSize());
+    }
+
+    /**
+     * Writes what has been recorded so far to a temporary {@code .jfr} file; a running
+     * recording keeps going. Only the latest dump is kept on disk.
+     */
+    public synchronized Path dump() throws IOException {
+        if (recording == null || recording.getState() == RecordingState.CLOSED) {
+            throw new IllegalStateException("No recording to download; start one first");
+        }
+        Path target = Files.createTempFile("dashboard-", ".jfr");
+        recording.dump(target);
+        deleteLastDump();
+        lastDump = target;
+        return target;
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        closeRecording();
+        deleteLastDump();
+    }
+
+    private void closeRecording() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private void deleteLastDump() {
+        if (lastDump == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(lastDump);
+        } catch (IOException e) {
+            logger.debug("Could not delete {}: {}", lastDump, e.getMessage());
+        }
+        lastDump = null;
+    }
+}
@@ -0,0 +1,307 @@
+package com.integrationhub.dashboard.service;
+
+import com.integrationhub.dashboard.config.LiveUpdateProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Pushes dashboard data to browsers over Server-Sent Events. Each topic's source is
+ * checked on its own interval, but only while somebody subscribes to it, and an
+ * event goes out only when the serialized data differs from the last one sent.
+ * The data is JSON; a failing source publishes a {@code <topic>-error} event instead.
+ *
+ * <p>A topic is loaded and serialized only when its cheap data version moved since
+ * the last load. Sources that read a database or a file are loaded on their own
+ * threads, so a slow one never holds up the queue topic; their events are still
+ * published and sent from the hub's thread.
+ *
+ * <p>Event ids come from one sequence shared by all topics and seeded from the
+ * clock, so a browser reconnecting with {@code Last-Event-ID} (even across a
+ * restart) is sent just the topics that changed since then.
+ */
+@Component
+public class LiveUpdateHub {
+
+    private static final Logger logger = LoggerFactory.getLogger(LiveUpdateHub.class);
+
+    public static final String QUEUES = "queues";
+    public static final String HAWK = "hawk";
+    public static final String SHIPS = "ships";
+    public static final String DUPLICATES = "duplicates";
+
+    private static final long DEFAULT_CHECK_INTERVAL_MS = 30000;
+    private static final long TICK_MS = 1000;
+
+    private record Topic(String name, Supplier<String> version, Supplier<Object> source, long intervalMs,
+                         boolean slow) {
+    }
+
+    private record Loaded(String eventName, String json, String version) {
+    }
+
+    private record LiveEvent(long id, String name, String json, String version) {
+    }
+
+    private record Subscriber(SseEmitter emitter, Set<String> topics) {
+    }
+
+    private final JsonMapper jsonMapper;
+    private final LiveUpdateProperties properties;
+    private final Map<String, Topic> topics = new LinkedHashMap<>();
+    private final Map<String, LiveEvent> latest = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastChecked = new ConcurrentHashMap<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Set<String> loading = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong(System.currentTimeMillis());
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService loader;
+
+    public LiveUpdateHub(JsonMapper jsonMapper,
+                         LiveUpdateProperties properties,
+                         EmsQueueCollector emsQueueCollector,
+                         TibcoHawkService tibcoHawkService,
+                         SystemStatusMonitorService systemStatusMonitorService,
+                         TibcoProcessMonitorService tibcoProcessMonitorService,
+                         MeterRegistry meterRegistry) {
+        this.jsonMapper = jsonMapper;
+        this.properties = properties;
+
+        // Only the change from the previous snapshot is pushed; a browser that missed
+        // a version asks /api/queues/delta for the rest
+        register(QUEUES, () -> Long.toString(emsQueueCollector.getSnapshot().getVersion()), () -> Map.of(
+                "delta", emsQueueCollector.getLatestQueueDelta(),
+                "servers", emsQueueCollector.getServerOverview()), false);
+        register(HAWK, tibcoHawkService::getDataVersion, tibcoHawkService::getAllApplicationStatuses, true);
+        register(SHIPS, systemStatusMonitorService::getDataVersion,
+                systemStatusMonitorService::getAllSystemStatusesOrderedByDateTime, true);
+        register(DUPLICATES, tibcoProcessMonitorService::getDataVersion,
+                tibcoProcessMonitorService::getDuplicateProcesses, true);
+
+        // A plain ScheduledThreadPoolExecutor, so the executor metrics can see its queue
+        this.scheduler = ExecutorServiceMetrics.monitor(meterRegistry, new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "live-updates");
+            thread.setDaemon(true);
+            return thread;
+        }), "live-updates");
+        // One thread per slow topic, and each topic has at most one load in flight,
+        // so a hanging database never delays the file-backed topics either
+        int slowTopics = (int) topics.values().stream().filter(Topic::slow).count();
+        this.loader = ExecutorServiceMetrics.monitor(meterRegistry, Executors.newFixedThreadPool(slowTopics, runnable -> {
+            Thread thread = new Thread(runnable, "live-sources");
+            thread.setDaemon(true);
+            return thread;
+        }), "live-sources");
+        Gauge.builder("live.subscribers", subscribers, Set::size).register(meterRegistry);
+        scheduler.scheduleWithFixedDelay(this::checkTopics, TICK_MS, TICK_MS, TimeUnit.MILLISECONDS);
+        long heartbeatMs = Math.max(TICK_MS, properties.getHeartbeatMs());
+        scheduler.scheduleWithFixedDelay(this::sendHeartbeat, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void register(String name, Supplier<String> version, Supplier<Object> source, boolean slow) {
+        long intervalMs = properties.getCheckIntervalMs().getOrDefault(name, DEFAULT_CHECK_INTERVAL_MS);
+        topics.put(name, new Topic(name, version, source, Math.max(TICK_MS, intervalMs), slow));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        loader.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter().complete());
+        subscribers.clear();
+    }
+
+    /**
+     * Opens a stream for the given topics (unknown names are ignored). Topics that
+     * changed after {@code lastEventId}, or all of them when it is null, are sent
+     * right away. The subscriber is registered and sent those events on the hub's own
+     * thread, the one that pushes changes, so a newer push can never reach the browser
+     * before the older event it replaces.
+     */
+    public SseEmitter subscribe(Collection<String> requestedTopics, Long lastEventId) {
+        Set<String> wanted = new LinkedHashSet<>();
+        for (String topic : requestedTopics) {
+            if (topics.containsKey(topic)) {
+                wanted.add(topic);
+            }
+        }
+
+        SseEmitter emitter = new SseEmitter(properties.getStreamTimeoutMs());
+        Subscriber subscriber = new Subscriber(emitter, Set.copyOf(wanted));
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        scheduler.execute(() -> start(subscriber, lastEventId));
+        return emitter;
+    }
+
+    private void start(Subscriber subscriber, Long lastEventId) {
+        subscribers.add(subscriber);
+        boolean unchecked = false;
+        for (String topic : subscriber.topics()) {
+            LiveEvent event = latest.get(topic);
+            if (event == null) {
+                unchecked = true;
+            } else if (lastEventId == null || event.id() > lastEventId) {
+                send(subscriber, event);
+            }
+        }
+        if (unchecked) {
+            // First subscriber of a topic that has never been read: read it now, not on the next interval
+            checkTopics();
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    private void checkTopics() {
+        long now = System.currentTimeMillis();
+        for (Topic topic : topics.values()) {
+            if (!hasSubscribers(topic.name())) {
+                continue;
+            }
+            Long checkedAt = lastChecked.get(topic.name());
+            if (checkedAt != null && latest.containsKey(topic.name()) && now - checkedAt < topic.intervalMs()) {
+                continue;
+            }
+            if (!topic.slow()) {
+                lastChecked.put(topic.name(), now);
+                check(topic);
+            } else if (loading.add(topic.name())) {
+                lastChecked.put(topic.name(), now);
+                loader.execute(() -> {
+                    try {
+                        check(topic);
+                    } finally {
+                        loading.remove(topic.name());
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Loads the topic on the calling thread and publishes it on the hub's thread.
+     */
+    private void check(Topic topic) {
+        try {
+            Loaded loaded = load(topic);
+            if (loaded == null) {
+                return;
+            }
+            if (topic.slow()) {
+                scheduler.execute(() -> publish(topic, loaded));
+            } else {
+                publish(topic, loaded);
+            }
+        } catch (RuntimeException e) {
+            // Never let one topic stop the scheduled task for all of them
+            logger.warn("Live update check of {} failed: {}", topic.name(), e.getMessage());
+        }
+    }
+
+    /**
+     * Serialized data of the topic, or null when its version is still the one last
+     * published. A version that cannot be read always leads to a full load.
+     */
+    private Loaded load(Topic topic) {
+        String version;
+        try {
+            version = topic.version().get();
+        } catch (RuntimeException e) {
+            logger.debug("Live update version of {} failed: {}", topic.name(), e.getMessage());
+            version = null;
+        }
+        LiveEvent previous = latest.get(topic.name());
+        if (version != null && previous != null && version.equals(previous.version())) {
+            return null;
+        }
+
+        try {
+            return new Loaded(topic.name(), jsonMapper.writeValueAsString(topic.source().get()), version);
+        } catch (Exception e) {
+            logger.debug("Live update source {} failed: {}", topic.name(), e.getMessage());
+            return new Loaded(topic.name() + "-error",
+                    jsonMapper.writeValueAsString(Map.of("message", String.valueOf(e.getMessage()))), null);
+        }
+    }
+
+    private void publish(Topic topic, Loaded loaded) {
+        String eventName = loaded.eventName();
+        String json = loaded.json();
+        LiveEvent previous = latest.get(topic.name());
+        if (previous != null && previous.name().equals(eventName) && previous.json().equals(json)) {
+            // Same data under a new version: remember the version so it is not loaded again
+            latest.put(topic.name(), new LiveEvent(previous.id(), eventName, json, loaded.version()));
+            return;
+        }
+        LiveEvent event = new LiveEvent(sequence.incrementAndGet(), eventName, json, loaded.version());
+        latest.put(topic.name(), event);
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.topics().contains(topic.name())) {
+                send(subscriber, event);
+            }
+        }
+        logger.debug("Pushed {} event {} ({} bytes)", eventName, event.id(), json.length());
+    }
+
+    private boolean hasSubscribers(String topic) {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.topics().contains(topic)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void sendHeartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            try {
+                subscriber.emitter().send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException e) {
+                drop(subscriber, e);
+            }
+        }
+    }
+
+    private void send(Subscriber subscriber, LiveEvent event) {
+        try {
+            subscriber.emitter().send(SseEmitter.event()
+                    .id(Long.toString(event.id()))
+                    .name(event.name())
+                    .data(event.json(), MediaType.TEXT_PLAIN));
+        } catch (IOException | IllegalStateException e) {
+            drop(subscriber, e);
+        }
+    }
+
+    private void drop(Subscriber subscriber, Exception cause) {
+        // The browser went away; EventSource reconnects on its own if it is still open
+        subscribers.remove(subscriber);
+        subscriber.emitter().completeWithError(cause);
+    }
+}
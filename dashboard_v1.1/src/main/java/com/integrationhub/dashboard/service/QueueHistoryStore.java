@@ -0,0 +1,354 @@
+package com.integrationhub.dashboard.service;
+
+import com.integrationhub.dashboard.config.TibcoEmsProperties;
+import com.integrationhub.dashboard.model.QueueDepthPoint;
+import com.integrationhub.dashboard.model.QueueInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory queue-depth history keyed by (server, queue).
+ *
+ * <p>The newest samples of each queue sit in a small buffer of primitive {@code long}
+ * arrays. When the buffer fills up it is sealed into an immutable block where
+ * timestamps are stored as delta-of-delta and depths as deltas, both as zigzag
+ * varints. Sweeps run on a fixed interval and most depths barely move, so a sealed
+ * sample usually costs two bytes. Blocks older than the retention window are
+ * dropped.
+ *
+ * <p>{@code max-bytes} bounds the sealed blocks and the raw buffers of every series
+ * together, each charged with a fixed estimate of its object overhead on a 64-bit JVM
+ * with compressed references: {@link #BLOCK_OVERHEAD_BYTES} per block and
+ * {@link #SERIES_OVERHEAD_BYTES} plus the key length per series. Once a sweep takes the
+ * total over it, the oldest blocks across all series are dropped, then, if that is not
+ * enough, the series that were written least recently, until the total is back under
+ * nine tenths of the budget so the next few sweeps do not have to evict again. The
+ * heap held by the store therefore stays within {@code max-bytes} plus what a single
+ * sweep adds, give or take the error of those estimates (ArrayDeque growth and keys
+ * with non-Latin-1 characters are not counted).
+ */
+@Component
+public class QueueHistoryStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueueHistoryStore.class);
+
+    private final TibcoEmsProperties.History settings;
+    /** Bytes held by one buffered sample: a timestamp and a depth. */
+    private static final int RAW_SAMPLE_BYTES = 2 * Long.BYTES;
+    /**
+     * Bytes a sealed block costs besides its data: the Block object (48), the header of
+     * its byte array (16) and its slot in the series deque, rounded up.
+     */
+    static final int BLOCK_OVERHEAD_BYTES = 72;
+    /**
+     * Bytes a series costs besides its samples and blocks: the QueueSeries object (40),
+     * its empty ArrayDeque (104), the headers of both sample arrays (32), the map entry
+     * (40) and the key String without its characters (40).
+     */
+    static final int SERIES_OVERHEAD_BYTES = 256;
+
+    private final Map<String, QueueSeries> series = new ConcurrentHashMap<>();
+    private final AtomicLong compressedBytes = new AtomicLong();
+    private final AtomicLong rawBytes = new AtomicLong();
+    private final AtomicLong overheadBytes = new AtomicLong();
+
+    public QueueHistoryStore(TibcoEmsProperties tibcoEmsProperties) {
+        this.settings = tibcoEmsProperties.getHistory();
+    }
+
+    /**
+     * Appends one sample per queue for a server collected at the given time.
+     */
+    public void record(String serverName, List<QueueInfo> queues, long collectedAt) {
+        long seconds = collectedAt / 1000;
+        for (QueueInfo queue : queues) {
+            series.computeIfAbsent(key(serverName, queue.getQueueName()), QueueSeries::new)
+                    .append(seconds, queue.getMessageCount());
+        }
+        if (getUsedBytes() > settings.getMaxBytes()) {
+            evict(settings.getMaxBytes() / 10 * 9);
+        }
+    }
+
+    /**
+     * Drops blocks older than the retention window and series left with no samples in it.
+     */
+    public void pruneExpired(long now) {
+        long cutoff = (now - settings.getRetentionMs()) / 1000;
+        int removed = 0;
+        for (Iterator<QueueSeries> it = series.values().iterator(); it.hasNext(); ) {
+            QueueSeries queueSeries = it.next();
+            if (queueSeries.pruneBefore(cutoff)) {
+                it.remove();
+                queueSeries.release();
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            logger.info("Dropped history for {} queues with no samples in the retention window", removed);
+        }
+    }
+
+    public List<QueueDepthPoint> getHistory(String serverName, String queueName, long since) {
+        QueueSeries queueSeries = series.get(key(serverName, queueName));
+        return queueSeries == null ? List.of() : queueSeries.read(since / 1000);
+    }
+
+    public int getSeriesCount() {
+        return series.size();
+    }
+
+    public long getCompressedBytes() {
+        return compressedBytes.get();
+    }
+
+    /** Sealed blocks plus the raw sample buffers of every series, with their object overhead. */
+    public long getUsedBytes() {
+        return compressedBytes.get() + rawBytes.get() + overheadBytes.get();
+    }
+
+    /**
+     * Drops the oldest blocks across all series, then the least recently written series,
+     * until no more than {@code target} bytes are in use.
+     */
+    private void evict(long target) {
+        int blocksDropped = 0;
+        PriorityQueue<QueueSeries> byOldestBlock = new PriorityQueue<>(
+                Comparator.comparingLong(QueueSeries::oldestBlockTimestamp));
+        for (QueueSeries queueSeries : series.values()) {
+            if (queueSeries.oldestBlockTimestamp() != Long.MAX_VALUE) {
+                byOldestBlock.add(queueSeries);
+            }
+        }
+        while (getUsedBytes() > target && !byOldestBlock.isEmpty()) {
+            QueueSeries oldest = byOldestBlock.poll();
+            oldest.dropOldestBlock();
+            blocksDropped++;
+            if (oldest.oldestBlockTimestamp() != Long.MAX_VALUE) {
+                byOldestBlock.add(oldest);
+            }
+        }
+
+        int seriesDropped = 0;
+        if (getUsedBytes() > target) {
+            List<Map.Entry<String, QueueSeries>> idleFirst = new ArrayList<>(series.entrySet());
+            idleFirst.sort(Comparator.comparingLong(entry -> entry.getValue().newestTimestamp()));
+            for (Map.Entry<String, QueueSeries> entry : idleFirst) {
+                if (getUsedBytes() <= target) {
+                    break;
+                }
+                if (series.remove(entry.getKey(), entry.getValue())) {
+                    entry.getValue().release();
+                    seriesDropped++;
+                }
+            }
+        }
+        logger.warn("Queue history over its {} byte budget: dropped {} blocks and {} series, {} bytes in use",
+                settings.getMaxBytes(), blocksDropped, seriesDropped, getUsedBytes());
+    }
+
+    private static String key(String serverName, String queueName) {
+        return serverName + '\u0000' + queueName;
+    }
+
+    private final class QueueSeries {
+        private final ArrayDeque<Block> blocks = new ArrayDeque<>();
+        private long[] timestamps = new long[4];
+        private long[] values = new long[4];
+        private int size;
+        private final int overhead;
+        private boolean released;
+
+        QueueSeries(String key) {
+            overhead = SERIES_OVERHEAD_BYTES + key.length();
+            rawBytes.addAndGet((long) timestamps.length * RAW_SAMPLE_BYTES);
+            overheadBytes.addAndGet(overhead);
+        }
+
+        synchronized void append(long timestamp, long value) {
+            if (released) {
+                return; // evicted while a sweep was still writing to it
+            }
+            if (size > 0 && timestamps[size - 1] >= timestamp) {
+                return; // same sweep second recorded twice
+            }
+            if (size == timestamps.length) {
+                if (size >= settings.getBlockSize()) {
+                    seal();
+                } else {
+                    int grown = Math.min(settings.getBlockSize(), size * 2);
+                    rawBytes.addAndGet((long) (grown - timestamps.length) * RAW_SAMPLE_BYTES);
+                    timestamps = Arrays.copyOf(timestamps, grown);
+                    values = Arrays.copyOf(values, grown);
+                }
+            }
+            timestamps[size] = timestamp;
+            values[size] = value;
+            size++;
+        }
+
+        /** Returns true when the series holds nothing newer than the cutoff. */
+        synchronized boolean pruneBefore(long cutoff) {
+            while (!blocks.isEmpty() && blocks.peekFirst().lastTimestamp < cutoff) {
+                forget(blocks.pollFirst());
+            }
+            return blocks.isEmpty() && (size == 0 || timestamps[size - 1] < cutoff);
+        }
+
+        /** First timestamp of the oldest sealed block, or {@code Long.MAX_VALUE} without one. */
+        synchronized long oldestBlockTimestamp() {
+            return blocks.isEmpty() ? Long.MAX_VALUE : blocks.peekFirst().firstTimestamp;
+        }
+
+        /** Timestamp of the newest sample, or {@code Long.MIN_VALUE} when empty. */
+        synchronized long newestTimestamp() {
+            if (size > 0) {
+                return timestamps[size - 1];
+            }
+            return blocks.isEmpty() ? Long.MIN_VALUE : blocks.peekLast().lastTimestamp;
+        }
+
+        synchronized void dropOldestBlock() {
+            if (!blocks.isEmpty()) {
+                forget(blocks.pollFirst());
+            }
+        }
+
+        /** Gives back everything the series holds once it is removed from the store. */
+        synchronized void release() {
+            for (Block block : blocks) {
+                forget(block);
+            }
+            blocks.clear();
+            if (!released) {
+                rawBytes.addAndGet(-(long) timestamps.length * RAW_SAMPLE_BYTES);
+                overheadBytes.addAndGet(-overhead);
+                released = true;
+            }
+            size = 0;
+        }
+
+        synchronized List<QueueDepthPoint> read(long sinceSeconds) {
+            List<QueueDepthPoint> points = new ArrayList<>();
+            for (Block block : blocks) {
+                if (block.lastTimestamp >= sinceSeconds) {
+                    block.decodeInto(points, sinceSeconds);
+                }
+            }
+            for (int i = 0; i < size; i++) {
+                if (timestamps[i] >= sinceSeconds) {
+                    points.add(new QueueDepthPoint(timestamps[i] * 1000, values[i]));
+                }
+            }
+            return points;
+        }
+
+        private void seal() {
+            Block block = Block.encode(timestamps, values, size);
+            blocks.addLast(block);
+            size = 0;
+            compressedBytes.addAndGet(block.data.length);
+            overheadBytes.addAndGet(BLOCK_OVERHEAD_BYTES);
+        }
+
+        private void forget(Block block) {
+            compressedBytes.addAndGet(-block.data.length);
+            overheadBytes.addAndGet(-BLOCK_OVERHEAD_BYTES);
+        }
+    }
+
+    /**
+     * Sealed run of samples. The first sample is kept verbatim; each following one is
+     * written as zigzag varints of (timestamp delta-of-delta, value delta).
+     */
+    private static final class Block {
+        final long firstTimestamp;
+        final long firstValue;
+        final long lastTimestamp;
+        final int count;
+        final byte[] data;
+
+        private Block(long firstTimestamp, long firstValue, long lastTimestamp, int count, byte[] data) {
+            this.firstTimestamp = firstTimestamp;
+            this.firstValue = firstValue;
+            this.lastTimestamp = lastTimestamp;
+            this.count = count;
+            this.data = data;
+        }
+
+        static Block encode(long[] timestamps, long[] values, int count) {
+            byte[] buffer = new byte[count * 4];
+            int pos = 0;
+            long previousDelta = 0;
+            for (int i = 1; i < count; i++) {
+                long delta = timestamps[i] - timestamps[i - 1];
+                while (buffer.length - pos < 20) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+                pos = writeVarLong(buffer, pos, zigzag(delta - previousDelta));
+                pos = writeVarLong(buffer, pos, zigzag(values[i] - values[i - 1]));
+                previousDelta = delta;
+            }
+            return new Block(timestamps[0], values[0], timestamps[count - 1], count, Arrays.copyOf(buffer, pos));
+        }
+
+        void decodeInto(List<QueueDepthPoint> points, long sinceSeconds) {
+            long timestamp = firstTimestamp;
+            long value = firstValue;
+            long delta = 0;
+            int[] pos = {0};
+            if (timestamp >= sinceSeconds) {
+                points.add(new QueueDepthPoint(timestamp * 1000, value));
+            }
+            for (int i = 1; i < count; i++) {
+                delta += unzigzag(readVarLong(data, pos));
+                timestamp += delta;
+                value += unzigzag(readVarLong(data, pos));
+                if (timestamp >= sinceSeconds) {
+                    points.add(new QueueDepthPoint(timestamp * 1000, value));
+                }
+            }
+        }
+
+        private static long zigzag(long n) {
+            return (n << 1) ^ (n >> 63);
+        }
+
+        private static long unzigzag(long n) {
+            return (n >>> 1) ^ -(n & 1);
+        }
+
+        private static int writeVarLong(byte[] buffer, int pos, long value) {
+            while ((value & ~0x7FL) != 0) {
+                buffer[pos++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[pos++] = (byte) value;
+            return pos;
+        }
+
+        private static long readVarLong(byte[] buffer, int[] pos) {
+            long result = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = buffer[pos[0]++];
+                result |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return result;
+        }
+    }
+}
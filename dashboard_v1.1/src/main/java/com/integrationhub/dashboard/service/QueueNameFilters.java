@@ -0,0 +1,78 @@
+package com.integrationhub.dashboard.service;
+
+import com.integrationhub.dashboard.config.TibcoEmsProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Queue-name filters from {@code tibco.ems.filters} and the per-server
+ * {@code exclude}/{@code include} lists, compiled once per server at startup.
+ *
+ * <ul>
+ *   <li>{@code inventory-exclude}: queues dropped from a server's inventory entirely</li>
+ *   <li>{@code exclude}: queues never shown in the dashboard's high-volume list</li>
+ *   <li>{@code include}: when not empty, only matching queues are shown in that list</li>
+ * </ul>
+ * Server-level lists add to the global ones.
+ */
+@Component
+public class QueueNameFilters {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueueNameFilters.class);
+
+    private record ServerFilter(QueueNameMatcher exclude, QueueNameMatcher include) {
+    }
+
+    private final QueueNameMatcher inventoryExclude;
+    private final ServerFilter defaultFilter;
+    private final Map<String, ServerFilter> serverFilters = new HashMap<>();
+
+    public QueueNameFilters(TibcoEmsProperties tibcoEmsProperties) {
+        TibcoEmsProperties.Filters filters = tibcoEmsProperties.getFilters();
+        this.inventoryExclude = QueueNameMatcher.compile(filters.getInventoryExclude());
+        this.defaultFilter = new ServerFilter(
+                QueueNameMatcher.compile(filters.getExclude()),
+                QueueNameMatcher.compile(filters.getInclude()));
+
+        for (TibcoEmsProperties.Server server : tibcoEmsProperties.getServers()) {
+            if (server.getExclude().isEmpty() && server.getInclude().isEmpty()) {
+                continue;
+            }
+            serverFilters.put(server.getName(), new ServerFilter(
+                    QueueNameMatcher.compile(concat(filters.getExclude(), server.getExclude())),
+                    QueueNameMatcher.compile(concat(filters.getInclude(), server.getInclude()))));
+            logger.info("Queue filters for {}: exclude={} include={}",
+                    server.getName(), server.getExclude(), server.getInclude());
+        }
+    }
+
+    /**
+     * Whether a queue belongs in the server inventory at all.
+     */
+    public boolean keepInInventory(String queueName) {
+        return !inventoryExclude.matches(queueName);
+    }
+
+    /**
+     * Whether a queue may appear in the dashboard's high-volume list.
+     */
+    public boolean accepts(String serverName, String queueName) {
+        ServerFilter filter = serverFilters.getOrDefault(serverName, defaultFilter);
+        if (filter.exclude().matches(queueName)) {
+            return false;
+        }
+        return filter.include().isEmpty() || filter.include().matches(queueName);
+    }
+
+    private static List<String> concat(List<String> first, List<String> second) {
+        List<String> combined = new ArrayList<>(first);
+        combined.addAll(second);
+        return combined;
+    }
+}
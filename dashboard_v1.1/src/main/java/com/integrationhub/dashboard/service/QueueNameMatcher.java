@@ -0,0 +1,142 @@
+package com.integrationhub.dashboard.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeSet;
+
+/**
+ * Case-insensitive "contains any of" matcher for queue names, compiled once into an
+ * Aho-Corasick automaton. The failure links are folded into a dense transition
+ * table, so {@link #matches} is a single pass over the name with one array lookup
+ * per character and no allocation.
+ */
+public final class QueueNameMatcher {
+
+    private static final QueueNameMatcher NONE = new QueueNameMatcher(List.of());
+
+    /** Symbol 0 stands for every character that appears in no pattern. */
+    private final int[] asciiSymbols = new int[128];
+    private final char[] otherChars;
+    private final int alphabetSize;
+    private final int[] transitions;
+    private final boolean[] accepting;
+    private final boolean empty;
+
+    private QueueNameMatcher(Collection<String> rawPatterns) {
+        List<String> patterns = new ArrayList<>();
+        for (String pattern : rawPatterns) {
+            if (pattern != null && !pattern.isBlank()) {
+                patterns.add(pattern.trim().toUpperCase(Locale.ROOT));
+            }
+        }
+        this.empty = patterns.isEmpty();
+
+        // Alphabet: upper-cased pattern characters, ASCII through a table, the rest sorted
+        TreeSet<Character> others = new TreeSet<>();
+        int nextSymbol = 1;
+        for (String pattern : patterns) {
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                if (c < 128) {
+                    if (asciiSymbols[c] == 0) {
+                        asciiSymbols[c] = nextSymbol++;
+                    }
+                } else {
+                    others.add(c);
+                }
+            }
+        }
+        this.otherChars = new char[others.size()];
+        int index = 0;
+        for (char c : others) {
+            otherChars[index++] = c;
+        }
+        this.alphabetSize = nextSymbol + otherChars.length;
+
+        // Trie
+        int maxStates = 1 + patterns.stream().mapToInt(String::length).sum();
+        int[] trie = new int[maxStates * alphabetSize];
+        Arrays.fill(trie, -1);
+        boolean[] output = new boolean[maxStates];
+        int states = 1;
+        for (String pattern : patterns) {
+            int state = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                int slot = state * alphabetSize + symbol(pattern.charAt(i));
+                if (trie[slot] < 0) {
+                    trie[slot] = states++;
+                }
+                state = trie[slot];
+            }
+            output[state] = true;
+        }
+
+        // Breadth-first failure links, folded into a complete transition table
+        int[] failure = new int[states];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int s = 0; s < alphabetSize; s++) {
+            int child = trie[s];
+            if (child < 0) {
+                trie[s] = 0;
+            } else {
+                failure[child] = 0;
+                queue.add(child);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            output[state] |= output[failure[state]];
+            for (int s = 0; s < alphabetSize; s++) {
+                int slot = state * alphabetSize + s;
+                int child = trie[slot];
+                int fallback = trie[failure[state] * alphabetSize + s];
+                if (child < 0) {
+                    trie[slot] = fallback;
+                } else {
+                    failure[child] = fallback;
+                    queue.add(child);
+                }
+            }
+        }
+
+        this.transitions = Arrays.copyOf(trie, states * alphabetSize);
+        this.accepting = Arrays.copyOf(output, states);
+    }
+
+    public static QueueNameMatcher compile(Collection<String> patterns) {
+        return patterns == null || patterns.isEmpty() ? NONE : new QueueNameMatcher(patterns);
+    }
+
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    /**
+     * True if the name contains any of the patterns, ignoring case.
+     */
+    public boolean matches(CharSequence name) {
+        if (empty || name == null) {
+            return false;
+        }
+        int state = 0;
+        for (int i = 0, length = name.length(); i < length; i++) {
+            state = transitions[state * alphabetSize + symbol(Character.toUpperCase(name.charAt(i)))];
+            if (accepting[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int symbol(char c) {
+        if (c < 128) {
+            return asciiSymbols[c];
+        }
+        int found = Arrays.binarySearch(otherChars, c);
+        return found < 0 ? 0 : alphabetSize - otherChars.length + found;
+    }
+}
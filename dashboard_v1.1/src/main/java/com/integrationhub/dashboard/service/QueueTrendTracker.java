@@ -0,0 +1,70 @@
+package com.integrationhub.dashboard.service;
+
+import com.integrationhub.dashboard.config.TibcoEmsProperties;
+import com.integrationhub.dashboard.model.QueueInfo;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps an exponentially weighted moving average of each queue's growth rate,
+ * updated from the previous sample only. Sweep intervals vary, so the weight of a
+ * new sample is {@code 1 - exp(-dt / smoothing)} rather than a fixed alpha.
+ */
+@Component
+public class QueueTrendTracker {
+
+    private final double smoothingSeconds;
+    private final Map<String, Map<String, TrendState>> statesByServer = new ConcurrentHashMap<>();
+
+    public QueueTrendTracker(TibcoEmsProperties tibcoEmsProperties) {
+        this.smoothingSeconds = Math.max(1, tibcoEmsProperties.getTrend().getSmoothingSeconds());
+    }
+
+    /**
+     * Updates the trend of every queue in a fresh server inventory and stores the
+     * result on the {@link QueueInfo}s. Queues missing from the inventory are forgotten.
+     */
+    public void update(String serverName, List<QueueInfo> queues, long collectedAt) {
+        Map<String, TrendState> previous = statesByServer.getOrDefault(serverName, Map.of());
+        Map<String, TrendState> current = new HashMap<>(Math.max(16, queues.size() * 4 / 3 + 1));
+
+        for (QueueInfo queue : queues) {
+            TrendState state = previous.get(queue.getQueueName());
+            if (state == null) {
+                state = new TrendState(queue.getMessageCount(), collectedAt);
+            } else {
+                state.update(queue.getMessageCount(), collectedAt, smoothingSeconds);
+            }
+            queue.setTrend(state.rate);
+            current.put(queue.getQueueName(), state);
+        }
+        statesByServer.put(serverName, current);
+    }
+
+    private static final class TrendState {
+        long lastCount;
+        long lastTimestamp;
+        double rate;
+
+        TrendState(long count, long timestamp) {
+            this.lastCount = count;
+            this.lastTimestamp = timestamp;
+        }
+
+        void update(long count, long timestamp, double smoothingSeconds) {
+            double elapsedSeconds = (timestamp - lastTimestamp) / 1000.0;
+            if (elapsedSeconds <= 0) {
+                return;
+            }
+            double instantRate = (count - lastCount) / elapsedSeconds;
+            double weight = 1 - Math.exp(-elapsedSeconds / smoothingSeconds);
+            rate += weight * (instantRate - rate);
+            lastCount = count;
+            lastTimestamp = timestamp;
+        }
+    }
+}
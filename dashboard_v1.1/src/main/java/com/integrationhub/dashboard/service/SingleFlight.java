@@ -0,0 +1,114 @@
+package com.integrationhub.dashboard.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent calls for the same operation and arguments into one. The
+ * first caller runs the work; callers arriving while it is in flight wait for it
+ * and get the same result (or exception). Nothing is cached once the call returns.
+ */
+@Component
+public class SingleFlight {
+
+    private record FlightKey(String operation, List<Object> arguments) {
+    }
+
+    /**
+     * Call counts for one operation. {@code coalescingRatio} is the share of calls
+     * that were answered by another caller's execution.
+     */
+    public record FlightStats(long calls, long executions, long coalesced, double coalescingRatio) {
+    }
+
+    private static final class Counters {
+        final LongAdder calls = new LongAdder();
+        final LongAdder coalesced = new LongAdder();
+    }
+
+    private final Map<FlightKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public SingleFlight(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T execute(String operation, Supplier<T> work) {
+        return execute(operation, List.of(), work);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, List<?> arguments, Supplier<T> work) {
+        Counters stats = counters.computeIfAbsent(operation, this::register);
+        stats.calls.increment();
+
+        FlightKey key = new FlightKey(operation, new ArrayList<>(arguments));
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            stats.coalesced.increment();
+            try {
+                return (T) leader.join();
+            } catch (CompletionException e) {
+                throw rethrow(e.getCause());
+            }
+        }
+
+        try {
+            T result = work.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private Counters register(String operation) {
+        Counters stats = new Counters();
+        FunctionCounter.builder("singleflight.calls", stats, counter -> counter.calls.sum())
+                .tag("operation", operation)
+                .register(meterRegistry);
+        FunctionCounter.builder("singleflight.coalesced", stats, counter -> counter.coalesced.sum())
+                .description("Calls answered by another caller's execution")
+                .tag("operation", operation)
+                .register(meterRegistry);
+        return stats;
+    }
+
+    public Map<String, FlightStats> getStats() {
+        Map<String, FlightStats> result = new LinkedHashMap<>();
+        new TreeMap<>(counters).forEach((operation, stats) -> {
+            long calls = stats.calls.sum();
+            long coalesced = stats.coalesced.sum();
+            result.put(operation, new FlightStats(calls, calls - coalesced, coalesced,
+                    calls == 0 ? 0 : (double) coalesced / calls));
+        });
+        return result;
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new CompletionException(cause);
+    }
+}
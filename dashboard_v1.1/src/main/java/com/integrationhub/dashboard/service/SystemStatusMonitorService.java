@@ -7,6 +7,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 
 @Service
 @Transactional(readOnly = true)
@@ -22,70 +24,73 @@ public class SystemStatusMonitorService {
      * Get all system status records
      */
     public List<SystemStatusMonitor> getAllSystemStatuses() {
-        return repository.findAll();
+        return recorded("findAll", null, repository::findAll, List::size);
     }
     
     /**
      * Get all system status records ordered by system date time
      */
     public List<SystemStatusMonitor> getAllSystemStatusesOrderedByDateTime() {
-        return repository.findAllByOrderBySsmSystemDateTimeDesc();
+        return recorded("findAllByOrderBySsmSystemDateTimeDesc", null,
+                repository::findAllByOrderBySsmSystemDateTimeDesc, List::size);
     }
     
     /**
      * Get system status by system name
      */
     public Optional<SystemStatusMonitor> getSystemStatusByName(String systemName) {
-        return repository.findBySsmSystemName(systemName);
+        return recorded("findBySsmSystemName", systemName,
+                () -> repository.findBySsmSystemName(systemName), SystemStatusMonitorService::rows);
     }
     
     /**
      * Get system statuses by ship code
      */
     public List<SystemStatusMonitor> getSystemStatusesByShipCode(String shipCode) {
-        return repository.findBySsmShipCode(shipCode);
+        return recorded("findBySsmShipCode", shipCode, () -> repository.findBySsmShipCode(shipCode), List::size);
     }
     
     /**
      * Get system status by ship code and system name
      */
     public Optional<SystemStatusMonitor> getSystemStatusByShipCodeAndName(String shipCode, String systemName) {
-        return repository.findBySsmShipCodeAndSsmSystemName(shipCode, systemName);
+        return recorded("findBySsmShipCodeAndSsmSystemName", shipCode + "/" + systemName,
+                () -> repository.findBySsmShipCodeAndSsmSystemName(shipCode, systemName), SystemStatusMonitorService::rows);
     }
     
     /**
      * Get system status by ID
      */
     public Optional<SystemStatusMonitor> getSystemStatusById(Long id) {
-        return repository.findById(id);
+        return recorded("findById", String.valueOf(id), () -> repository.findById(id), SystemStatusMonitorService::rows);
     }
     
     /**
      * Get all running systems
      */
     public List<SystemStatusMonitor> getRunningSystemsStatuses() {
-        return repository.findBySsmSystemStatusIgnoreCase("RUNNING");
+        return findByStatus("RUNNING");
     }
     
     /**
      * Get all systems in outage
      */
     public List<SystemStatusMonitor> getOutageSystemsStatuses() {
-        return repository.findBySsmSystemStatusIgnoreCase("OUTAGE");
+        return findByStatus("OUTAGE");
     }
     
     /**
      * Get systems by type
      */
     public List<SystemStatusMonitor> getSystemStatusesByType(String systemType) {
-        return repository.findBySsmSystemType(systemType);
+        return recorded("findBySsmSystemType", systemType, () -> repository.findBySsmSystemType(systemType), List::size);
     }
     
     /**
      * Check if a specific system is running
      */
     public boolean isSystemRunning(String systemName) {
-        return repository.findBySsmSystemName(systemName)
+        return getSystemStatusByName(systemName)
                 .map(SystemStatusMonitor::isRunning)
                 .orElse(false);
     }
@@ -94,22 +99,65 @@ public class SystemStatusMonitorService {
      * Check if a specific system is in outage
      */
     public boolean isSystemInOutage(String systemName) {
-        return repository.findBySsmSystemName(systemName)
+        return getSystemStatusByName(systemName)
                 .map(SystemStatusMonitor::isInOutage)
                 .orElse(false);
     }
     
+    /**
+     * Version of the status table as a whole, for conditional requests; one
+     * aggregate query instead of loading and serializing the rows. It follows
+     * inserts, deletes and status changes that advance the status time, not
+     * edits that leave the timestamps alone.
+     */
+    public String getDataVersion() {
+        return "ships-" + recorded("findDataVersion", null, repository::findDataVersion, version -> 1);
+    }
+    
     /**
      * Get count of running systems
      */
     public long getRunningSystemsCount() {
-        return repository.findBySsmSystemStatusIgnoreCase("RUNNING").size();
+        return findByStatus("RUNNING").size();
     }
     
     /**
      * Get count of systems in outage
      */
     public long getOutageSystemsCount() {
-        return repository.findBySsmSystemStatusIgnoreCase("OUTAGE").size();
+        return findByStatus("OUTAGE").size();
+    }
+    
+    private List<SystemStatusMonitor> findByStatus(String status) {
+        return recorded("findBySsmSystemStatusIgnoreCase", status,
+                () -> repository.findBySsmSystemStatusIgnoreCase(status), List::size);
+    }
+    
+    /**
+     * Runs a repository call inside a Flight Recorder {@link FlightEvents.StatusQuery} event
+     */
+    private <R> R recorded(String method, String argument, Supplier<R> query, ToIntFunction<R> rows) {
+        FlightEvents.StatusQuery event = new FlightEvents.StatusQuery();
+        event.begin();
+        R result = null;
+        boolean completed = false;
+        try {
+            result = query.get();
+            completed = true;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.method = method;
+                event.argument = argument;
+                event.failed = !completed;
+                event.rowCount = completed && result != null ? rows.applyAsInt(result) : 0;
+                event.commit();
+            }
+        }
+    }
+    
+    private static int rows(Optional<?> result) {
+        return result.isPresent() ? 1 : 0;
     }
 }
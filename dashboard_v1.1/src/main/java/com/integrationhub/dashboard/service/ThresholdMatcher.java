@@ -0,0 +1,161 @@
+package com.integrationhub.dashboard.service;
+
+import com.integrationhub.dashboard.config.TibcoEmsProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Threshold rules compiled into token tries, one per server with rules of its own and
+ * one for rules that apply everywhere. A lookup walks the destination name one
+ * element at a time, trying the literal element before {@code *} and {@code >} last,
+ * so the most specific rule wins and the cost follows the length of the name rather
+ * than the number of rules. Server rules win over global ones; when two rules have
+ * the same pattern and scope, the later one wins.
+ */
+final class ThresholdMatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(ThresholdMatcher.class);
+
+    /** Warning and critical message counts, and the pattern they came from (null for the defaults). */
+    record Thresholds(long warning, long critical, String pattern) {
+    }
+
+    private static final class Node {
+        final Map<String, Node> children = new HashMap<>();
+        Node any;
+        Thresholds rest;
+        Thresholds exact;
+    }
+
+    private final Thresholds defaults;
+    private final Node global;
+    private final Map<String, Node> servers;
+    private final int ruleCount;
+
+    private ThresholdMatcher(Thresholds defaults, Node global, Map<String, Node> servers, int ruleCount) {
+        this.defaults = defaults;
+        this.global = global;
+        this.servers = servers;
+        this.ruleCount = ruleCount;
+    }
+
+    /**
+     * Compiles the rules of {@code settings}. Rules with an invalid pattern are logged
+     * and left out.
+     */
+    static ThresholdMatcher compile(TibcoEmsProperties.Thresholds settings) {
+        Thresholds defaults = new Thresholds(settings.getWarning(), settings.getCritical(), null);
+        Node global = new Node();
+        Map<String, Node> servers = new HashMap<>();
+        int compiled = 0;
+        for (TibcoEmsProperties.ThresholdRule rule : settings.getRules()) {
+            String[] elements = parse(rule.getPattern());
+            if (elements == null) {
+                logger.warn("Ignoring threshold rule with invalid pattern '{}'", rule.getPattern());
+                continue;
+            }
+            Thresholds thresholds = new Thresholds(
+                    rule.getWarning() != null ? rule.getWarning() : defaults.warning(),
+                    rule.getCritical() != null ? rule.getCritical() : defaults.critical(),
+                    rule.getPattern().trim());
+            List<String> ruleServers = rule.getServers() == null ? List.of() : rule.getServers();
+            if (ruleServers.isEmpty()) {
+                insert(global, elements, thresholds);
+            } else {
+                for (String server : ruleServers) {
+                    insert(servers.computeIfAbsent(server.trim(), s -> new Node()), elements, thresholds);
+                }
+            }
+            compiled++;
+        }
+        return new ThresholdMatcher(defaults, global, servers, compiled);
+    }
+
+    /**
+     * Thresholds for a destination on a server: the most specific server rule, else the
+     * most specific global rule, else the defaults.
+     */
+    Thresholds thresholdsFor(String serverName, String destinationName) {
+        if (destinationName == null) {
+            return defaults;
+        }
+        Node serverRoot = serverName == null ? null : servers.get(serverName);
+        if (serverRoot != null) {
+            Thresholds match = match(serverRoot, destinationName, 0);
+            if (match != null) {
+                return match;
+            }
+        }
+        Thresholds match = match(global, destinationName, 0);
+        return match != null ? match : defaults;
+    }
+
+    int getRuleCount() {
+        return ruleCount;
+    }
+
+    private static Thresholds match(Node node, String name, int start) {
+        if (start > name.length()) {
+            return node.exact;
+        }
+        int end = name.indexOf('.', start);
+        if (end < 0) {
+            end = name.length();
+        }
+        if (!node.children.isEmpty()) {
+            Node literal = node.children.get(name.substring(start, end));
+            if (literal != null) {
+                Thresholds match = match(literal, name, end + 1);
+                if (match != null) {
+                    return match;
+                }
+            }
+        }
+        if (node.any != null) {
+            Thresholds match = match(node.any, name, end + 1);
+            if (match != null) {
+                return match;
+            }
+        }
+        // At least one element is left here, which is all '>' needs
+        return node.rest;
+    }
+
+    private static void insert(Node root, String[] elements, Thresholds thresholds) {
+        Node node = root;
+        for (int i = 0; i < elements.length; i++) {
+            String element = elements[i];
+            if (">".equals(element)) {
+                node.rest = thresholds;
+                return;
+            }
+            if ("*".equals(element)) {
+                if (node.any == null) {
+                    node.any = new Node();
+                }
+                node = node.any;
+            } else {
+                node = node.children.computeIfAbsent(element, e -> new Node());
+            }
+        }
+        node.exact = thresholds;
+    }
+
+    /** Pattern elements, or null when empty, with an empty element or a '>' before the end. */
+    private static String[] parse(String pattern) {
+        if (pattern == null || pattern.isBlank()) {
+            return null;
+        }
+        String[] elements = pattern.trim().split("\\.", -1);
+        for (int i = 0; i < elements.length; i++) {
+            if (elements[i].isEmpty() || (">".equals(elements[i]) && i < elements.length - 1)) {
+                return null;
+            }
+        }
+        return elements;
+    }
+}
@@ -0,0 +1,170 @@
+package com.integrationhub.dashboard.service;
+
+import com.integrationhub.dashboard.config.TibcoEmsProperties;
+import com.integrationhub.dashboard.model.DurableInfo;
+import com.integrationhub.dashboard.model.QueueInfo;
+import com.integrationhub.dashboard.model.TopicInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+/**
+ * The threshold rules in effect, from {@code tibco.ems.thresholds} or, when set, its
+ * {@code rules-file}. The file is checked for changes every {@code reload-check-ms}
+ * and swapped in as a whole once it compiles, so sweeps always see one consistent rule
+ * set; a file that cannot be read keeps the rules already loaded. New rules apply from
+ * each server's next poll.
+ */
+@Component
+public class ThresholdRules {
+
+    private static final Logger logger = LoggerFactory.getLogger(ThresholdRules.class);
+
+    /** Where the rules in effect came from, for the admin endpoint. */
+    public record RuleSetInfo(String source, String version, long loadedAt, int ruleCount,
+                              long warning, long critical, long highVolume) {
+    }
+
+    /** The thresholds a destination gets and the rule pattern they came from (null for the defaults). */
+    public record Match(String serverName, String destinationName, long warning, long critical, String pattern) {
+    }
+
+    private record RuleSet(ThresholdMatcher matcher, long highVolume, RuleSetInfo info) {
+    }
+
+    private final TibcoEmsProperties.Thresholds configured;
+    private volatile RuleSet current;
+
+    public ThresholdRules(TibcoEmsProperties tibcoEmsProperties) {
+        this.configured = tibcoEmsProperties.getThresholds();
+        this.current = compile(configured, "application", "application");
+        if (hasRulesFile()) {
+            reloadIfChanged();
+            if (current.info().source().equals("application")) {
+                logger.warn("Threshold rules file {} not loaded, using the rules from the application configuration",
+                        configured.getRulesFile());
+            }
+        }
+        logger.info("Threshold rules loaded from {}: {} rules, defaults warning={} critical={}",
+                current.info().source(), current.info().ruleCount(), current.info().warning(), current.info().critical());
+    }
+
+    /** Sets status and thresholds of a queue from the rule that matches it. */
+    public void apply(QueueInfo queue) {
+        ThresholdMatcher.Thresholds thresholds = current.matcher().thresholdsFor(queue.getServerName(), queue.getQueueName());
+        queue.applyThresholds(thresholds.warning(), thresholds.critical());
+    }
+
+    public void apply(TopicInfo topic) {
+        ThresholdMatcher.Thresholds thresholds = current.matcher().thresholdsFor(topic.getServerName(), topic.getTopicName());
+        topic.applyThresholds(thresholds.warning(), thresholds.critical());
+    }
+
+    /** Durables are classified by the name of their topic. */
+    public void apply(DurableInfo durable) {
+        ThresholdMatcher.Thresholds thresholds = current.matcher().thresholdsFor(durable.getServerName(), durable.getTopicName());
+        durable.applyThresholds(thresholds.warning(), thresholds.critical());
+    }
+
+    public Match match(String serverName, String destinationName) {
+        ThresholdMatcher.Thresholds thresholds = current.matcher().thresholdsFor(serverName, destinationName);
+        return new Match(serverName, destinationName, thresholds.warning(), thresholds.critical(), thresholds.pattern());
+    }
+
+    /**
+     * Message count a warning/critical queue must exceed to reach the dashboard list,
+     * unless the rule that matched it sets a lower threshold.
+     */
+    public long getHighVolume() {
+        return current.highVolume();
+    }
+
+    public RuleSetInfo getInfo() {
+        return current.info();
+    }
+
+    /**
+     * Loads the rules file if it changed since it was last loaded.
+     */
+    @Scheduled(initialDelayString = "${tibco.ems.thresholds.reload-check-ms:10000}",
+            fixedDelayString = "${tibco.ems.thresholds.reload-check-ms:10000}")
+    public void reloadIfChanged() {
+        if (!hasRulesFile()) {
+            return;
+        }
+        Path path = Path.of(configured.getRulesFile().trim());
+        String version = fileVersion(path);
+        if (version == null || version.equals(current.info().version())) {
+            return;
+        }
+        try {
+            load(path, version);
+        } catch (RuntimeException e) {
+            logger.error("Threshold rules file {} could not be loaded, keeping rules from {}: {}",
+                    path, current.info().source(), e.getMessage());
+        }
+    }
+
+    /**
+     * Loads the rules file now, whether it changed or not.
+     *
+     * @throws IllegalStateException when no rules file is configured or it cannot be loaded
+     */
+    public RuleSetInfo reload() {
+        if (!hasRulesFile()) {
+            throw new IllegalStateException("No threshold rules file is configured");
+        }
+        Path path = Path.of(configured.getRulesFile().trim());
+        String version = fileVersion(path);
+        if (version == null) {
+            throw new IllegalStateException("Threshold rules file " + path + " does not exist");
+        }
+        try {
+            load(path, version);
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("Threshold rules file " + path + " could not be loaded: " + e.getMessage(), e);
+        }
+        return current.info();
+    }
+
+    private void load(Path path, String version) {
+        YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+        yaml.setResources(new FileSystemResource(path));
+        Properties properties = yaml.getObject();
+        TibcoEmsProperties.Thresholds loaded = new Binder(new MapConfigurationPropertySource(properties))
+                .bindOrCreate("", Bindable.of(TibcoEmsProperties.Thresholds.class));
+        current = compile(loaded, path.toString(), version);
+        logger.info("Threshold rules reloaded from {}: {} rules, defaults warning={} critical={}",
+                path, current.info().ruleCount(), loaded.getWarning(), loaded.getCritical());
+    }
+
+    private static RuleSet compile(TibcoEmsProperties.Thresholds settings, String source, String version) {
+        ThresholdMatcher matcher = ThresholdMatcher.compile(settings);
+        return new RuleSet(matcher, settings.getHighVolume(), new RuleSetInfo(source, version, System.currentTimeMillis(),
+                matcher.getRuleCount(), settings.getWarning(), settings.getCritical(), settings.getHighVolume()));
+    }
+
+    private boolean hasRulesFile() {
+        return configured.getRulesFile() != null && !configured.getRulesFile().isBlank();
+    }
+
+    /** Modification time and size of the file, or null when it does not exist. */
+    private static String fileVersion(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis() + "-" + Files.size(path);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
@@ -1,34 +1,95 @@
 package com.integrationhub.dashboard.service;
 
 import com.integrationhub.dashboard.config.TibcoEmsProperties;
+import com.integrationhub.dashboard.model.EmsServerDiagnostics;
+import com.integrationhub.dashboard.model.DurableInfo;
+import com.integrationhub.dashboard.model.EmsServerStats;
 import com.integrationhub.dashboard.model.QueueInfo;
+import com.integrationhub.dashboard.model.TopicBacklog;
+import com.integrationhub.dashboard.model.TopicInfo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.*;
 
 @Service
 public class TibcoEmsQueueService {
 
     private static final Logger logger = LoggerFactory.getLogger(TibcoEmsQueueService.class);
-    private static final int TIMEOUT_SECONDS = 2; // Reduced from 5 for faster response
-    private static final long HIGH_VOLUME_THRESHOLD = 3000;
+    private static final Comparator<QueueInfo> BY_COUNT_DESCENDING =
+            Comparator.comparingLong(QueueInfo::getMessageCount).reversed();
+    private static final Comparator<QueueInfo> BY_SERVER_THEN_COUNT =
+            Comparator.comparing(QueueInfo::getServerName).thenComparing(BY_COUNT_DESCENDING);
+    private static final Comparator<TopicInfo> TOPICS_BY_COUNT_DESCENDING =
+            Comparator.comparingLong(TopicInfo::getMessageCount).reversed();
+    private static final Comparator<DurableInfo> DURABLES_BY_COUNT_DESCENDING =
+            Comparator.comparingLong(DurableInfo::getMessageCount).reversed();
+    private static final Comparator<DurableInfo> DURABLES_OFFLINE_FIRST =
+            Comparator.comparing(DurableInfo::isOfflineBacklog).reversed().thenComparing(DURABLES_BY_COUNT_DESCENDING);
 
     private final TibcoEmsService tibcoEmsService;
+    private final TibcoEmsProperties.Collector collectorSettings;
+    private final TibcoEmsProperties.Selection selectionSettings;
+    private final TibcoEmsProperties.Topics topicSettings;
+    private final EmsAdminSessionPool sessionPool;
+    private final EmsAdminBackend adminBackend;
+    private final EmsServerCircuitBreaker circuitBreaker;
+    private final QueueNameFilters queueNameFilters;
+    private final ThresholdRules thresholdRules;
+    private final SingleFlight singleFlight;
+    private final MeterRegistry meterRegistry;
     private final ExecutorService executorService;
     private final boolean tibcoLibAvailable;
     private final Map<String, String> serverStatusMap = new ConcurrentHashMap<>(); // Track server connection status
-
-    public TibcoEmsQueueService(TibcoEmsService tibcoEmsService) {
+    private final Map<String, EmsServerStats> serverStatsMap = new ConcurrentHashMap<>(); // Latest ServerInfo per server
+    private final Map<String, TopicBacklog> topicBacklogMap = new ConcurrentHashMap<>(); // Latest topic/durable backlog per server
+
+    public TibcoEmsQueueService(TibcoEmsService tibcoEmsService,
+                                TibcoEmsProperties tibcoEmsProperties,
+                                EmsAdminSessionPool sessionPool,
+                                EmsAdminBackend adminBackend,
+                                EmsServerCircuitBreaker circuitBreaker,
+                                QueueNameFilters queueNameFilters,
+                                ThresholdRules thresholdRules,
+                                SingleFlight singleFlight,
+                                MeterRegistry meterRegistry) {
         this.tibcoEmsService = tibcoEmsService;
-        this.executorService = Executors.newFixedThreadPool(10);
-        this.tibcoLibAvailable = checkTibcoLibraryAvailable();
+        this.collectorSettings = tibcoEmsProperties.getCollector();
+        this.selectionSettings = tibcoEmsProperties.getSelection();
+        this.topicSettings = tibcoEmsProperties.getTopics();
+        this.sessionPool = sessionPool;
+        this.adminBackend = adminBackend;
+        this.circuitBreaker = circuitBreaker;
+        this.queueNameFilters = queueNameFilters;
+        this.thresholdRules = thresholdRules;
+        this.singleFlight = singleFlight;
+        this.meterRegistry = meterRegistry;
+        this.executorService = ExecutorServiceMetrics.monitor(meterRegistry,
+                createFanOutExecutor(collectorSettings.isVirtualThreads()), "ems-sweep");
+        this.tibcoLibAvailable = adminBackend.isAvailable();
         logger.info("TibcoEmsQueueService initialized - TIBCO library available: {}", tibcoLibAvailable);
     }
 
@@ -40,70 +101,295 @@ public class TibcoEmsQueueService {
         }
     }
 
+    /**
+     * One thread per server so a slow server never queues the others behind it.
+     * Virtual threads are used when the JVM provides them (Java 21+); older runtimes
+     * fall back to an unbounded pool of daemon platform threads.
+     */
+    private ExecutorService createFanOutExecutor(boolean virtualThreads) {
+        if (virtualThreads) {
+            try {
+                ExecutorService executor = (ExecutorService) MethodHandles.publicLookup()
+                        .findStatic(Executors.class, "newVirtualThreadPerTaskExecutor",
+                                MethodType.methodType(ExecutorService.class))
+                        .invoke();
+                logger.info("EMS sweeps fan out on virtual threads");
+                return executor;
+            } catch (Throwable e) {
+                logger.info("Virtual threads not available on this JVM, using platform threads for EMS sweeps");
+            }
+        }
+        ThreadFactory defaultFactory = Executors.defaultThreadFactory();
+        return Executors.newCachedThreadPool(runnable -> {
+            Thread thread = defaultFactory.newThread(runnable);
+            thread.setName("ems-sweep-" + thread.getName());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
     public List<TibcoEmsProperties.Server> getAllServers() {
         return tibcoEmsService.getAllServers();
     }
 
-    private boolean checkTibcoLibraryAvailable() {
-        try {
-            Class.forName("com.tibco.tibjms.admin.TibjmsAdmin");
-            return true;
-        } catch (ClassNotFoundException e) {
-            logger.warn("TIBCO EMS library not found. Please add tibjms.jar to the lib/ directory.");
-            return false;
-        }
+    /**
+     * Inventories read in one sweep, keyed by server name, and the servers that were
+     * still waiting in their host lane at the deadline and so were never contacted.
+     */
+    public record SweepResult(Map<String, List<QueueInfo>> queuesByServer, Set<String> notPolled) {
     }
 
-    public List<QueueInfo> getHighVolumeQueues() {
+    /**
+     * Fetches the full queue inventory of the given servers in parallel under a single
+     * sweep deadline, keyed by server name, in the order the server listed them.
+     * Servers that fail or miss the deadline are left out of the inventories, so callers
+     * get whatever finished in time. Servers never started before the deadline are not
+     * held against their circuit; they are listed as not polled instead.
+     *
+     * <p>Every server let through the circuit breaker gets exactly one outcome recorded,
+     * even when the calling thread is interrupted, so a half-open probe is never left
+     * pending. A worker stuck in an admin call that ignores the interrupt may finish
+     * after its server was already reported as timed out; that late result is logged and
+     * dropped, and the server is read again on its next poll.
+     */
+    public SweepResult collectQueues(List<TibcoEmsProperties.Server> requested) {
+        Map<String, List<QueueInfo>> queuesByServer = new LinkedHashMap<>();
+        Set<String> notPolled = new HashSet<>();
         if (!tibcoLibAvailable) {
             logger.info("Using fallback data - TIBCO libraries not available");
-            return getMockData();
+            return new SweepResult(queuesByServer, notPolled);
         }
 
-        List<TibcoEmsProperties.Server> servers = tibcoEmsService.getAllServers();
-        List<Future<List<QueueInfo>>> futures = new ArrayList<>();
+        // Servers whose circuit is open sit this sweep out
+        List<TibcoEmsProperties.Server> servers = new ArrayList<>();
+        for (TibcoEmsProperties.Server server : requested) {
+            if (!circuitBreaker.allowRequest(server.getName())) {
+                logger.debug("Skipping {} - circuit open", server.getName());
+                continue;
+            }
+            servers.add(server);
+        }
+
+        // Several EMS instances often share one machine. Each host gets its own lane of
+        // at most max-concurrent-per-host workers, and all lanes start together, so a
+        // host with many instances neither gets hammered nor delays the other hosts.
+        Map<String, Queue<TibcoEmsProperties.Server>> serversByHost = new LinkedHashMap<>();
+        for (TibcoEmsProperties.Server server : servers) {
+            serversByHost.computeIfAbsent(hostKey(server), host -> new ConcurrentLinkedQueue<>()).add(server);
+        }
+
+        Map<String, SweepOutcome> outcomes = new ConcurrentHashMap<>();
+        int perHostLimit = Math.max(1, collectorSettings.getMaxConcurrentPerHost());
+        List<Callable<Void>> workers = new ArrayList<>();
+        for (Queue<TibcoEmsProperties.Server> lane : serversByHost.values()) {
+            for (int i = 0; i < Math.min(perHostLimit, lane.size()); i++) {
+                workers.add(() -> {
+                    TibcoEmsProperties.Server server;
+                    while (!Thread.currentThread().isInterrupted() && (server = lane.poll()) != null) {
+                        try {
+                            recordOutcome(outcomes, server.getName(), new SweepOutcome(fetchQueues(server), null));
+                        } catch (InterruptedException e) {
+                            // Cancelled at the deadline: no outcome, so it is reported as a timeout
+                            Thread.currentThread().interrupt();
+                        } catch (Exception e) {
+                            recordOutcome(outcomes, server.getName(), new SweepOutcome(null, e));
+                        }
+                    }
+                    return null;
+                });
+            }
+        }
+
+        try {
+            // Unfinished workers are cancelled once the deadline passes
+            executorService.invokeAll(workers, collectorSettings.getSweepDeadlineMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            // invokeAll has cancelled the workers; outcomes are still recorded below
+            Thread.currentThread().interrupt();
+        }
+
+        // Whatever is left in a lane was never taken by a worker, so never contacted
+        for (Queue<TibcoEmsProperties.Server> lane : serversByHost.values()) {
+            TibcoEmsProperties.Server server;
+            while ((server = lane.poll()) != null) {
+                notPolled.add(server.getName());
+            }
+        }
+
+        for (TibcoEmsProperties.Server server : servers) {
+            String serverName = server.getName();
+            if (notPolled.contains(serverName)) {
+                logger.warn("Server {} was not reached before the {} ms sweep deadline, left for the next poll",
+                        serverName, collectorSettings.getSweepDeadlineMs());
+                meterRegistry.counter("ems.server.sweep.not_polled", "server", serverName).increment();
+                circuitBreaker.releaseRequest(serverName);
+                continue;
+            }
+            // Claims the server, so a worker finishing after this point cannot add a result
+            SweepOutcome outcome = outcomes.putIfAbsent(serverName, MISSED);
+            if (outcome == null) {
+                logger.warn("Server {} missed the {} ms sweep deadline", serverName, collectorSettings.getSweepDeadlineMs());
+                meterRegistry.counter("ems.server.sweep.timeouts", "server", serverName).increment();
+                serverStatusMap.put(serverName, "TIMEOUT");
+                circuitBreaker.recordFailure(serverName);
+            } else if (outcome.error() != null) {
+                logger.error("Error connecting to server {}: {} - {}",
+                        serverName, outcome.error().getClass().getName(), outcome.error().getMessage());
+                serverStatusMap.put(serverName, "UNREACHABLE");
+                circuitBreaker.recordFailure(serverName);
+            } else {
+                // Unsorted: the snapshot's inventory index keeps its own orders
+                queuesByServer.put(serverName, outcome.queues());
+                circuitBreaker.recordSuccess(serverName);
+            }
+        }
+        return new SweepResult(queuesByServer, notPolled);
+    }
+
+    private record SweepOutcome(List<QueueInfo> queues, Exception error) {
+    }
+
+    /** Placeholder for a server whose worker had not finished when outcomes were read. */
+    private static final SweepOutcome MISSED = new SweepOutcome(null, null);
 
-        // Submit tasks for each server
+    private static void recordOutcome(Map<String, SweepOutcome> outcomes, String serverName, SweepOutcome outcome) {
+        if (outcomes.putIfAbsent(serverName, outcome) != null) {
+            logger.debug("Dropping late result of {}, already reported as timed out", serverName);
+        }
+    }
+
+    /**
+     * Probes every configured server at once and reports per-step latencies. Pooled
+     * admin sessions are reused where available; with {@code cold} set each server gets
+     * a TCP connect and a new session instead, so the full connection cost is measured.
+     * Servers still running when {@code deadlineMs} passes are reported as timed out.
+     * Diagnostics never touch the circuit breaker or the server status.
+     */
+    public List<EmsServerDiagnostics> diagnoseServers(boolean cold, long deadlineMs) {
+        return singleFlight.execute("ems.diagnostics", List.of(cold, deadlineMs),
+                () -> runDiagnostics(cold, deadlineMs));
+    }
+
+    private List<EmsServerDiagnostics> runDiagnostics(boolean cold, long deadlineMs) {
+        List<TibcoEmsProperties.Server> servers = tibcoEmsService.getAllServers();
+        List<Callable<EmsServerDiagnostics>> probes = new ArrayList<>();
         for (TibcoEmsProperties.Server server : servers) {
-            futures.add(executorService.submit(() -> getQueuesFromServer(server)));
+            probes.add(() -> diagnose(server, cold, deadlineMs));
         }
 
-        // Collect results
-        List<QueueInfo> allQueues = new ArrayList<>();
-        for (Future<List<QueueInfo>> future : futures) {
+        List<Future<EmsServerDiagnostics>> futures;
+        try {
+            futures = executorService.invokeAll(probes, deadlineMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return List.of();
+        }
+
+        List<EmsServerDiagnostics> results = new ArrayList<>();
+        for (int i = 0; i < servers.size(); i++) {
+            TibcoEmsProperties.Server server = servers.get(i);
+            Future<EmsServerDiagnostics> future = futures.get(i);
             try {
-                List<QueueInfo> serverQueues = future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
-                allQueues.addAll(serverQueues);
-            } catch (TimeoutException e) {
-                logger.warn("Timeout getting queues from server");
-            } catch (Exception e) {
-                logger.error("Error getting queues: {}", e.getMessage());
+                results.add(future.get());
+            } catch (CancellationException | ExecutionException e) {
+                results.add(new EmsServerDiagnostics(server.getName(), server.getConnectionUrl(),
+                        EmsServerDiagnostics.TIMEOUT, false, null, null, null, deadlineMs, null,
+                        null, TimeoutException.class.getName(), "No answer within " + deadlineMs + " ms"));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
             }
         }
+        return results;
+    }
+
+    private EmsServerDiagnostics diagnose(TibcoEmsProperties.Server server, boolean cold, long deadlineMs) {
+        long started = System.nanoTime();
+        Long connectNanos = null;
+        if (cold) {
+            long connectStarted = System.nanoTime();
+            try (Socket socket = new Socket()) {
+                int timeoutMs = (int) Math.min(deadlineMs, Integer.MAX_VALUE);
+                socket.connect(new InetSocketAddress(server.getHost(), server.getPort()), timeoutMs);
+                connectNanos = System.nanoTime() - connectStarted;
+            } catch (IOException | IllegalArgumentException e) {
+                return new EmsServerDiagnostics(server.getName(), server.getConnectionUrl(), EmsServerDiagnostics.FAILED,
+                        false, toMillis(System.nanoTime() - connectStarted), null, null,
+                        toMillis(System.nanoTime() - started), null, "connect", e.getClass().getName(), e.getMessage());
+            }
+        }
+
+        EmsAdminSessionPool.SessionProbe probe = sessionPool.probe(server.getName(), cold);
+        Exception error = probe.error();
+        // Opening the session connects again before it authenticates; take off the connect
+        // measured just before so only the authentication is left
+        Long authenticateMs = null;
+        if (!probe.reused()) {
+            long sessionNanos = probe.sessionNanos();
+            authenticateMs = toMillis(connectNanos == null ? sessionNanos : Math.max(0, sessionNanos - connectNanos));
+        }
+        return new EmsServerDiagnostics(
+                server.getName(),
+                server.getConnectionUrl(),
+                error == null ? EmsServerDiagnostics.OK : EmsServerDiagnostics.FAILED,
+                probe.reused(),
+                connectNanos == null ? null : toMillis(connectNanos),
+                authenticateMs,
+                probe.getQueuesNanos() == null ? null : toMillis(probe.getQueuesNanos()),
+                toMillis(System.nanoTime() - started),
+                probe.queueCount(),
+                probe.failedStep(),
+                error == null ? null : error.getClass().getName(),
+                error == null ? null : error.getMessage());
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
 
-        // Filter for critical queues (>10000 messages) and warning queues (>5000 messages)
-        // Exclude BAM and FCWEB.CACHE queues, sort by server name
-        List<QueueInfo> result = allQueues.stream()
+    private String hostKey(TibcoEmsProperties.Server server) {
+        return server.getHost() == null ? "" : server.getHost().trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Picks the critical/warning queues shown on the dashboard out of the collected
+     * inventories, falling back to mock data when nothing qualifies.
+     */
+    public List<QueueInfo> selectHighVolumeQueues(Collection<List<QueueInfo>> inventories) {
+        if (!tibcoLibAvailable) {
+            return getMockData();
+        }
+
+        long totalQueues = inventories.stream().mapToLong(List::size).sum();
+
+        // Filter for critical and warning queues, as classified by the threshold rules
+        // (>10000 and >5000 messages by default), above the high-volume floor. A rule
+        // with a threshold below the floor lowers it for its queues, or they could never
+        // be listed. Apply the configured name filters (BAM, FCWEB.CACHE, ... by default)
+        long highVolume = thresholdRules.getHighVolume();
+        List<QueueInfo> candidates = inventories.stream()
+                .flatMap(List::stream)
+                .filter(q -> q.getMessageCount() > Math.min(highVolume,
+                        Math.min(q.getWarningThreshold(), q.getCriticalThreshold())))
                 .filter(q -> {
                     boolean isCriticalOrWarning = q.getStatus().equals("critical") || q.getStatus().equals("warning");
                     if (q.getServerName().contains("SC")) {
-                        logger.info("  [SC-Spectrum Queue] {}: status={}, count={}, passes filter={}", 
+                        logger.debug("  [SC-Spectrum Queue] {}: status={}, count={}, passes filter={}", 
                                    q.getQueueName(), q.getStatus(), q.getMessageCount(), isCriticalOrWarning);
                     }
                     return isCriticalOrWarning;
                 })
-                .filter(q -> !q.getQueueName().toUpperCase().contains("BAM"))
-                .filter(q -> !q.getQueueName().toUpperCase().contains("FCWEB.CACHE"))
-                .filter(q -> !q.getQueueName().toUpperCase().contains("ARCHIVE"))
-                .filter(q -> !q.getQueueName().toUpperCase().contains("TEMP"))
-                .filter(q -> !q.getQueueName().toUpperCase().contains("ERROR"))
-                .sorted(Comparator.comparing(QueueInfo::getServerName)
-                        .thenComparing(q -> -q.getMessageCount())) // Sort by message count descending
-                .limit(50)
+                .filter(q -> queueNameFilters.accepts(q.getServerName(), q.getQueueName()))
                 .toList();
 
-        logger.info("Found {} critical/warning queues from {} total queues", result.size(), allQueues.size());
-        result.forEach(q -> logger.info("  [{}] {}/{}: {} messages", q.getStatus(), q.getServerName(), q.getQueueName(), q.getMessageCount()));
+        // Keep the largest queues per server, then the first max-queues by server name and
+        // message count descending, without sorting every candidate
+        List<QueueInfo> result = TopK.selectGrouped(candidates, QueueInfo::getServerName,
+                selectionSettings.getMaxQueuesPerServer(), selectionSettings.getMaxQueues(),
+                BY_COUNT_DESCENDING, BY_SERVER_THEN_COUNT);
+
+        logger.info("Found {} critical/warning queues from {} total queues", result.size(), totalQueues);
+        result.forEach(q -> logger.debug("  [{}] {}/{}: {} messages", q.getStatus(), q.getServerName(), q.getQueueName(), q.getMessageCount()));
 
         // If no real data, fall back to mock
         if (result.isEmpty()) {
@@ -124,6 +410,7 @@ public class TibcoEmsQueueService {
         mockQueues.add(new QueueInfo("TSTSH2-EMS1-ESB", "ERROR.HANDLING.QUEUE", 3156));
         mockQueues.add(new QueueInfo("TSTSH3-EMS1-ESB", "AUDIT.LOG.QUEUE", 4521));
         mockQueues.add(new QueueInfo("SC-Spectrum", "SC.Q.AUDIT.PUBLISHMESSAGE.AUDITLOGGER", 14325));
+        mockQueues.forEach(thresholdRules::apply);
         
         // Filter mock data to only return critical and warning queues
         return mockQueues.stream()
@@ -131,23 +418,16 @@ public class TibcoEmsQueueService {
                 .toList();
     }
 
-    private String decryptPassword(String password) {
-        // If password starts with #!, it's obfuscated and needs to be decoded
-        if (password != null && password.startsWith("#!")) {
-            try {
-                Class<?> obfuscateClass = Class.forName("com.tibco.tibjms.TibjmsObfuscate");
-                Object result = obfuscateClass.getMethod("decode", String.class)
-                        .invoke(null, password.substring(2)); // Remove #! prefix
-                return (String) result;
-            } catch (Exception e) {
-                logger.warn("Failed to decrypt password, using as-is: {}", e.getMessage());
-                return password;
-            }
-        }
-        return password;
+    /**
+     * The whole queue inventory of a server, fetched live, in the order the server listed
+     * them. Concurrent callers asking for the same server share one fetch.
+     */
+    public List<QueueInfo> getAllQueuesForServer(String serverName) {
+        return singleFlight.execute("ems.allQueuesForServer", List.of(String.valueOf(serverName)),
+                () -> fetchAllQueuesForServer(serverName));
     }
 
-    public List<QueueInfo> getAllQueuesForServer(String serverName) {
+    private List<QueueInfo> fetchAllQueuesForServer(String serverName) {
         if (!tibcoLibAvailable) {
             logger.info("Using fallback data - TIBCO libraries not available");
             return List.of();
@@ -163,91 +443,195 @@ public class TibcoEmsQueueService {
             return List.of();
         }
 
-        List<QueueInfo> queues = getQueuesFromServer(server, false);
-        
-        // Sort by message count descending (highest first)
-        return queues.stream()
-                .sorted(Comparator.comparing(QueueInfo::getMessageCount).reversed())
-                .toList();
+        try {
+            return fetchQueues(server);
+        } catch (Exception e) {
+            logger.error("Error connecting to server {}: {} - {}", 
+                        server.getName(), e.getClass().getName(), e.getMessage(), e);
+            serverStatusMap.put(server.getName(), "UNREACHABLE");
+            return List.of();
+        }
     }
 
-    private List<QueueInfo> getQueuesFromServer(TibcoEmsProperties.Server server) {
-        return getQueuesFromServer(server, true);
+    private List<QueueInfo> fetchQueues(TibcoEmsProperties.Server server) throws Exception {
+        long started = System.nanoTime();
+        FlightEvents.EmsServerFetch event = new FlightEvents.EmsServerFetch();
+        event.begin();
+        String outcome = "error";
+        try {
+            List<QueueInfo> queues = readQueues(server);
+            outcome = "success";
+            event.queueCount = queues.size();
+            return queues;
+        } finally {
+            // Per-server latency of one full inventory read, sweep or live
+            meterRegistry.timer("ems.server.fetch", "server", server.getName(), "outcome", outcome)
+                    .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            event.server = server.getName();
+            event.outcome = outcome;
+            event.commit();
+        }
     }
 
-    private List<QueueInfo> getQueuesFromServer(TibcoEmsProperties.Server server, boolean filterHighVolume) {
+    private List<QueueInfo> readQueues(TibcoEmsProperties.Server server) throws Exception {
         List<QueueInfo> queues = new ArrayList<>();
-        Object admin = null;
 
-        try {
-            // Use reflection to avoid compile-time dependency
-            Class<?> tibjmsAdminClass = Class.forName("com.tibco.tibjms.admin.TibjmsAdmin");
-            
-            // Build connection URL
-            String url = (server.isSslEnabled() ? "ssl://" : "tcp://") + 
-                         server.getHost() + ":" + server.getPort();
-
-            // Decrypt password if it's obfuscated
-            String decryptedPassword = decryptPassword(server.getPassword());
-
-            logger.info("Attempting connection to {} at {} with user {}", 
-                       server.getName(), url, server.getUsername());
-
-            // Connect to TIBCO EMS Admin: new TibjmsAdmin(url, username, password)
-            admin = tibjmsAdminClass.getConstructor(String.class, String.class, String.class)
-                    .newInstance(url, server.getUsername(), decryptedPassword);
-
-            logger.info("Successfully connected to {}", server.getName());
-            serverStatusMap.put(server.getName(), "OK");
-
-            // Get all queues: admin.getQueues()
-            Object[] queueInfos = (Object[]) tibjmsAdminClass.getMethod("getQueues").invoke(admin);
-            
-            if (queueInfos != null) {
-                Class<?> queueInfoClass = Class.forName("com.tibco.tibjms.admin.QueueInfo");
-                for (Object queueInfo : queueInfos) {
-                    try {
-                        String queueName = (String) queueInfoClass.getMethod("getName").invoke(queueInfo);
-                        long messageCount = (Long) queueInfoClass.getMethod("getPendingMessageCount").invoke(queueInfo);
-                        
-                        // Skip FCWEB.CACHE queues and filter by volume if needed
-                        if (!queueName.toUpperCase().contains("FCWEB.CACHE") && 
-                            (!filterHighVolume || messageCount > HIGH_VOLUME_THRESHOLD)) {
-                            queues.add(new QueueInfo(
-                                server.getName(),
-                                queueName,
-                                messageCount
-                            ));
+        // Get all queues, topics, durables and the server info over one pooled admin
+        // session: admin.getQueues(), admin.getTopics(), admin.getDurables(), admin.getInfo()
+        AdminRead read = sessionPool.execute(server.getName(), admin -> new AdminRead(
+                adminBackend.getQueues(admin),
+                topicSettings.isEnabled() ? readTopicBacklog(server, admin) : null,
+                readServerInfo(server, admin)));
+        Object[] queueInfos = read.queueInfos();
+        serverStatusMap.put(server.getName(), "OK");
+        if (read.topicBacklog() != null) {
+            topicBacklogMap.put(server.getName(), read.topicBacklog());
+        }
+        if (read.serverStats() != null) {
+            serverStatsMap.put(server.getName(), read.serverStats());
+        }
+        
+        if (queueInfos != null) {
+            for (Object queueInfo : queueInfos) {
+                try {
+                    String queueName = adminBackend.queueName(queueInfo);
+                    long messageCount = adminBackend.pendingMessageCount(queueInfo);
+                    
+                    // Skip queues excluded from the inventory (FCWEB.CACHE by default)
+                    if (queueNameFilters.keepInInventory(queueName)) {
+                        QueueInfo queue = new QueueInfo(
+                            server.getName(),
+                            queueName,
+                            messageCount
+                        );
+                        thresholdRules.apply(queue);
+                        queues.add(queue);
+                        // Consumers, pending bytes and in/out statistics come with the same
+                        // QueueInfo; without them the queue is still listed
+                        try {
+                            adminBackend.readQueueStatistics(queueInfo, queue);
+                        } catch (RuntimeException e) {
+                            logger.debug("Error getting statistics of {}: {}", queueName, e.getMessage());
                         }
-                    } catch (Exception e) {
-                        logger.debug("Error getting queue details: {}", e.getMessage());
                     }
+                } catch (Exception e) {
+                    logger.debug("Error getting queue details: {}", e.getMessage());
                 }
             }
-            
-            logger.info("Retrieved {} queues from {}", queues.size(), server.getName());
-            
-        } catch (ClassNotFoundException e) {
-            logger.error("TIBCO library not found: {}", e.getMessage());
-            serverStatusMap.put(server.getName(), "UNREACHABLE");
-        } catch (Exception e) {
-            logger.error("Error connecting to server {}: {} - {}", 
-                        server.getName(), e.getClass().getName(), e.getMessage(), e);
-            serverStatusMap.put(server.getName(), "UNREACHABLE");
-        } finally {
-            if (admin != null) {
-                try {
-                    admin.getClass().getMethod("close").invoke(admin);
-                } catch (Exception e) {
-                    logger.debug("Error closing admin connection: {}", e.getMessage());
+        }
+        
+        logger.info("Retrieved {} queues from {}", queues.size(), server.getName());
+        return queues;
+    }
+
+    private record AdminRead(Object[] queueInfos, TopicBacklog topicBacklog, EmsServerStats serverStats) {
+    }
+
+    /**
+     * The largest topics and durables of a server. Infos are converted one at a time and
+     * only the top {@code max-topics-per-server} / {@code max-durables-per-server} are
+     * held, so a server with many subscriptions costs no more than one with few. The
+     * largest offline durables are kept besides, up to the same limit, so an offline
+     * subscriber with a small backlog still reaches the offline-first listing. A
+     * failure is logged and leaves the queue inventory intact.
+     */
+    private TopicBacklog readTopicBacklog(TibcoEmsProperties.Server server, Object admin) throws InterruptedException {
+        String serverName = server.getName();
+        try {
+            Object[] topicInfos = adminBackend.getTopics(admin);
+            Object[] durableInfos = adminBackend.getDurables(admin);
+            Iterable<TopicInfo> topics = () -> Arrays.stream(topicInfos)
+                    .map(info -> adminBackend.readTopic(serverName, info))
+                    .filter(topic -> queueNameFilters.keepInInventory(topic.getTopicName()))
+                    .peek(thresholdRules::apply)
+                    .iterator();
+            TopK.Heap<DurableInfo> largest = new TopK.Heap<>(topicSettings.getMaxDurablesPerServer(),
+                    DURABLES_BY_COUNT_DESCENDING);
+            TopK.Heap<DurableInfo> offline = new TopK.Heap<>(topicSettings.getMaxDurablesPerServer(),
+                    DURABLES_BY_COUNT_DESCENDING);
+            for (Object info : durableInfos) {
+                DurableInfo durable = adminBackend.readDurable(serverName, info);
+                if (queueNameFilters.keepInInventory(durable.getTopicName())) {
+                    thresholdRules.apply(durable);
+                    largest.offer(durable);
+                    if (durable.isOfflineBacklog()) {
+                        offline.offer(durable);
+                    }
                 }
             }
+            List<DurableInfo> durables = largest.toList();
+            Set<DurableInfo> kept = Collections.newSetFromMap(new IdentityHashMap<>());
+            kept.addAll(durables);
+            offline.toList().stream().filter(durable -> !kept.contains(durable)).forEach(durables::add);
+            durables.sort(DURABLES_BY_COUNT_DESCENDING);
+            return new TopicBacklog(
+                    TopK.select(topics, Math.max(1, topicSettings.getMaxTopicsPerServer()), TOPICS_BY_COUNT_DESCENDING),
+                    durables,
+                    topicInfos.length,
+                    durableInfos.length);
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.warn("Error getting topics and durables of {}: {}", serverName, e.getMessage());
+            return null;
         }
+    }
 
-        return queues;
+    /**
+     * Server-wide statistics, read right after the queues. A failure here is logged and
+     * leaves the queue inventory intact.
+     */
+    private EmsServerStats readServerInfo(TibcoEmsProperties.Server server, Object admin) throws InterruptedException {
+        try {
+            return adminBackend.readServerStatistics(adminBackend.getInfo(admin), System.currentTimeMillis());
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.debug("Error getting server info of {}: {}", server.getName(), e.getMessage());
+            return null;
+        }
     }
 
     public Map<String, String> getServerStatus() {
         return new ConcurrentHashMap<>(serverStatusMap);
     }
+
+    /**
+     * Latest topic and durable backlog per server, from the most recent read that got them.
+     */
+    public Map<String, TopicBacklog> getTopicBacklogs() {
+        return new HashMap<>(topicBacklogMap);
+    }
+
+    /**
+     * The {@code limit} largest topics of the given backlogs that pass the dashboard's
+     * name filters, by message count descending.
+     */
+    public List<TopicInfo> selectTopics(Collection<TopicBacklog> backlogs, int limit) {
+        Iterable<TopicInfo> topics = () -> backlogs.stream()
+                .flatMap(backlog -> backlog.topics().stream())
+                .filter(topic -> queueNameFilters.accepts(topic.getServerName(), topic.getTopicName()))
+                .iterator();
+        return TopK.select(topics, limit, TOPICS_BY_COUNT_DESCENDING);
+    }
+
+    /**
+     * The first {@code limit} durables of the given backlogs that pass the dashboard's
+     * name filters, largest first or, with {@code offlineFirst}, backlogs of disconnected
+     * subscribers first.
+     */
+    public List<DurableInfo> selectDurables(Collection<TopicBacklog> backlogs, int limit, boolean offlineFirst) {
+        Iterable<DurableInfo> durables = () -> backlogs.stream()
+                .flatMap(backlog -> backlog.durables().stream())
+                .filter(durable -> queueNameFilters.accepts(durable.getServerName(), durable.getTopicName()))
+                .iterator();
+        return TopK.select(durables, limit, offlineFirst ? DURABLES_OFFLINE_FIRST : DURABLES_BY_COUNT_DESCENDING);
+    }
+
+    /**
+     * Latest server statistics per server, from the most recent successful read.
+     */
+    public Map<String, EmsServerStats> getServerStats() {
+        return new HashMap<>(serverStatsMap);
+    }
 }
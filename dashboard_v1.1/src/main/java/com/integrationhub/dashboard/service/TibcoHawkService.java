@@ -2,9 +2,14 @@ package com.integrationhub.dashboard.service;
 
 import com.integrationhub.dashboard.config.TibcoHawkProperties;
 import com.integrationhub.dashboard.model.HawkApplicationStatus;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 
 import java.io.BufferedReader;
@@ -22,6 +27,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
 public class TibcoHawkService {
@@ -36,6 +42,9 @@ public class TibcoHawkService {
     private static final String DEFAULT_MOCK_DATA_CLASSPATH = "sample-data/hawk-monitor.sample.txt";
 
     private final TibcoHawkProperties hawkProperties;
+    private final SingleFlight singleFlight;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger lastRowCount = new AtomicInteger();
     private volatile String lastLoadError;
 
     private static final class ParserState {
@@ -61,8 +70,13 @@ public class TibcoHawkService {
         }
     }
 
-    public TibcoHawkService(TibcoHawkProperties hawkProperties) {
+    public TibcoHawkService(TibcoHawkProperties hawkProperties, SingleFlight singleFlight, MeterRegistry meterRegistry) {
         this.hawkProperties = hawkProperties;
+        this.singleFlight = singleFlight;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("hawk.rows", lastRowCount, AtomicInteger::get)
+                .description("Status rows parsed from the last Hawk file load")
+                .register(meterRegistry);
     }
 
     public List<TibcoHawkProperties.Domain> getAllDomains() {
@@ -99,7 +113,33 @@ public class TibcoHawkService {
     }
 
     public List<HawkApplicationStatus> getAllApplicationStatuses() {
-        return loadStatusesFromConfiguredSource();
+        // Concurrent page loads share one read and parse of the Hawk file
+        return singleFlight.execute("hawk.applicationStatuses", this::loadStatusesFromConfiguredSource);
+    }
+
+    /**
+     * Identifies the data the next {@link #getAllApplicationStatuses()} call parses,
+     * from the source file's modification time and size only, so conditional requests
+     * can be answered without reading the file.
+     */
+    public String getDataVersion() {
+        String configuredPath = safeTrim(hawkProperties.getDataFile());
+        try {
+            if (configuredPath.toLowerCase(Locale.ROOT).startsWith("classpath:")) {
+                String classpathLocation = normalizeClasspathLocation(configuredPath.substring("classpath:".length()));
+                return "hawk-" + describe(new ClassPathResource(classpathLocation));
+            }
+            if (!configuredPath.isEmpty() && Files.exists(Path.of(configuredPath))) {
+                return "hawk-" + describe(new FileSystemResource(Path.of(configuredPath)));
+            }
+        } catch (IOException | RuntimeException e) {
+            // Unreadable source: the loader falls back to the bundled mock data as well
+        }
+        try {
+            return "hawk-mock-" + describe(new ClassPathResource(DEFAULT_MOCK_DATA_CLASSPATH));
+        } catch (IOException e) {
+            return "hawk-none";
+        }
     }
 
     public Map<String, String> getDomainStatus() {
@@ -148,6 +188,7 @@ public class TibcoHawkService {
         try {
             List<String> lines;
             String loadedFrom;
+            Timer.Sample read = Timer.start(meterRegistry);
 
             if (classpathConfigured) {
                 String classpathLocation = normalizeClasspathLocation(configuredPath.substring("classpath:".length()));
@@ -167,7 +208,8 @@ public class TibcoHawkService {
                 }
             }
 
-            List<HawkApplicationStatus> statuses = parseStatuses(lines);
+            read.stop(meterRegistry.timer("hawk.file.read", "source", "configured"));
+            List<HawkApplicationStatus> statuses = timedParse(lines, "configured");
             logger.info("Loaded {} Hawk status rows from {}", statuses.size(), loadedFrom);
             lastLoadError = null;
             return statuses;
@@ -184,8 +226,10 @@ public class TibcoHawkService {
                 throw new IllegalStateException("Mock Hawk data file not found on classpath: " + DEFAULT_MOCK_DATA_CLASSPATH);
             }
 
+            Timer.Sample read = Timer.start(meterRegistry);
             List<String> lines = readLines(mockResource.getInputStream());
-            List<HawkApplicationStatus> statuses = parseStatuses(lines);
+            read.stop(meterRegistry.timer("hawk.file.read", "source", "mock"));
+            List<HawkApplicationStatus> statuses = timedParse(lines, "mock");
             logger.warn("Using bundled Hawk mock data ({}). Loaded {} rows from classpath:{}",
                     reason, statuses.size(), DEFAULT_MOCK_DATA_CLASSPATH);
             lastLoadError = null;
@@ -197,6 +241,31 @@ public class TibcoHawkService {
         }
     }
 
+    private List<HawkApplicationStatus> timedParse(List<String> lines, String source) {
+        FlightEvents.HawkParse event = new FlightEvents.HawkParse();
+        event.begin();
+        Timer.Sample parse = Timer.start(meterRegistry);
+        List<HawkApplicationStatus> statuses = parseStatuses(lines);
+        parse.stop(meterRegistry.timer("hawk.file.parse", "source", source));
+        lastRowCount.set(statuses.size());
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.source = source;
+            event.lineCount = lines.size();
+            event.rowCount = statuses.size();
+            event.domainCount = (int) statuses.stream().map(HawkApplicationStatus::getDomainName).distinct().count();
+            // Line lengths plus line breaks; exact for the ASCII content Hawk writes
+            event.bytes = lines.stream().mapToLong(String::length).sum() + lines.size();
+            event.commit();
+        }
+        return statuses;
+    }
+
+    private String describe(Resource resource) throws IOException {
+        return resource.lastModified() + "-" + resource.contentLength();
+    }
+
     private List<String> readLines(InputStream inputStream) throws IOException {
         try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
             List<String> lines = new ArrayList<>();
@@ -208,7 +277,7 @@ public class TibcoHawkService {
         }
     }
 
-    private List<HawkApplicationStatus> parseStatuses(List<String> lines) {
+    List<HawkApplicationStatus> parseStatuses(List<String> lines) {
         List<HawkApplicationStatus> statuses = new ArrayList<>();
         ParserState state = new ParserState();
 
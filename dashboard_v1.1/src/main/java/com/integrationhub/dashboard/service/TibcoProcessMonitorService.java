@@ -4,10 +4,15 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.integrationhub.dashboard.model.DuplicateProcessInfo;
 import com.integrationhub.dashboard.model.ProcessMonitorEntry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
@@ -22,6 +27,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
 public class TibcoProcessMonitorService {
@@ -36,15 +42,41 @@ public class TibcoProcessMonitorService {
 
     private final ObjectMapper objectMapper;
     private final String processMonitorFilePath;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger lastRowCount = new AtomicInteger();
 
     public TibcoProcessMonitorService(
-            @Value("${tibco.process-monitor.data-file:${TIBCO_PROCESS_MONITOR_FILE:}}") String processMonitorFilePath) {
+            @Value("${tibco.process-monitor.data-file:${TIBCO_PROCESS_MONITOR_FILE:}}") String processMonitorFilePath,
+            MeterRegistry meterRegistry) {
         this.objectMapper = new ObjectMapper();
         this.processMonitorFilePath = processMonitorFilePath;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("processes.rows", lastRowCount, AtomicInteger::get)
+                .description("Server entries read from the last process-monitor file load")
+                .register(meterRegistry);
     }
 
     public List<DuplicateProcessInfo> getDuplicateProcesses() {
-        List<ProcessMonitorEntry> entries = loadEntries();
+        FlightEvents.ProcessMonitorLoad event = new FlightEvents.ProcessMonitorLoad();
+        event.begin();
+        Timer.Sample load = Timer.start(meterRegistry);
+        String outcome = "error";
+        List<ProcessMonitorEntry> entries = List.of();
+        try {
+            entries = loadEntries();
+            outcome = "success";
+        } finally {
+            // Reading and JSON parsing of the file happen together in Jackson
+            load.stop(meterRegistry.timer("processes.file.parse", "outcome", outcome));
+            event.end();
+            if (event.shouldCommit()) {
+                event.source = safeTrim(processMonitorFilePath);
+                event.rowCount = entries.size();
+                event.bytes = sourceSize();
+                event.commit();
+            }
+        }
+        lastRowCount.set(entries.size());
 
         Map<String, Set<String>> processToHosts = new LinkedHashMap<>();
         for (ProcessMonitorEntry entry : entries) {
@@ -77,6 +109,46 @@ public class TibcoProcessMonitorService {
                 .toList();
     }
 
+    /**
+     * Identifies the file {@link #getDuplicateProcesses()} reads by its modification
+     * time and size, without reading it; {@code missing} when there is no such file.
+     */
+    public String getDataVersion() {
+        try {
+            Resource resource = resolveSource();
+            return resource == null ? "processes-missing" : "processes-" + resource.lastModified() + "-" + resource.contentLength();
+        } catch (IOException | RuntimeException e) {
+            return "processes-missing";
+        }
+    }
+
+    /**
+     * The file {@link #loadEntries()} reads: the configured file if it exists,
+     * otherwise the same location on the classpath. Null when no path is configured.
+     */
+    private Resource resolveSource() {
+        String configuredPath = safeTrim(processMonitorFilePath);
+        if (configuredPath.isEmpty()) {
+            return null;
+        }
+        boolean classpathConfigured = configuredPath.toLowerCase(Locale.ROOT).startsWith("classpath:");
+        String classpathLocation = classpathConfigured
+                ? normalizeClasspathLocation(configuredPath.substring("classpath:".length()))
+                : normalizeClasspathLocation(configuredPath);
+        return !classpathConfigured && Files.exists(Path.of(configuredPath))
+                ? new FileSystemResource(Path.of(configuredPath))
+                : new ClassPathResource(classpathLocation);
+    }
+
+    private long sourceSize() {
+        try {
+            Resource resource = resolveSource();
+            return resource == null ? 0 : resource.contentLength();
+        } catch (IOException | RuntimeException e) {
+            return 0;
+        }
+    }
+
     private List<ProcessMonitorEntry> loadEntries() {
         if (safeTrim(processMonitorFilePath).isEmpty()) {
             throw new IllegalStateException("Process monitor data file path is not configured. Set tibco.process-monitor.data-file or TIBCO_PROCESS_MONITOR_FILE.");
@@ -0,0 +1,96 @@
+package com.integrationhub.dashboard.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+
+/**
+ * Bounded-heap selection of the first {@code k} elements in a given order. Only
+ * {@code k} elements are ever held, so selecting from {@code n} costs
+ * O(n log k) instead of the O(n log n) of a full sort followed by a limit.
+ */
+public final class TopK {
+
+    private TopK() {
+    }
+
+    /**
+     * The first {@code k} elements of {@code items} according to {@code order},
+     * sorted. A {@code k} of zero or less means no limit.
+     */
+    public static <T> List<T> select(Iterable<? extends T> items, int k, Comparator<? super T> order) {
+        if (k <= 0) {
+            List<T> all = new ArrayList<>();
+            items.forEach(all::add);
+            all.sort(order);
+            return all;
+        }
+
+        Heap<T> heap = new Heap<>(k, order);
+        items.forEach(heap::offer);
+        return heap.toList();
+    }
+
+    /**
+     * Incremental form of {@link #select}, for when one pass over the elements has to
+     * feed more than one selection.
+     */
+    public static final class Heap<T> {
+        private final int k;
+        private final Comparator<? super T> order;
+        private final PriorityQueue<T> heap;
+
+        /** Keeps the first {@code k} (at least one) elements offered, according to {@code order}. */
+        public Heap(int k, Comparator<? super T> order) {
+            this.k = Math.max(1, k);
+            this.order = order;
+            // Max-heap on the order: the root is the worst element kept so far
+            this.heap = new PriorityQueue<>(this.k + 1, order.reversed());
+        }
+
+        public void offer(T item) {
+            if (heap.size() < k) {
+                heap.add(item);
+            } else if (order.compare(item, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(item);
+            }
+        }
+
+        /** The elements kept so far, sorted. */
+        public List<T> toList() {
+            List<T> result = new ArrayList<>(heap);
+            result.sort(order);
+            return result;
+        }
+    }
+
+    /**
+     * Applies a per-group limit and then a global limit: at most {@code perGroupK}
+     * elements from each group, then the first {@code globalK} of those overall.
+     */
+    public static <T, G> List<T> selectGrouped(Collection<? extends T> items,
+                                               Function<? super T, G> groupBy,
+                                               int perGroupK,
+                                               int globalK,
+                                               Comparator<? super T> groupOrder,
+                                               Comparator<? super T> globalOrder) {
+        if (perGroupK <= 0) {
+            return select(items, globalK, globalOrder);
+        }
+        Map<G, List<T>> groups = new LinkedHashMap<>();
+        for (T item : items) {
+            groups.computeIfAbsent(groupBy.apply(item), g -> new ArrayList<>()).add(item);
+        }
+        List<T> candidates = new ArrayList<>();
+        for (List<T> group : groups.values()) {
+            candidates.addAll(select(group, perGroupK, groupOrder));
+        }
+        return select(candidates, globalK, globalOrder);
+    }
+}
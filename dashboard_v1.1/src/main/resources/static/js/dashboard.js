@@ -1,7 +1,8 @@
 // ---------- Load Real Data from API ----------
 const realShips = [];
-let autoRefreshInterval = null;
-let nextRefreshSeconds = 1800;
+// High-volume queues keyed by server/queue, as of snapshot queueVersion
+const queueRows = new Map();
+let queueVersion = 0;
 
 async function loadRealData(){
   try {
@@ -9,72 +10,180 @@ async function loadRealData(){
     const controller = new AbortController();
     const timeoutId = setTimeout(() => controller.abort(), 60000);
     
-    const response = await fetch('/api/queues', { signal: controller.signal });
+    // Only what changed since our version; the server sends everything if we are too far behind
+    const response = await fetch(`/api/queues/delta?since=${queueVersion}`, { signal: controller.signal });
     clearTimeout(timeoutId);
     
-    const data = await response.json();
-    console.log('🔍 RAW API Response:', data);
-    console.log(`📊 Received ${data.length} queues from API`);
+    const delta = await response.json();
+    console.log('🔍 RAW API Response:', delta);
+    applyQueueDelta(delta);
+    console.log(`📊 Snapshot v${queueVersion}: ${queueRows.size} queues`);
     
-    // Clear existing real ships
-    realShips.length = 0;
-    
-    // Check if data is an array or has a value property
-    const queues = Array.isArray(data) ? data : (data.value || []);
-    console.log(`✅ After parsing: ${queues.length} queues`);
-    
-    if (queues.length === 0) {
-      console.warn('❌ No queues returned from API');
-      return false;
-    }
-    
-    // Use all queues returned by backend since they're already filtered for critical/warning
-    const filteredQueues = queues;
-    console.log(`📋 Using all ${filteredQueues.length} queues (no filtering)`);
-    
-    // Convert queue data to ship-like objects
-    filteredQueues.forEach((queue, idx) => {
-      const msgCount = Number(queue.messageCount) || 0;
-      
-      let shipStatus = 'ok';
-      if (queue.status === 'critical' || msgCount > 10000) {
-        shipStatus = 'err';
-      } else if (queue.status === 'warning' || msgCount > 5000) {
-        shipStatus = 'warn';
-      }
-      
-      console.log(`[QUEUE MAPPING #${idx}] ${queue.serverName}/${queue.queueName}: API status="${queue.status}" → shipStatus="${shipStatus}" (${msgCount} msgs)`);
-      
-      const now = Date.now();
-      const ship = {
-        id: 'queue-' + idx,
-        letter: (queue.serverName || 'Q').charAt(0).toUpperCase(),
-        name: `${queue.serverName} / ${queue.queueName}`,
-        status: shipStatus,
-        acked: false,
-        lastSeen: now - rand(5_000, 60_000),
-        errorRate: Math.min(100, Math.floor((queue.messageCount / 10000) * 100)),
-        queue: queue.messageCount,
-        latency: rand(40, 900),
-        lastEventAt: now,
-        events: [
-          { t: now, msg: `Queue depth: ${queue.messageCount} messages` },
-          { t: now - 30000, msg: `Connected to ${queue.serverName}` },
-          { t: now - 120000, msg: 'Real-time monitoring active' }
-        ]
-      };
-      realShips.push(ship);
-    });
-    
-    console.log(`✅ Loaded ${realShips.length} REAL queues into realShips`);
-    console.log(`📈 Status breakdown:`, realShips.reduce((acc, s) => { acc[s.status] = (acc[s.status] || 0) + 1; return acc; }, {}));
-    return true;
+    return loadQueuesIntoRealShips(sortedQueueRows());
   } catch (err) {
     console.warn('❌ Failed to load real data:', err);
     return false;
   }
 }
 
+function queueKey(queue) {
+  return `${queue.serverName}/${queue.queueName}`;
+}
+
+// Applies a delta from /api/queues/delta or the live stream to queueRows.
+// Returns false when it changed nothing.
+function applyQueueDelta(delta) {
+  if (delta.full) {
+    queueRows.clear();
+    (delta.queues || []).forEach(queue => queueRows.set(queueKey(queue), queue));
+  } else {
+    delta.removed.forEach(key => queueRows.delete(queueKey(key)));
+    delta.added.concat(delta.changed).forEach(queue => queueRows.set(queueKey(queue), queue));
+  }
+  queueVersion = delta.version;
+  return delta.full || delta.added.length + delta.changed.length + delta.removed.length > 0;
+}
+
+// Same order as the backend list: by server, deepest queue first
+function sortedQueueRows() {
+  return [...queueRows.values()].sort((a, b) =>
+    (a.serverName < b.serverName ? -1 : a.serverName > b.serverName ? 1 : 0) || b.messageCount - a.messageCount);
+}
+
+function shipId(queue) {
+  return 'queue-' + queueKey(queue);
+}
+
+// Status comes from the server's threshold rules, which can differ per queue
+function shipStatusOf(queue) {
+  if (queue.status === 'critical') return 'err';
+  if (queue.status === 'warning') return 'warn';
+  return 'ok';
+}
+
+// Converts a high-volume queue into a ship-like object
+function createShip(queue, now) {
+  const msgCount = Number(queue.messageCount) || 0;
+  const criticalThreshold = Number(queue.criticalThreshold) || 10000;
+  return {
+    id: shipId(queue),
+    letter: (queue.serverName || 'Q').charAt(0).toUpperCase(),
+    name: `${queue.serverName} / ${queue.queueName}`,
+    status: shipStatusOf(queue),
+    acked: false,
+    lastSeen: now - rand(5_000, 60_000),
+    errorRate: Math.min(100, Math.floor((msgCount / criticalThreshold) * 100)),
+    queue: msgCount,
+    latency: rand(40, 900),
+    lastEventAt: now,
+    events: [
+      { t: now, msg: `Queue depth: ${msgCount} messages` },
+      { t: now - 30000, msg: `Connected to ${queue.serverName}` },
+      { t: now - 120000, msg: 'Real-time monitoring active' }
+    ]
+  };
+}
+
+// Refreshes a ship from its queue; returns true when anything the dashboard shows changed
+function updateShip(ship, queue, now) {
+  const msgCount = Number(queue.messageCount) || 0;
+  const criticalThreshold = Number(queue.criticalThreshold) || 10000;
+  const shipStatus = shipStatusOf(queue);
+  if (ship.queue === msgCount && ship.status === shipStatus) {
+    return false;
+  }
+  ship.status = shipStatus;
+  ship.errorRate = Math.min(100, Math.floor((msgCount / criticalThreshold) * 100));
+  ship.queue = msgCount;
+  ship.lastSeen = now;
+  ship.lastEventAt = now;
+  ship.events.unshift({ t: now, msg: `Queue depth: ${msgCount} messages` });
+  ship.events.length = Math.min(ship.events.length, 20);
+  return true;
+}
+
+// Converts the high-volume queue list into ship-like objects in realShips. Ships are keyed
+// by server/queue, so a queue that is still listed keeps its ship object (and ack state).
+function loadQueuesIntoRealShips(queues) {
+  const previous = new Map(realShips.map(s => [s.id, s]));
+  realShips.length = 0;
+  
+  if (queues.length === 0) {
+    console.warn('❌ No queues returned from API');
+    return false;
+  }
+  
+  const now = Date.now();
+  queues.forEach(queue => {
+    const existing = previous.get(shipId(queue));
+    if (existing) {
+      updateShip(existing, queue, now);
+      realShips.push(existing);
+    } else {
+      realShips.push(createShip(queue, now));
+    }
+  });
+  
+  console.log(`✅ Loaded ${realShips.length} REAL queues into realShips`);
+  console.log(`📈 Status breakdown:`, realShips.reduce((acc, s) => { acc[s.status] = (acc[s.status] || 0) + 1; return acc; }, {}));
+  return true;
+}
+
+function showRealShips() {
+  ships.length = 0;
+  ships.push(...realShips);
+  ensureAllLetters();
+  render();
+}
+
+// Applies an incremental delta to realShips and ships. Returns the ids of the ships that
+// were added or whose display changed; removed ships are simply gone.
+function applyDeltaToShips(delta) {
+  const byId = new Map(realShips.map(s => [s.id, s]));
+  delta.removed.forEach(key => byId.delete(shipId(key)));
+  const touched = new Set();
+  const now = Date.now();
+  delta.added.concat(delta.changed).forEach(queue => {
+    const existing = byId.get(shipId(queue));
+    if (!existing) {
+      const ship = createShip(queue, now);
+      byId.set(ship.id, ship);
+      touched.add(ship.id);
+    } else if (updateShip(existing, queue, now)) {
+      touched.add(existing.id);
+    }
+  });
+  realShips.length = 0;
+  realShips.push(...byId.values());
+  ships.length = 0;
+  ships.push(...realShips);
+  return touched;
+}
+
+// Applies a "queues" push from /api/stream: the change made by the latest sweep plus
+// server tiles. A delta against our version only touches the rows it changed or moved;
+// if we missed a version in between, fetch the delta from our own version.
+async function applyQueueUpdate(data) {
+  const delta = data.delta;
+  if (delta.full) {
+    if (applyQueueDelta(delta)) {
+      loadQueuesIntoRealShips(sortedQueueRows());
+      showRealShips();
+    }
+  } else if (delta.fromVersion === queueVersion) {
+    if (applyQueueDelta(delta)) {
+      renderQueueChanges(applyDeltaToShips(delta));
+    }
+  } else if (delta.version !== queueVersion) {
+    if (await loadRealData()) {
+      showRealShips();
+    }
+  }
+  configuredServers = data.servers || [];
+  renderServerTiles();
+  renderDurableBacklog();
+}
+
 async function refreshData() {
   const btn = document.getElementById('refreshBtn');
   if (btn.classList.contains('refreshing')) return;
@@ -85,56 +194,16 @@ async function refreshData() {
   const success = await loadRealData();
   if (success) {
     // Use real data
-    ships.length = 0;
-    ships.push(...realShips);
-    ensureAllLetters();
-    render();
+    showRealShips();
+    configuredServers = []; // Re-read server status/freshness from the latest snapshot
     renderServerTiles(); // Update server tiles with new error/warning counts
+    renderDurableBacklog();
     console.log('Data refreshed successfully');
   }
   
-  // Reset auto-refresh timer
-  nextRefreshSeconds = 300;
-  
   setTimeout(() => btn.classList.remove('refreshing'), 500);
 }
 
-function updateRefreshTimer() {
-  const timer = document.getElementById('nextRefresh');
-  if (!timer) {
-    console.error('❌ Timer element #nextRefresh not found in DOM!');
-    return;
-  }
-  
-  const minutes = Math.floor(nextRefreshSeconds / 60);
-  const seconds = nextRefreshSeconds % 60;
-  const timeStr = `${minutes}:${seconds.toString().padStart(2, '0')}`;
-  timer.textContent = `Next refresh in ${timeStr}`;
-  
-  // Log every 10 seconds to avoid console spam
-  if (nextRefreshSeconds % 10 === 0) {
-    console.log(`⏰ Timer countdown: ${timeStr} (${nextRefreshSeconds}s remaining)`);
-  }
-  
-  nextRefreshSeconds--;
-  
-  if (nextRefreshSeconds < 0) {
-    console.log('🔄 Auto-refresh triggered!');
-    nextRefreshSeconds = 300;
-    refreshData();
-  }
-}
-
-function startAutoRefresh() {
-  console.log('🚀 Starting auto-refresh timer...');
-  // Initialize timer display immediately
-  updateRefreshTimer();
-  // Update countdown every second
-  const intervalId = setInterval(updateRefreshTimer, 1000);
-  console.log('✅ Auto-refresh timer started - updates every second, refreshes every 30 minutes');
-  return intervalId;
-}
-
 // ---------- Data model ----------
 const letters = "ABCDEFGHIJKLMNOPQRSTUVWXYZ".split("");
 const statuses = ["ok","warn","err","off"];
@@ -235,6 +304,70 @@ function buildServerQueuesMap() {
   return servers;
 }
 
+const DURABLE_BACKLOG_SIZE = 20;
+
+// Durables whose subscriber is offline first, then the largest backlogs, across all servers
+async function renderDurableBacklog() {
+  const container = document.getElementById('durableBacklog');
+  if (!container) return;
+
+  let durables;
+  try {
+    const response = await fetch(`/api/durables?sort=offline&limit=${DURABLE_BACKLOG_SIZE}`);
+    if (!response.ok) return;
+    durables = await response.json();
+  } catch (error) {
+    console.error('Failed to load durable backlog:', error);
+    return;
+  }
+
+  if (durables.length === 0) {
+    container.innerHTML = '<div class="server-modal-empty">No durable subscriptions reported</div>';
+    return;
+  }
+
+  let html = `
+    <table class="server-queues-table">
+      <thead>
+        <tr>
+          <th>Server</th>
+          <th>Topic</th>
+          <th>Durable</th>
+          <th>Client</th>
+          <th>Pending</th>
+          <th>Pending Size</th>
+          <th>Subscriber</th>
+          <th>Status</th>
+        </tr>
+      </thead>
+      <tbody>
+  `;
+  durables.forEach(durable => {
+    const msgCount = Number(durable.messageCount) || 0;
+    const subscriber = durable.connected == null ? '-' : (durable.connected ? 'connected' : 'offline');
+    html += `
+      <tr>
+        <td>${escapeHtml(durable.serverName)}</td>
+        <td>${escapeHtml(durable.topicName)}</td>
+        <td>${escapeHtml(durable.durableName)}</td>
+        <td>${escapeHtml(durable.clientId || '-')}</td>
+        <td style="text-align: right; font-family: monospace;">${msgCount.toLocaleString()}</td>
+        <td style="text-align: right; font-family: monospace;">${formatByteSize(durable.pendingMessageSize)}</td>
+        <td class="${durable.offlineBacklog ? 'queue-no-consumers' : ''}">${subscriber}</td>
+        <td><span class="queue-status-badge ${durable.status === 'critical' ? 'critical' : (durable.status === 'warning' ? 'warning' : 'ok')}">${durable.status}</span></td>
+      </tr>
+    `;
+  });
+  html += `
+      </tbody>
+    </table>
+  `;
+  container.innerHTML = html;
+}
+
+// Message memory usage at which a server tile flags memory pressure
+const MEMORY_PRESSURE_PERCENT = 80;
+
 async function renderServerTiles() {
   const serversGrid = document.getElementById('serversGrid');
   if (!serversGrid) return;
@@ -270,6 +403,9 @@ async function renderServerTiles() {
   }).forEach(serverItem => {
     const serverName = typeof serverItem === 'string' ? serverItem : serverItem.name;
     const serverStatus = typeof serverItem === 'string' ? 'UNKNOWN' : (serverItem.status || 'UNKNOWN');
+    const serverFreshness = typeof serverItem === 'string' ? 'FRESH' : (serverItem.freshness || 'FRESH');
+    const memoryUsage = typeof serverItem === 'string' ? null : serverItem.memoryUsagePercent;
+    const connectionCount = typeof serverItem === 'string' ? null : serverItem.connectionCount;
     const queues = serverDataMap[serverName] || [];
     const errorCount = queues.filter(q => q.status === 'err').length;
     const warnCount = queues.filter(q => q.status === 'warn').length;
@@ -297,6 +433,8 @@ async function renderServerTiles() {
         <div class="server-tile-name">${statusIndicator} ${serverName}</div>
         <div class="server-tile-count">${queues.length}</div>
         <div class="server-tile-info">${errorCount} errors • ${warnCount} warnings</div>
+        ${memoryUsage != null ? `<div class="${memoryUsage >= MEMORY_PRESSURE_PERCENT ? 'server-tile-status' : 'server-tile-info'}">mem ${Math.round(memoryUsage)}%${connectionCount != null ? ` • ${connectionCount.toLocaleString()} conns` : ''}</div>` : ''}
+        ${serverFreshness !== 'FRESH' ? `<div class="server-tile-status">${serverFreshness === 'STALE' ? 'stale data' : 'no data'}</div>` : ''}
       `;
     }
     
@@ -308,6 +446,12 @@ async function renderServerTiles() {
   });
 }
 
+const MODAL_PAGE_SIZE = 200;
+const MODAL_SERVER_SORTS = { name: 'name', countAsc: 'countAsc', countDesc: 'count', status: 'count', bytes: 'bytes', noConsumers: 'noConsumers' };
+let currentModalCursor = null;
+let currentModalTotal = 0;
+let currentModalRequest = 0;
+
 async function openServerModal(serverName) {
   const overlay = document.getElementById('serverModalOverlay');
   const title = document.getElementById('serverModalTitle');
@@ -320,33 +464,48 @@ async function openServerModal(serverName) {
   content.innerHTML = '<div class="server-modal-empty">Loading queues...</div>';
   overlay.classList.add('active');
   
-  await loadServerModalQueues(serverName, searchInput);
+  // Search runs on the server; wait for a pause in typing before asking
+  searchInput.removeEventListener('keyup', window.serverModalSearchHandler);
+  window.serverModalSearchHandler = () => {
+    clearTimeout(window.serverModalSearchTimer);
+    window.serverModalSearchTimer = setTimeout(() => loadServerModalQueues(false), 250);
+  };
+  searchInput.addEventListener('keyup', window.serverModalSearchHandler);
+  
+  await loadServerModalQueues(false);
 }
 
-async function loadServerModalQueues(serverName, searchInput) {
+// Fetches one page of the server inventory; append=true adds the next page to the table
+async function loadServerModalQueues(append) {
+  if (!currentModalServer) return;
   const content = document.getElementById('serverModalContent');
+  const searchInput = document.getElementById('serverModalSearch');
+  const requestId = ++currentModalRequest;
+  
+  const params = new URLSearchParams({
+    sort: MODAL_SERVER_SORTS[currentModalSort] || 'count',
+    limit: MODAL_PAGE_SIZE
+  });
+  if (searchInput.value.trim()) params.set('q', searchInput.value.trim());
+  if (append && currentModalCursor) params.set('cursor', currentModalCursor);
   
   try {
-    const response = await fetch(`/api/queues/${encodeURIComponent(serverName)}`);
-    const queues = await response.json();
+    const response = await fetch(`/api/queues/${encodeURIComponent(currentModalServer)}?${params}`);
+    const page = await response.json();
+    if (requestId !== currentModalRequest) return; // a newer search or sort superseded this one
+    
+    currentModalQueues = append ? currentModalQueues.concat(page.queues) : page.queues;
+    currentModalCursor = page.nextCursor;
+    currentModalTotal = page.total;
     
-    if (queues.length === 0) {
-      content.innerHTML = '<div class="server-modal-empty">No queues found on this server</div>';
+    if (currentModalQueues.length === 0) {
+      content.innerHTML = searchInput.value.trim()
+        ? '<div class="server-modal-empty">No queues match your search</div>'
+        : '<div class="server-modal-empty">No queues found on this server</div>';
+      updateSortButtonStates();
       return;
     }
-    
-    // Store all queues for sorting and filtering
-    currentModalQueues = queues;
-    renderServerQueuesTable(queues);
-    
-    searchInput.removeEventListener('keyup', window.serverModalSearchHandler);
-    window.serverModalSearchHandler = () => {
-      const filtered = queues.filter(q => 
-        q.queueName.toLowerCase().includes(searchInput.value.toLowerCase())
-      );
-      renderServerQueuesTable(filtered);
-    };
-    searchInput.addEventListener('keyup', window.serverModalSearchHandler);
+    renderServerQueuesTable(currentModalQueues);
   } catch (err) {
     console.error('Failed to load server queues:', err);
     content.innerHTML = '<div class="server-modal-empty">Error loading queues. Please try again.</div>';
@@ -358,28 +517,13 @@ async function refreshServerModalQueues() {
   
   const btn = document.getElementById('serverModalRefreshBtn');
   const content = document.getElementById('serverModalContent');
-  const searchInput = document.getElementById('serverModalSearch');
   
   btn.disabled = true;
   btn.classList.add('refreshing');
   content.style.opacity = '0.6';
   
   try {
-    const response = await fetch(`/api/queues/${encodeURIComponent(currentModalServer)}`);
-    const queues = await response.json();
-    
-    if (queues.length === 0) {
-      content.innerHTML = '<div class="server-modal-empty">No queues found on this server</div>';
-    } else {
-      currentModalQueues = queues;
-      const filtered = queues.filter(q => 
-        q.queueName.toLowerCase().includes(searchInput.value.toLowerCase())
-      );
-      renderServerQueuesTable(filtered);
-    }
-  } catch (err) {
-    console.error('Failed to refresh queues:', err);
-    content.innerHTML = '<div class="server-modal-empty">Error refreshing queues. Please try again.</div>';
+    await loadServerModalQueues(false);
   } finally {
     btn.disabled = false;
     btn.classList.remove('refreshing');
@@ -390,50 +534,33 @@ async function refreshServerModalQueues() {
 function renderServerQueuesTable(queues) {
   const content = document.getElementById('serverModalContent');
   
-  if (queues.length === 0) {
-    content.innerHTML = '<div class="server-modal-empty">No queues match your search</div>';
-    return;
-  }
-  
-  // Sort queues based on current sort setting
-  let sorted = [...queues];
-  if (currentModalSort === 'name') {
-    sorted.sort((a, b) => a.queueName.localeCompare(b.queueName));
-  } else if (currentModalSort === 'countAsc') {
-    sorted.sort((a, b) => Number(a.messageCount) - Number(b.messageCount));
-  } else if (currentModalSort === 'countDesc') {
-    sorted.sort((a, b) => Number(b.messageCount) - Number(a.messageCount));
-  } else if (currentModalSort === 'status') {
-    const statusOrder = { critical: 0, warning: 1, ok: 2 };
-    sorted.sort((a, b) => {
-      const countA = Number(a.messageCount) || 0;
-      const countB = Number(b.messageCount) || 0;
-      const statusA = a.status === 'critical' ? 0 : (countA > 10000 ? 0 : (countA > 5000 ? 1 : 2));
-      const statusB = b.status === 'critical' ? 0 : (countB > 10000 ? 0 : (countB > 5000 ? 1 : 2));
-      return statusA - statusB || countB - countA;
-    });
-  }
-  
+  // Rows arrive sorted by the server; status order is count order, since status follows count
   let html = `
     <table class="server-queues-table">
       <thead>
         <tr>
           <th>Queue Name</th>
           <th>Message Count</th>
+          <th>Consumers</th>
+          <th>Pending Size</th>
           <th>Status</th>
         </tr>
       </thead>
       <tbody>
   `;
   
-  sorted.forEach(queue => {
+  queues.forEach(queue => {
     const msgCount = Number(queue.messageCount) || 0;
-    const status = queue.status === 'critical' ? 'critical' : (msgCount > 5000 ? 'warning' : 'ok');
-    const statusLabel = queue.status || (msgCount > 10000 ? 'CRITICAL' : (msgCount > 5000 ? 'WARNING' : 'OK'));
+    const status = queue.status === 'critical' || queue.status === 'warning' ? queue.status : 'ok';
+    const statusLabel = queue.status || 'ok';
+    const consumers = queue.consumerCount == null ? '-' : Number(queue.consumerCount).toLocaleString();
+    const noConsumers = queue.consumerCount === 0 && msgCount > 0;
     html += `
       <tr>
         <td>${escapeHtml(queue.queueName)}</td>
         <td style="text-align: right; font-family: monospace;">${msgCount.toLocaleString()}</td>
+        <td class="${noConsumers ? 'queue-no-consumers' : ''}" style="text-align: right; font-family: monospace;">${consumers}</td>
+        <td style="text-align: right; font-family: monospace;">${formatByteSize(queue.pendingMessageSize)}</td>
         <td><span class="queue-status-badge ${status}">${statusLabel}</span></td>
       </tr>
     `;
@@ -442,15 +569,33 @@ function renderServerQueuesTable(queues) {
   html += `
       </tbody>
     </table>
+    <div class="server-modal-empty">
+      Showing ${queues.length.toLocaleString()} of ${currentModalTotal.toLocaleString()} queues
+      ${currentModalCursor ? '<button class="btn" style="margin-left: 10px; font-size: 12px;" onclick="loadServerModalQueues(true)">Load more</button>' : ''}
+    </div>
   `;
   
   content.innerHTML = html;
   updateSortButtonStates();
 }
 
+function formatByteSize(bytes) {
+  if (bytes == null) {
+    return '-';
+  }
+  const units = ['B', 'KB', 'MB', 'GB', 'TB'];
+  let value = Number(bytes);
+  let unit = 0;
+  while (value >= 1024 && unit < units.length - 1) {
+    value /= 1024;
+    unit++;
+  }
+  return `${unit === 0 ? value : value.toFixed(1)} ${units[unit]}`;
+}
+
 function setModalSort(sortType) {
   currentModalSort = sortType;
-  renderServerQueuesTable(currentModalQueues);
+  loadServerModalQueues(false);
 }
 
 function updateSortButtonStates() {
@@ -458,7 +603,9 @@ function updateSortButtonStates() {
     'name': document.getElementById('sortByNameBtn'),
     'countAsc': document.getElementById('sortByCountAscBtn'),
     'countDesc': document.getElementById('sortByCountDescBtn'),
-    'status': document.getElementById('sortByStatusBtn')
+    'status': document.getElementById('sortByStatusBtn'),
+    'bytes': document.getElementById('sortByBytesBtn'),
+    'noConsumers': document.getElementById('sortByNoConsumersBtn')
   };
   
   Object.keys(buttons).forEach(key => {
@@ -491,18 +638,17 @@ document.addEventListener('DOMContentLoaded', () => {
 });
 
 // ---------- Rendering ----------
-function render(){
-  const now = Date.now();
-  lastTick.textContent = "Last update: " + new Date(now).toLocaleTimeString();
+const ATTENTION_LIST_SIZE = 12;
 
-  // Helper: exclude LAB servers when prodOnlyFilter is active
-  function isVisibleShip(s) {
-    if (!prodOnlyFilter) return true;
-    const serverName = s.name.split(' / ')[0] || '';
-    return !serverName.toUpperCase().includes('LAB');
-  }
+// Excludes LAB servers when prodOnlyFilter is active
+function isVisibleShip(s) {
+  if (!prodOnlyFilter) return true;
+  const serverName = s.name.split(' / ')[0] || '';
+  return !serverName.toUpperCase().includes('LAB');
+}
 
-  // counts
+function renderCounts() {
+  lastTick.textContent = "Last update: " + new Date().toLocaleTimeString();
   const c = { ok:0, warn:0, err:0, off:0 };
   ships.filter(isVisibleShip).forEach(s => c[s.status]++);
   countsEl.innerHTML = `
@@ -511,6 +657,101 @@ function render(){
     <div class="chip"><span class="dot off"></span><b>${c.off}</b>&nbsp;Offline</div>
     <div class="chip"><span class="dot ok"></span><b>${c.ok}</b>&nbsp;Healthy</div>
   `;
+}
+
+// attention list = err/warn not acked, sorted by severity + recency
+function attentionShips() {
+  return ships
+    .filter(isVisibleShip)
+    .filter(s => (s.status==="err" || s.status==="warn") && !s.acked)
+    .filter(s => !q || s.name.toLowerCase().includes(q))
+    .sort((a,b)=> statusWeight[b.status]-statusWeight[a.status] || b.lastEventAt-a.lastEventAt);
+}
+
+// all list A–Z with search/filter
+function allListShips() {
+  return ships
+    .filter(isVisibleShip)
+    .sort((a,b)=> a.letter.localeCompare(b.letter) || a.name.localeCompare(b.name))
+    .filter(s=>{
+      // Filter by selected server
+      if (selectedServer) {
+        const parts = s.name.split(' / ');
+        const serverName = parts[0] || 'Unknown';
+        if (serverName !== selectedServer) return false;
+      }
+      if(q && !s.name.toLowerCase().includes(q)) return false;
+      if(filter === "all") return true;
+      if(filter === "attention") return (s.status==="err" || s.status==="warn");
+      return s.status === filter;
+    });
+}
+
+// Brings the rows of a list in line with the wanted ships. Rows already in the right place
+// are left alone; a ship in `touched` gets a fresh row, and rows that moved are reinserted.
+function patchRows(container, wanted, isAttention, touched) {
+  [...container.children].forEach(el => { if (!el.classList.contains("row")) el.remove(); });
+  const existing = new Map([...container.children].map(row => [row.dataset.shipId, row]));
+  const wantedIds = new Set(wanted.map(s => s.id));
+  existing.forEach((row, id) => { if (!wantedIds.has(id)) row.remove(); });
+
+  let next = container.firstElementChild;
+  wanted.forEach(s => {
+    let row = existing.get(s.id);
+    if (row && touched.has(s.id)) {
+      const fresh = shipRow(s, isAttention);
+      row.replaceWith(fresh);
+      if (next === row) next = fresh;
+      row = fresh;
+    }
+    if (!row) row = shipRow(s, isAttention);
+    if (row === next) {
+      next = next.nextElementSibling;
+    } else {
+      container.insertBefore(row, next);
+    }
+  });
+}
+
+function renderAttentionList(attention, touched) {
+  attentionCount.textContent = attention.length;
+  patchRows(attentionList, attention.slice(0, ATTENTION_LIST_SIZE), true, touched);
+  if(attention.length===0){
+    attentionList.innerHTML = `<div style="color:rgba(255,255,255,0.65);font-size:12px;padding:8px 2px">
+      No unacknowledged warnings/errors right now 🎉
+    </div>`;
+  } else if(attention.length > ATTENTION_LIST_SIZE){
+    const more = document.createElement("div");
+    more.style.color = "rgba(255,255,255,0.65)";
+    more.style.fontSize = "12px";
+    more.style.padding = "8px 2px";
+    more.textContent = `…and ${attention.length-ATTENTION_LIST_SIZE} more`;
+    attentionList.appendChild(more);
+  }
+}
+
+function renderAllList(filtered, touched) {
+  allCount.textContent = filtered.length;
+  // map first row per letter for jump
+  firstByLetter.clear();
+  filtered.forEach(s => { if(!firstByLetter.has(s.letter)) firstByLetter.set(s.letter, s.id); });
+  patchRows(allList, filtered, false, touched);
+}
+
+// Redraws what a queue delta can change: counts, and only the list rows that were added,
+// changed, removed or moved. Filters, search and selection stay as they are.
+function renderQueueChanges(touched) {
+  renderCounts();
+  renderAttentionList(attentionShips(), touched);
+  renderAllList(allListShips(), touched);
+  if(selectedId && touched.has(selectedId)){
+    const sel = ships.find(x=>x.id===selectedId);
+    if(sel) renderDetails(sel);
+  }
+}
+
+function render(){
+  renderCounts();
 
   // filters
   const filters = [
@@ -530,61 +771,17 @@ function render(){
     filtersEl.appendChild(b);
   });
 
-  // attention list = err/warn not acked, sorted by severity + recency
-  const attention = ships
-    .filter(isVisibleShip)
-    .filter(s => (s.status==="err" || s.status==="warn") && !s.acked)
-    .filter(s => !q || s.name.toLowerCase().includes(q))
-    .sort((a,b)=> statusWeight[b.status]-statusWeight[a.status] || b.lastEventAt-a.lastEventAt);
+  const attention = attentionShips();
 
   console.log(`Building attention list: ${attention.length} items from ${ships.length} total ships`);
   console.log(`All ships status breakdown:`, ships.reduce((acc, s) => { acc[s.status] = (acc[s.status] || 0) + 1; return acc; }, {}));
   attention.forEach(s => console.log(`  - [${s.status}] ${s.name} (acked=${s.acked})`));
   
-  attentionCount.textContent = attention.length;
-
+  // A full render starts from empty lists, so every row is drawn again
   attentionList.innerHTML = "";
-  if(attention.length===0){
-    attentionList.innerHTML = `<div style="color:rgba(255,255,255,0.65);font-size:12px;padding:8px 2px">
-      No unacknowledged warnings/errors right now 🎉
-    </div>`;
-  } else {
-    attention.slice(0, 12).forEach(s => attentionList.appendChild(shipRow(s, true)));
-    if(attention.length > 12){
-      const more = document.createElement("div");
-      more.style.color = "rgba(255,255,255,0.65)";
-      more.style.fontSize = "12px";
-      more.style.padding = "8px 2px";
-      more.textContent = `…and ${attention.length-12} more`;
-      attentionList.appendChild(more);
-    }
-  }
-
-  // all list A–Z with search/filter
-  const base = ships.filter(isVisibleShip).sort((a,b)=> a.letter.localeCompare(b.letter) || a.name.localeCompare(b.name));
-
-  const filtered = base.filter(s=>{
-    // Filter by selected server
-    if (selectedServer) {
-      const parts = s.name.split(' / ');
-      const serverName = parts[0] || 'Unknown';
-      if (serverName !== selectedServer) return false;
-    }
-    if(q && !s.name.toLowerCase().includes(q)) return false;
-    if(filter === "all") return true;
-    if(filter === "attention") return (s.status==="err" || s.status==="warn");
-    return s.status === filter;
-  });
-
-  allCount.textContent = filtered.length;
-
-  // map first row per letter for jump
-  firstByLetter.clear();
   allList.innerHTML = "";
-  filtered.forEach(s=>{
-    if(!firstByLetter.has(s.letter)) firstByLetter.set(s.letter, s.id);
-    allList.appendChild(shipRow(s, false));
-  });
+  renderAttentionList(attention, new Set());
+  renderAllList(allListShips(), new Set());
 
   // keep details up to date
   if(selectedId){
@@ -597,6 +794,7 @@ function shipRow(s, isAttention){
   const row = document.createElement("div");
   row.className = "row";
   row.id = s.id;
+  row.dataset.shipId = s.id;
   row.classList.toggle("active", s.id===selectedId);
 
   const age = Math.max(0, Date.now() - s.lastEventAt);
@@ -726,6 +924,7 @@ function escapeHtml(str){
   ensureAllLetters();
   buildIndex();
   renderServerTiles();
+  renderDurableBacklog();
   
   // default select first err/warn if exists, else first ship
   function selectDefault(){
@@ -741,5 +940,6 @@ function escapeHtml(str){
   }
   selectDefault();
   render(); // Always update timestamps and counts display
-  startAutoRefresh();
+  // The server pushes new queue data as soon as a sweep changes it
+  subscribeLiveUpdates(['queues'], { queues: applyQueueUpdate });
 })();
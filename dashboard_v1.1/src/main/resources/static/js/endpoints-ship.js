@@ -4,8 +4,6 @@ let filteredSystems = [];
 let currentFilter = 'all';
 let currentShipCodeFilter = 'all';
 let currentView = 'grid';
-let autoRefreshInterval = null;
-let nextRefreshSeconds = 900;
 let lastScrollTop = 0;
 let scrollThreshold = 100;
 
@@ -71,7 +69,11 @@ function populateSuppressDropdown() {
 document.addEventListener('DOMContentLoaded', function() {
     initializeEventListeners();
     loadSystemData();
-    startAutoRefresh();
+    // The server pushes the status table again whenever it changes
+    subscribeLiveUpdates(['ships'], {
+        ships: applySystemData,
+        'ships-error': error => showError('⚠️ Database Connection Error<br/><small>' + escapeHtml(error.message || 'Unable to retrieve system status data.') + '</small>')
+    });
     initializeAutoHideHeader();
 });
 
@@ -177,16 +179,7 @@ async function loadSystemData() {
             throw new Error(data.message || 'Database connection failed');
         }
         
-        // Ensure data is an array
-        allSystems = Array.isArray(data) ? data : [];
-        console.log(`Loaded ${allSystems.length} systems from API`);
-
-        populateShipCodeFilter();
-        populateSuppressDropdown();
-        renderSuppressedTags();
-        applyFilters();
-        updateSummary();
-        updateLastUpdate();
+        applySystemData(data);
         
     } catch (error) {
         console.error('Error loading system data:', error);
@@ -197,6 +190,20 @@ async function loadSystemData() {
     }
 }
 
+// Replaces the table with a full status list (from the API or a live update)
+function applySystemData(data) {
+    // Ensure data is an array
+    allSystems = Array.isArray(data) ? data : [];
+    console.log(`Loaded ${allSystems.length} systems`);
+
+    populateShipCodeFilter();
+    populateSuppressDropdown();
+    renderSuppressedTags();
+    applyFilters();
+    updateSummary();
+    updateLastUpdate();
+}
+
 // Show loading state
 function showLoading() {
     const container = document.getElementById('systemsContainer');
@@ -434,33 +441,9 @@ async function refreshData() {
     
     await loadSystemData();
     
-    // Reset auto-refresh timer
-    nextRefreshSeconds = 900;
-    
     setTimeout(() => btn.classList.remove('refreshing'), 500);
 }
 
-// Auto refresh
-function startAutoRefresh() {
-    // Update countdown
-    setInterval(() => {
-        if (nextRefreshSeconds > 0) {
-            nextRefreshSeconds--;
-            const minutes = Math.floor(nextRefreshSeconds / 60);
-            const seconds = nextRefreshSeconds % 60;
-            document.getElementById('nextRefresh').textContent = 
-                `Next refresh in ${minutes}:${seconds.toString().padStart(2, '0')}`;
-        }
-    }, 1000);
-    
-    // Auto refresh every 15 minutes
-    setInterval(async () => {
-        console.log('Auto-refresh triggered');
-        await loadSystemData();
-        nextRefreshSeconds = 900;
-    }, 900000);
-}
-
 // Helper functions
 function isRunning(status) {
     if (!status) return false;
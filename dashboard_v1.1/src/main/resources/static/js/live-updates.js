@@ -0,0 +1,61 @@
+// ---------- Live updates (Server-Sent Events) ----------
+// Subscribes to /api/stream for the given topics. The server pushes a topic only when
+// its data changes; handlers[topic] gets the parsed data, handlers[topic + '-error']
+// gets { message } when the backend source fails. EventSource reconnects by itself;
+// when the server refuses the stream (e.g. expired session) a new one is opened later,
+// resuming from the last event id seen.
+function subscribeLiveUpdates(topics, handlers) {
+  let source = null;
+  let retryTimer = null;
+  let lastEventId = null;
+
+  function setStatus(text) {
+    const el = document.getElementById('nextRefresh');
+    if (el) el.textContent = text;
+  }
+
+  function dispatch(name, event) {
+    lastEventId = event.lastEventId || lastEventId;
+    const handler = handlers[name];
+    if (!handler) return;
+    try {
+      handler(JSON.parse(event.data));
+    } catch (err) {
+      console.error(`Failed to apply live update "${name}":`, err);
+    }
+  }
+
+  function connect() {
+    const params = new URLSearchParams({ topics: topics.join(',') });
+    if (lastEventId) params.set('lastEventId', lastEventId);
+    source = new EventSource(`/api/stream?${params}`);
+
+    source.onopen = () => setStatus('Live updates on');
+    topics.forEach(topic => {
+      source.addEventListener(topic, event => {
+        dispatch(topic, event);
+        setStatus(`Live • updated ${new Date().toLocaleTimeString()}`);
+      });
+      source.addEventListener(`${topic}-error`, event => dispatch(`${topic}-error`, event));
+    });
+
+    source.onerror = () => {
+      if (source.readyState === EventSource.CLOSED) {
+        setStatus('Live updates disconnected, retrying...');
+        clearTimeout(retryTimer);
+        retryTimer = setTimeout(connect, 15000);
+      } else {
+        setStatus('Reconnecting...');
+      }
+    };
+  }
+
+  connect();
+  window.addEventListener('beforeunload', () => source && source.close());
+  return {
+    close() {
+      clearTimeout(retryTimer);
+      if (source) source.close();
+    }
+  };
+}
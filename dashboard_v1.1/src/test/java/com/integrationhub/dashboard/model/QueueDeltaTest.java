@@ -0,0 +1,117 @@
+package com.integrationhub.dashboard.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueueDeltaTest {
+
+    private static QueueInfo queue(String server, String name, long depth) {
+        return new QueueInfo(server, name, depth);
+    }
+
+    private static QueueInfo trending(String name, long depth, double ratePerSecond) {
+        QueueInfo queue = queue("EMS-1", name, depth);
+        queue.setTrend(ratePerSecond);
+        return queue;
+    }
+
+    @Test
+    void reportsAddedChangedAndRemovedQueues() {
+        QueueInfo kept = queue("EMS-1", "KEPT", 100);
+        QueueInfo grown = queue("EMS-1", "GROWN", 6000);
+        QueueDelta delta = QueueDelta.between(
+                4, List.of(queue("EMS-1", "KEPT", 100), queue("EMS-1", "GROWN", 200), queue("EMS-1", "GONE", 300)),
+                5, List.of(kept, grown, queue("EMS-2", "NEW", 400)));
+
+        assertThat(delta.fromVersion()).isEqualTo(4);
+        assertThat(delta.version()).isEqualTo(5);
+        assertThat(delta.full()).isFalse();
+        assertThat(delta.added()).extracting(QueueInfo::getQueueName).containsExactly("NEW");
+        assertThat(delta.changed()).containsExactly(grown);
+        assertThat(delta.removed()).containsExactly(new QueueDelta.QueueKey("EMS-1", "GONE"));
+        assertThat(delta.queues()).isEmpty();
+        assertThat(delta.hasChanges()).isTrue();
+    }
+
+    @Test
+    void keysQueuesByServerAndName() {
+        QueueDelta delta = QueueDelta.between(
+                1, List.of(queue("EMS-1", "Q", 10)),
+                2, List.of(queue("EMS-2", "Q", 10)));
+
+        assertThat(delta.added()).extracting(QueueInfo::getServerName).containsExactly("EMS-2");
+        assertThat(delta.removed()).containsExactly(new QueueDelta.QueueKey("EMS-1", "Q"));
+    }
+
+    @Test
+    void identicalListsHaveNoChanges() {
+        QueueDelta delta = QueueDelta.between(
+                1, List.of(queue("EMS-1", "A", 10), queue("EMS-1", "B", 20)),
+                2, List.of(queue("EMS-1", "B", 20), queue("EMS-1", "A", 10)));
+
+        assertThat(delta.added()).isEmpty();
+        assertThat(delta.changed()).isEmpty();
+        assertThat(delta.removed()).isEmpty();
+        assertThat(delta.hasChanges()).isFalse();
+    }
+
+    @Test
+    void ignoresRateMovesBelowTheTolerance() {
+        // Draining, so there are no threshold forecasts to move along with the rate
+        QueueDelta delta = QueueDelta.between(
+                1, List.of(trending("Q", 100, -1.0)),
+                2, List.of(trending("Q", 100, -1.04)));
+
+        assertThat(delta.changed()).isEmpty();
+    }
+
+    @Test
+    void reportsRateMovesAtTheTolerance() {
+        QueueDelta delta = QueueDelta.between(
+                1, List.of(trending("Q", 100, 0.0)),
+                2, List.of(trending("Q", 100, -0.05)));
+
+        assertThat(delta.changed()).extracting(QueueInfo::getRatePerSecond).containsExactly(-0.05);
+    }
+
+    @Test
+    void reportsMovedThresholdForecasts() {
+        QueueDelta delta = QueueDelta.between(
+                1, List.of(trending("Q", 100, 1.0)),
+                2, List.of(trending("Q", 100, 1.04)));
+
+        assertThat(delta.changed()).extracting(QueueInfo::getSecondsToWarning).containsExactly(4712L);
+    }
+
+    @Test
+    void reportsConsumerAndPendingSizeChanges() {
+        QueueInfo before = queue("EMS-1", "Q", 100);
+        before.setConsumerCount(1);
+        QueueInfo noConsumers = queue("EMS-1", "Q", 100);
+        noConsumers.setConsumerCount(0);
+        QueueInfo larger = queue("EMS-1", "Q", 100);
+        larger.setConsumerCount(1);
+        larger.setPendingMessageSize(2048L);
+
+        assertThat(QueueDelta.between(1, List.of(before), 2, List.of(noConsumers)).changed()).hasSize(1);
+        assertThat(QueueDelta.between(1, List.of(before), 2, List.of(larger)).changed()).hasSize(1);
+    }
+
+    @Test
+    void fullDeltaCarriesTheWholeList() {
+        List<QueueInfo> queues = List.of(queue("EMS-1", "A", 10), queue("EMS-1", "B", 20));
+
+        QueueDelta delta = QueueDelta.full(9, queues);
+
+        assertThat(delta.full()).isTrue();
+        assertThat(delta.version()).isEqualTo(9);
+        assertThat(delta.queues()).isEqualTo(queues);
+        assertThat(delta.added()).isEmpty();
+        assertThat(delta.changed()).isEmpty();
+        assertThat(delta.removed()).isEmpty();
+        assertThat(QueueDelta.full(9, List.of()).hasChanges()).isTrue();
+    }
+}
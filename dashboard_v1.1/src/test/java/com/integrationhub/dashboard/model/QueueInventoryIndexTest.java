@@ -0,0 +1,138 @@
+package com.integrationhub.dashboard.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueueInventoryIndexTest {
+
+    private static final Comparator<QueueInfo> BY_NAME = Comparator
+            .comparing((QueueInfo q) -> q.getQueueName().toUpperCase(Locale.ROOT))
+            .thenComparing(QueueInfo::getQueueName);
+    private static final Comparator<QueueInfo> BY_COUNT = Comparator
+            .comparingLong(QueueInfo::getMessageCount).reversed()
+            .thenComparing(BY_NAME);
+
+    private static QueueInfo queue(String name, long count) {
+        return new QueueInfo("EMS-1", name, count);
+    }
+
+    /** Follows nextCursor from the first page to the last and returns the queue names in order. */
+    private static List<String> pageThrough(QueueInventoryIndex index, String query, String match, String sort, int limit) {
+        List<String> names = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            QueueInventoryPage page = index.page("EMS-1", 1, query, match, sort, cursor, limit);
+            assertThat(page.queues().size()).isLessThanOrEqualTo(limit);
+            page.queues().forEach(q -> names.add(q.getQueueName()));
+            cursor = page.nextCursor();
+            assertThat(++pages).as("paging does not terminate").isLessThan(10_000);
+        } while (cursor != null);
+        return names;
+    }
+
+    private static List<String> expected(List<QueueInfo> queues, Predicate<QueueInfo> filter, Comparator<QueueInfo> order) {
+        return queues.stream().filter(filter).sorted(order).map(QueueInfo::getQueueName).toList();
+    }
+
+    @Test
+    void pagesByCountWithTiesBrokenByName() {
+        List<QueueInfo> queues = List.of(queue("b", 5), queue("A", 5), queue("a", 5), queue("C", 9),
+                queue("D", 0), queue("E", 5));
+        QueueInventoryIndex index = new QueueInventoryIndex(queues);
+
+        assertThat(pageThrough(index, "", QueueInventoryIndex.MATCH_CONTAINS, QueueInventoryIndex.SORT_COUNT, 2))
+                .containsExactly("C", "A", "a", "b", "E", "D");
+        assertThat(pageThrough(index, "", QueueInventoryIndex.MATCH_CONTAINS, QueueInventoryIndex.SORT_COUNT_ASC, 2))
+                .containsExactly("D", "E", "b", "a", "A", "C");
+    }
+
+    @Test
+    void pagesByNameWithinAPrefix() {
+        List<QueueInfo> queues = List.of(queue("ORDER.B", 1), queue("order.a", 2), queue("ORDERS", 3),
+                queue("ORD", 4), queue("PAYMENT", 5), queue("A.ORDER", 6));
+        QueueInventoryIndex index = new QueueInventoryIndex(queues);
+
+        QueueInventoryPage first = index.page("EMS-1", 1, "order.", QueueInventoryIndex.MATCH_PREFIX,
+                QueueInventoryIndex.SORT_NAME, null, 1);
+        assertThat(first.total()).isEqualTo(2);
+        assertThat(pageThrough(index, "order.", QueueInventoryIndex.MATCH_PREFIX, QueueInventoryIndex.SORT_NAME, 1))
+                .containsExactly("order.a", "ORDER.B");
+        assertThat(pageThrough(index, "ORDER", QueueInventoryIndex.MATCH_CONTAINS, QueueInventoryIndex.SORT_NAME, 2))
+                .containsExactly("A.ORDER", "order.a", "ORDER.B", "ORDERS");
+        assertThat(pageThrough(index, "zzz", QueueInventoryIndex.MATCH_PREFIX, QueueInventoryIndex.SORT_NAME, 3))
+                .isEmpty();
+    }
+
+    @Test
+    void malformedCursorRestartsFromTheFirstPage() {
+        QueueInventoryIndex index = new QueueInventoryIndex(List.of(queue("A", 3), queue("B", 2), queue("C", 1)));
+
+        for (String cursor : new String[] {"not base64!", "bm8tc2VwYXJhdG9y", "eDpB", ""}) {
+            QueueInventoryPage page = index.page("EMS-1", 1, "", QueueInventoryIndex.MATCH_CONTAINS,
+                    QueueInventoryIndex.SORT_COUNT, cursor, 2);
+            assertThat(page.queues()).extracting(QueueInfo::getQueueName).as(cursor).containsExactly("A", "B");
+            assertThat(page.nextCursor()).isNotNull();
+        }
+    }
+
+    @Test
+    void cursorStaysValidAcrossSnapshots() {
+        QueueInventoryIndex before = new QueueInventoryIndex(List.of(queue("A", 30), queue("B", 20), queue("C", 10)));
+        String cursor = before.page("EMS-1", 1, "", QueueInventoryIndex.MATCH_CONTAINS,
+                QueueInventoryIndex.SORT_COUNT, null, 1).nextCursor();
+
+        // A removed and a new queue ahead of the cursor: the next page continues after (30, A)
+        QueueInventoryIndex after = new QueueInventoryIndex(List.of(queue("B", 20), queue("C", 10), queue("Z", 40)));
+        QueueInventoryPage page = after.page("EMS-1", 2, "", QueueInventoryIndex.MATCH_CONTAINS,
+                QueueInventoryIndex.SORT_COUNT, cursor, 5);
+
+        assertThat(page.queues()).extracting(QueueInfo::getQueueName).containsExactly("B", "C");
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void agreesWithASortedListOnRandomInventories() {
+        Random random = new Random(11);
+        String[] segments = {"ORDER", "order", "PAY", "AUDIT", "Q", "q"};
+        for (int round = 0; round < 200; round++) {
+            List<QueueInfo> queues = new ArrayList<>();
+            for (int i = 0, size = random.nextInt(40); i < size; i++) {
+                QueueInfo queue = queue(segments[random.nextInt(segments.length)] + "." + random.nextInt(8) + "." + i,
+                        random.nextInt(4) * 100L);
+                if (random.nextBoolean()) {
+                    queue.setConsumerCount(random.nextInt(2));
+                }
+                if (random.nextBoolean()) {
+                    queue.setPendingMessageSize(random.nextInt(3) * 1024L);
+                }
+                queues.add(queue);
+            }
+            QueueInventoryIndex index = new QueueInventoryIndex(queues);
+            int limit = 1 + random.nextInt(7);
+
+            assertThat(pageThrough(index, "", QueueInventoryIndex.MATCH_CONTAINS, QueueInventoryIndex.SORT_COUNT, limit))
+                    .isEqualTo(expected(queues, q -> true, BY_COUNT));
+            assertThat(pageThrough(index, "", QueueInventoryIndex.MATCH_CONTAINS, QueueInventoryIndex.SORT_COUNT_ASC, limit))
+                    .isEqualTo(expected(queues, q -> true, BY_COUNT.reversed()));
+            assertThat(pageThrough(index, "order.", QueueInventoryIndex.MATCH_PREFIX, QueueInventoryIndex.SORT_NAME, limit))
+                    .isEqualTo(expected(queues, q -> q.getQueueName().toUpperCase(Locale.ROOT).startsWith("ORDER."), BY_NAME));
+            assertThat(pageThrough(index, ".3", QueueInventoryIndex.MATCH_CONTAINS, QueueInventoryIndex.SORT_COUNT, limit))
+                    .isEqualTo(expected(queues, q -> q.getQueueName().contains(".3"), BY_COUNT));
+            assertThat(pageThrough(index, "", QueueInventoryIndex.MATCH_CONTAINS, QueueInventoryIndex.SORT_BYTES, limit))
+                    .isEqualTo(expected(queues, q -> true, Comparator.comparingLong((QueueInfo q) ->
+                            q.getPendingMessageSize() == null ? -1 : q.getPendingMessageSize()).reversed().thenComparing(BY_NAME)));
+            assertThat(pageThrough(index, "", QueueInventoryIndex.MATCH_CONTAINS, QueueInventoryIndex.SORT_NO_CONSUMERS, limit))
+                    .isEqualTo(expected(queues, q -> true, Comparator.comparing(QueueInfo::isUnconsumedBacklog).reversed()
+                            .thenComparing(BY_COUNT)));
+        }
+    }
+}
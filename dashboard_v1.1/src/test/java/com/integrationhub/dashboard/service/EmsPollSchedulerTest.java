@@ -0,0 +1,153 @@
+package com.integrationhub.dashboard.service;
+
+import com.integrationhub.dashboard.config.TibcoEmsProperties;
+import com.integrationhub.dashboard.model.QueueInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmsPollSchedulerTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    private final TibcoEmsProperties properties = new TibcoEmsProperties();
+    private final TibcoEmsProperties.Server server = server("EMS-1");
+
+    EmsPollSchedulerTest() {
+        TibcoEmsProperties.Collector collector = properties.getCollector();
+        collector.setMinPollIntervalMs(10_000);
+        collector.setMaxPollIntervalMs(120_000);
+        collector.setVolatilityReference(10);
+        collector.setJitterRatio(0);
+    }
+
+    private static TibcoEmsProperties.Server server(String name) {
+        TibcoEmsProperties.Server server = new TibcoEmsProperties.Server();
+        server.setName(name);
+        return server;
+    }
+
+    private EmsPollScheduler scheduler() {
+        return new EmsPollScheduler(properties, new SimpleMeterRegistry());
+    }
+
+    private static QueueInfo growing(double ratePerSecond) {
+        QueueInfo queue = new QueueInfo("EMS-1", "Q", 0);
+        queue.setTrend(ratePerSecond);
+        return queue;
+    }
+
+    private long intervalAfterPoll(List<QueueInfo> queues) {
+        EmsPollScheduler scheduler = scheduler();
+        scheduler.recordPoll(server, queues, NOW);
+        EmsPollScheduler.PollState state = scheduler.getState("EMS-1");
+        assertThat(state.nextPollAt()).isEqualTo(NOW + state.intervalMs());
+        return state.intervalMs();
+    }
+
+    @Test
+    void pollsQuietServersAtTheMaximumInterval() {
+        assertThat(intervalAfterPoll(List.of())).isEqualTo(120_000);
+        assertThat(intervalAfterPoll(List.of(new QueueInfo("EMS-1", "Q", 100)))).isEqualTo(120_000);
+    }
+
+    @Test
+    void shortensTheIntervalWithVolatilityDownToTheMinimum() {
+        // Volatility sums absolute rates, so draining counts as much as growing
+        assertThat(intervalAfterPoll(List.of(growing(0.001), growing(-0.001)))).isEqualTo(119_976);
+        assertThat(intervalAfterPoll(List.of(growing(6), growing(-4)))).isEqualTo(60_000);
+        assertThat(intervalAfterPoll(List.of(growing(1000)))).isEqualTo(10_000);
+    }
+
+    @Test
+    void pollsServersWithCriticalQueuesAtTheMinimumInterval() {
+        assertThat(intervalAfterPoll(List.of(new QueueInfo("EMS-1", "Q", QueueInfo.CRITICAL_THRESHOLD + 1))))
+                .isEqualTo(10_000);
+        // 0.1 msg/s reaches the critical threshold in 100,000 s, 1 msg/s within the 120 s horizon
+        assertThat(intervalAfterPoll(List.of(growing(0.1)))).isGreaterThan(10_000);
+        QueueInfo nearCritical = new QueueInfo("EMS-1", "Q", QueueInfo.CRITICAL_THRESHOLD - 100);
+        nearCritical.setTrend(1);
+        assertThat(intervalAfterPoll(List.of(nearCritical))).isEqualTo(10_000);
+    }
+
+    @Test
+    void clampsAMinimumAboveTheMaximum() {
+        properties.getCollector().setMinPollIntervalMs(200_000);
+
+        assertThat(intervalAfterPoll(List.of())).isEqualTo(200_000);
+        assertThat(intervalAfterPoll(List.of(growing(1000)))).isEqualTo(200_000);
+    }
+
+    @Test
+    void aServerIntervalOverridesTheAdaptiveOne() {
+        server.setPollIntervalMs(45_000L);
+
+        assertThat(intervalAfterPoll(List.of(growing(1000)))).isEqualTo(45_000);
+    }
+
+    @Test
+    void usesTheRefreshIntervalWhenNotAdaptive() {
+        properties.getCollector().setAdaptive(false);
+        properties.getCollector().setRefreshIntervalMs(30_000);
+
+        assertThat(intervalAfterPoll(List.of(growing(1000)))).isEqualTo(30_000);
+        assertThat(scheduler().getState("EMS-1").intervalMs()).isEqualTo(30_000);
+    }
+
+    @Test
+    void jittersTheNextPollWithinTheRatio() {
+        properties.getCollector().setJitterRatio(0.1);
+        EmsPollScheduler scheduler = scheduler();
+        Set<Long> delays = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            scheduler.recordPoll(server, List.of(), NOW);
+            EmsPollScheduler.PollState state = scheduler.getState("EMS-1");
+            assertThat(state.intervalMs()).isEqualTo(120_000);
+            delays.add(state.nextPollAt() - NOW);
+        }
+
+        assertThat(delays).allSatisfy(delay -> assertThat(delay).isBetween(108_000L, 132_000L));
+        assertThat(delays).hasSizeGreaterThan(100);
+    }
+
+    @Test
+    void capsTheJitterRatioAtOne() {
+        properties.getCollector().setJitterRatio(5);
+        EmsPollScheduler scheduler = scheduler();
+        for (int i = 0; i < 1000; i++) {
+            scheduler.recordFailure(server, NOW);
+            assertThat(scheduler.getState("EMS-1").nextPollAt() - NOW).isBetween(0L, 240_000L);
+        }
+    }
+
+    @Test
+    void keepsTheIntervalAfterAFailedPollAndMarksTheServerOverdue() {
+        EmsPollScheduler scheduler = scheduler();
+        scheduler.recordPoll(server, List.of(growing(6), growing(-4)), NOW);
+        assertThat(scheduler.isOverdue("EMS-1")).isFalse();
+
+        scheduler.recordFailure(server, NOW + 60_000);
+
+        EmsPollScheduler.PollState state = scheduler.getState("EMS-1");
+        assertThat(state.intervalMs()).isEqualTo(60_000);
+        assertThat(state.nextPollAt()).isEqualTo(NOW + 120_000);
+        assertThat(state.volatility()).isEqualTo(10);
+        assertThat(state.lastPollFailed()).isTrue();
+        assertThat(scheduler.isOverdue("EMS-1")).isTrue();
+    }
+
+    @Test
+    void dueServersAreTheUnpolledAndThoseWhoseTimeHasCome() {
+        EmsPollScheduler scheduler = scheduler();
+        TibcoEmsProperties.Server other = server("EMS-2");
+        scheduler.recordPoll(server, List.of(), NOW);
+
+        assertThat(scheduler.dueServers(List.of(server, other), NOW + 1000)).containsExactly(other);
+        assertThat(scheduler.dueServers(List.of(server, other), NOW + 120_000)).containsExactly(server, other);
+    }
+}
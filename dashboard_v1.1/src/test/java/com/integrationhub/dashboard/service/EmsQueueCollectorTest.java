@@ -0,0 +1,108 @@
+package com.integrationhub.dashboard.service;
+
+import com.integrationhub.dashboard.config.TibcoEmsProperties;
+import com.integrationhub.dashboard.model.QueueDelta;
+import com.integrationhub.dashboard.model.QueueInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EmsQueueCollectorTest {
+
+    private final TibcoEmsProperties properties = new TibcoEmsProperties();
+    private final TibcoEmsQueueService queueService = mock(TibcoEmsQueueService.class);
+    private final List<List<QueueInfo>> sweeps = new ArrayList<>();
+    private EmsQueueCollector collector;
+
+    @BeforeEach
+    void setUp() {
+        TibcoEmsProperties.Server server = new TibcoEmsProperties.Server();
+        server.setName("EMS-1");
+        // Due again on every sweep
+        server.setPollIntervalMs(1L);
+        properties.setServers(List.of(server));
+        properties.getCollector().setJitterRatio(0);
+        properties.getCollector().setDeltaHistory(2);
+
+        when(queueService.getAllServers()).thenReturn(properties.getServers());
+        when(queueService.collectQueues(any())).thenAnswer(invocation ->
+                new TibcoEmsQueueService.SweepResult(Map.of("EMS-1", sweeps.remove(0)), Set.of()));
+        when(queueService.selectHighVolumeQueues(any())).thenAnswer(invocation -> {
+            Collection<List<QueueInfo>> inventories = invocation.getArgument(0);
+            return inventories.stream().flatMap(List::stream).toList();
+        });
+        when(queueService.getServerStatus()).thenReturn(Map.of("EMS-1", "OK"));
+        when(queueService.getTopicBacklogs()).thenReturn(Map.of());
+        when(queueService.getServerStats()).thenReturn(Map.of());
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        collector = new EmsQueueCollector(queueService, new QueueHistoryStore(properties),
+                new EmsServerStatsStore(properties, registry), new QueueTrendTracker(properties),
+                new EmsServerCircuitBreaker(properties), new EmsPollScheduler(properties, registry),
+                properties, registry);
+    }
+
+    private long sweep(long... depths) throws InterruptedException {
+        List<QueueInfo> queues = new ArrayList<>();
+        for (int i = 0; i < depths.length; i++) {
+            queues.add(new QueueInfo("EMS-1", "Q" + i, depths[i]));
+        }
+        sweeps.add(queues);
+        Thread.sleep(2);
+        collector.collect();
+        return collector.getSnapshot().getVersion();
+    }
+
+    @Test
+    void answersRetainedVersionsWithTheChangesSinceThen() throws InterruptedException {
+        sweep(100, 200);
+        long second = sweep(100, 300);
+        long third = sweep(100, 300, 400);
+
+        QueueDelta delta = collector.getQueueDelta(second);
+
+        assertThat(delta.full()).isFalse();
+        assertThat(delta.fromVersion()).isEqualTo(second);
+        assertThat(delta.version()).isEqualTo(third);
+        assertThat(delta.added()).extracting(QueueInfo::getQueueName).containsExactly("Q2");
+        // Growth rates over sweeps milliseconds apart vary, so changed entries are not asserted
+        assertThat(delta.removed()).isEmpty();
+        assertThat(collector.getLatestQueueDelta()).isEqualTo(delta);
+    }
+
+    @Test
+    void fallsBackToTheFullListWhenTheClientIsTooFarBehind() throws InterruptedException {
+        long first = sweep(100, 200);
+        sweep(100, 300);
+        long third = sweep(100, 300, 400);
+
+        // Only the last two versions are retained
+        QueueDelta tooOld = collector.getQueueDelta(first);
+        QueueDelta unknown = collector.getQueueDelta(0);
+
+        for (QueueDelta delta : List.of(tooOld, unknown)) {
+            assertThat(delta.full()).isTrue();
+            assertThat(delta.version()).isEqualTo(third);
+            assertThat(delta.queues()).extracting(QueueInfo::getMessageCount).containsExactly(100L, 300L, 400L);
+        }
+    }
+
+    @Test
+    void sendsTheFullListBeforeTheFirstSweep() {
+        QueueDelta delta = collector.getLatestQueueDelta();
+
+        assertThat(delta.full()).isTrue();
+        assertThat(delta.queues()).isEmpty();
+    }
+}
@@ -0,0 +1,132 @@
+package com.integrationhub.dashboard.service;
+
+import com.integrationhub.dashboard.config.TibcoEmsProperties;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmsServerCircuitBreakerTest {
+
+    private static final String SERVER = "EMS-1";
+
+    private static EmsServerCircuitBreaker breaker(long initialBackoffMs, long maxBackoffMs) {
+        TibcoEmsProperties properties = new TibcoEmsProperties();
+        properties.getCircuitBreaker().setFailureThreshold(3);
+        properties.getCircuitBreaker().setInitialBackoffMs(initialBackoffMs);
+        properties.getCircuitBreaker().setMaxBackoffMs(maxBackoffMs);
+        return new EmsServerCircuitBreaker(properties);
+    }
+
+    /** Fails the probe let through once the backoff window has passed. */
+    private static void failProbe(EmsServerCircuitBreaker breaker) throws InterruptedException {
+        long retryAt = breaker.getState(SERVER).retryAt();
+        Thread.sleep(Math.max(0, retryAt - System.currentTimeMillis()) + 5);
+        assertThat(breaker.allowRequest(SERVER)).isTrue();
+        assertThat(breaker.getState(SERVER).state()).isEqualTo(EmsServerCircuitBreaker.HALF_OPEN);
+        breaker.recordFailure(SERVER);
+    }
+
+    @Test
+    void opensAfterTheThresholdOfFailuresInARow() {
+        EmsServerCircuitBreaker breaker = breaker(60_000, 900_000);
+        breaker.recordFailure(SERVER);
+        breaker.recordFailure(SERVER);
+
+        assertThat(breaker.allowRequest(SERVER)).isTrue();
+        assertThat(breaker.getState(SERVER))
+                .isEqualTo(new EmsServerCircuitBreaker.CircuitState(EmsServerCircuitBreaker.CLOSED, 2, null));
+
+        long before = System.currentTimeMillis();
+        breaker.recordFailure(SERVER);
+        long after = System.currentTimeMillis();
+
+        EmsServerCircuitBreaker.CircuitState state = breaker.getState(SERVER);
+        assertThat(state.state()).isEqualTo(EmsServerCircuitBreaker.OPEN);
+        assertThat(state.consecutiveFailures()).isEqualTo(3);
+        assertThat(state.retryAt()).isBetween(before + 60_000, after + 60_000);
+        assertThat(breaker.allowRequest(SERVER)).isFalse();
+        assertThat(breaker.allowRequest("EMS-2")).isTrue();
+    }
+
+    @Test
+    void successResetsTheFailureCount() {
+        EmsServerCircuitBreaker breaker = breaker(60_000, 900_000);
+        breaker.recordFailure(SERVER);
+        breaker.recordFailure(SERVER);
+        breaker.recordSuccess(SERVER);
+        breaker.recordFailure(SERVER);
+        breaker.recordFailure(SERVER);
+
+        assertThat(breaker.getState(SERVER))
+                .isEqualTo(new EmsServerCircuitBreaker.CircuitState(EmsServerCircuitBreaker.CLOSED, 2, null));
+        assertThat(breaker.allowRequest(SERVER)).isTrue();
+    }
+
+    @Test
+    void letsExactlyOneProbeThroughOnceTheBackoffHasPassed() throws InterruptedException {
+        EmsServerCircuitBreaker breaker = breaker(20, 1000);
+        for (int i = 0; i < 3; i++) {
+            breaker.recordFailure(SERVER);
+        }
+        Thread.sleep(30);
+
+        assertThat(breaker.allowRequest(SERVER)).isTrue();
+        assertThat(breaker.allowRequest(SERVER)).isFalse();
+        assertThat(breaker.getState(SERVER).state()).isEqualTo(EmsServerCircuitBreaker.HALF_OPEN);
+        assertThat(breaker.getState(SERVER).retryAt()).isNull();
+
+        breaker.recordSuccess(SERVER);
+
+        assertThat(breaker.getState(SERVER))
+                .isEqualTo(new EmsServerCircuitBreaker.CircuitState(EmsServerCircuitBreaker.CLOSED, 0, null));
+        assertThat(breaker.allowRequest(SERVER)).isTrue();
+    }
+
+    @Test
+    void doublesTheBackoffOnEachFailedProbeUpToTheMaximum() throws InterruptedException {
+        EmsServerCircuitBreaker breaker = breaker(20, 50);
+        for (int i = 0; i < 3; i++) {
+            breaker.recordFailure(SERVER);
+        }
+
+        long before = System.currentTimeMillis();
+        failProbe(breaker);
+        long after = System.currentTimeMillis();
+        assertThat(breaker.getState(SERVER).state()).isEqualTo(EmsServerCircuitBreaker.OPEN);
+        assertThat(breaker.getState(SERVER).retryAt()).isBetween(before + 40, after + 40);
+
+        before = System.currentTimeMillis();
+        failProbe(breaker);
+        after = System.currentTimeMillis();
+        // 80 ms would be next, capped at the 50 ms maximum
+        assertThat(breaker.getState(SERVER).retryAt()).isBetween(before + 50, after + 50);
+        assertThat(breaker.getState(SERVER).consecutiveFailures()).isEqualTo(5);
+    }
+
+    @Test
+    void aReleasedProbeIsOfferedAgain() throws InterruptedException {
+        EmsServerCircuitBreaker breaker = breaker(20, 1000);
+        for (int i = 0; i < 3; i++) {
+            breaker.recordFailure(SERVER);
+        }
+        Thread.sleep(30);
+        assertThat(breaker.allowRequest(SERVER)).isTrue();
+
+        breaker.releaseRequest(SERVER);
+
+        assertThat(breaker.getState(SERVER).state()).isEqualTo(EmsServerCircuitBreaker.OPEN);
+        assertThat(breaker.allowRequest(SERVER)).isTrue();
+        assertThat(breaker.allowRequest(SERVER)).isFalse();
+    }
+
+    @Test
+    void releasingWhileClosedChangesNothing() {
+        EmsServerCircuitBreaker breaker = breaker(60_000, 900_000);
+        assertThat(breaker.allowRequest(SERVER)).isTrue();
+
+        breaker.releaseRequest(SERVER);
+
+        assertThat(breaker.getState(SERVER))
+                .isEqualTo(new EmsServerCircuitBreaker.CircuitState(EmsServerCircuitBreaker.CLOSED, 0, null));
+    }
+}
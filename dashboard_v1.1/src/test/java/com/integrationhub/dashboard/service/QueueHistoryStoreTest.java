@@ -0,0 +1,131 @@
+package com.integrationhub.dashboard.service;
+
+import com.integrationhub.dashboard.config.TibcoEmsProperties;
+import com.integrationhub.dashboard.model.QueueDepthPoint;
+import com.integrationhub.dashboard.model.QueueInfo;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueueHistoryStoreTest {
+
+    private static final long START = 1_700_000_000_000L;
+
+    private static QueueHistoryStore store(int blockSize, long maxBytes) {
+        TibcoEmsProperties properties = new TibcoEmsProperties();
+        properties.getHistory().setBlockSize(blockSize);
+        properties.getHistory().setMaxBytes(maxBytes);
+        return new QueueHistoryStore(properties);
+    }
+
+    private static void record(QueueHistoryStore store, String queueName, long timestamp, long depth) {
+        store.record("EMS-1", List.of(new QueueInfo("EMS-1", queueName, depth)), timestamp);
+    }
+
+    @Test
+    void roundTripsIrregularIntervalsNegativeDeltasAndLongGapsAcrossBlocks() {
+        QueueHistoryStore store = store(4, Long.MAX_VALUE);
+        long[] offsetsSeconds = {0, 30, 60, 91, 120, 119 + 3600, 3600 + 150, 3600 + 151, 86000, 86001,
+                86031, 86061, 86091, 86100, 86400 - 1, 86400 - 1 + 2};
+        long[] depths = {0, 12, 5, 5_000_000_000L, 0, 7, 7, 6, 1, 10_000, 9_999, 3, 3, Long.MAX_VALUE / 2, 2, 0};
+        List<QueueDepthPoint> expected = new ArrayList<>();
+        for (int i = 0; i < offsetsSeconds.length; i++) {
+            long timestamp = START + offsetsSeconds[i] * 1000 + 250;
+            record(store, "Q", timestamp, depths[i]);
+            expected.add(new QueueDepthPoint(timestamp / 1000 * 1000, depths[i]));
+        }
+
+        assertThat(store.getHistory("EMS-1", "Q", 0)).containsExactlyElementsOf(expected);
+        assertThat(store.getCompressedBytes()).isPositive();
+    }
+
+    @Test
+    void readsFromTheRequestedTimeInsideSealedBlocks() {
+        QueueHistoryStore store = store(4, Long.MAX_VALUE);
+        for (int i = 0; i < 10; i++) {
+            record(store, "Q", START + i * 30_000L, 100 - i);
+        }
+
+        List<QueueDepthPoint> points = store.getHistory("EMS-1", "Q", START + 5 * 30_000L);
+
+        assertThat(points).extracting(QueueDepthPoint::messageCount).containsExactly(95L, 94L, 93L, 92L, 91L);
+        assertThat(store.getHistory("EMS-1", "OTHER", 0)).isEmpty();
+    }
+
+    @Test
+    void keepsOneSamplePerSecond() {
+        QueueHistoryStore store = store(4, Long.MAX_VALUE);
+        record(store, "Q", START, 1);
+        record(store, "Q", START + 400, 2);
+        record(store, "Q", START - 1000, 3);
+
+        assertThat(store.getHistory("EMS-1", "Q", 0)).containsExactly(new QueueDepthPoint(START, 1));
+    }
+
+    @Test
+    void pruneDropsExpiredBlocksAndEmptySeries() {
+        QueueHistoryStore store = store(4, Long.MAX_VALUE);
+        for (int i = 0; i < 12; i++) {
+            record(store, "OLD", START + i * 1000L, i);
+        }
+        long later = START + 86_400_000L + 60_000;
+        record(store, "NEW", later, 1);
+
+        store.pruneExpired(later);
+
+        assertThat(store.getHistory("EMS-1", "OLD", 0)).isEmpty();
+        assertThat(store.getSeriesCount()).isEqualTo(1);
+        assertThat(store.getCompressedBytes()).isZero();
+    }
+
+    @Test
+    void dropsTheOldestBlocksAcrossSeriesToStayWithinBudget() {
+        // Two series of four buffered samples (64 bytes each) plus a few small blocks
+        long series = 64 + QueueHistoryStore.SERIES_OVERHEAD_BYTES + "EMS-1\u0000A".length();
+        long maxBytes = 2 * series + 3 * (QueueHistoryStore.BLOCK_OVERHEAD_BYTES + 8);
+        QueueHistoryStore store = store(4, maxBytes);
+        for (int i = 0; i < 200; i++) {
+            long timestamp = START + i * 30_000L;
+            store.record("EMS-1", List.of(new QueueInfo("EMS-1", "A", i), new QueueInfo("EMS-1", "B", 1000 - i)), timestamp);
+            assertThat(store.getUsedBytes()).isLessThanOrEqualTo(maxBytes);
+        }
+
+        List<QueueDepthPoint> a = store.getHistory("EMS-1", "A", 0);
+        List<QueueDepthPoint> b = store.getHistory("EMS-1", "B", 0);
+        assertThat(store.getSeriesCount()).isEqualTo(2);
+        assertThat(a).isNotEmpty();
+        assertThat(b).isNotEmpty();
+        assertThat(a.get(0).timestamp()).isGreaterThan(START);
+        assertThat(a.get(a.size() - 1)).isEqualTo(new QueueDepthPoint(START + 199 * 30_000L, 199));
+    }
+
+    @Test
+    void dropsIdleSeriesWhenBuffersAloneExceedTheBudget() {
+        // Room for the buffers of ten series only
+        long maxBytes = 10 * (64 + QueueHistoryStore.SERIES_OVERHEAD_BYTES + "EMS-1\u0000Q40".length());
+        QueueHistoryStore store = store(4, maxBytes);
+        for (int sweep = 0; sweep < 5; sweep++) {
+            List<QueueInfo> queues = new ArrayList<>();
+            for (int q = sweep * 10; q < sweep * 10 + 10; q++) {
+                queues.add(new QueueInfo("EMS-1", "Q" + q, q));
+            }
+            store.record("EMS-1", queues, START + sweep * 30_000L);
+            assertThat(store.getUsedBytes()).isLessThanOrEqualTo(maxBytes);
+        }
+
+        // Eviction goes down to nine tenths of the budget: the earlier sweeps' queues go
+        // first, then one of the last sweep's
+        long survivors = 0;
+        for (int q = 0; q < 50; q++) {
+            if (!store.getHistory("EMS-1", "Q" + q, 0).isEmpty()) {
+                assertThat(q).isGreaterThanOrEqualTo(40);
+                survivors++;
+            }
+        }
+        assertThat(survivors).isEqualTo(9);
+        assertThat(store.getSeriesCount()).isEqualTo(9);
+    }
+}
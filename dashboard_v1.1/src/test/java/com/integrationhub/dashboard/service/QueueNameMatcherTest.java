@@ -0,0 +1,91 @@
+package com.integrationhub.dashboard.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueueNameMatcherTest {
+
+    @Test
+    void emptyOrBlankPatternsMatchNothing() {
+        assertThat(QueueNameMatcher.compile(List.of()).matches("ANY.QUEUE")).isFalse();
+        assertThat(QueueNameMatcher.compile(null).matches("ANY.QUEUE")).isFalse();
+        QueueNameMatcher blank = QueueNameMatcher.compile(Arrays.asList(" ", null, ""));
+        assertThat(blank.isEmpty()).isTrue();
+        assertThat(blank.matches("ANY.QUEUE")).isFalse();
+        assertThat(QueueNameMatcher.compile(List.of("BAM")).matches(null)).isFalse();
+    }
+
+    @Test
+    void matchesAnywhereInTheNameIgnoringCase() {
+        QueueNameMatcher matcher = QueueNameMatcher.compile(List.of(" bam ", "FCWEB.CACHE"));
+
+        assertThat(matcher.matches("BAM")).isTrue();
+        assertThat(matcher.matches("sc.q.bam.events")).isTrue();
+        assertThat(matcher.matches("SC.Q.FCWeb.Cache.ITEMS")).isTrue();
+        assertThat(matcher.matches("SC.Q.FCWEB.CACH")).isFalse();
+        assertThat(matcher.matches("BA.M")).isFalse();
+        assertThat(matcher.matches("")).isFalse();
+    }
+
+    @Test
+    void followsFailureLinksBetweenOverlappingPatterns() {
+        // After "ABC" fails on E the automaton must resume in "BC", not at the root
+        QueueNameMatcher matcher = QueueNameMatcher.compile(List.of("ABCD", "BCE"));
+        assertThat(matcher.matches("XABCE")).isTrue();
+        assertThat(matcher.matches("ABCABCD")).isTrue();
+        assertThat(matcher.matches("ABCBCD")).isFalse();
+
+        // A short pattern inside a longer one is reported through the merged outputs
+        QueueNameMatcher nested = QueueNameMatcher.compile(List.of("ARCHIVE.TEMP", "HIV"));
+        assertThat(nested.matches("Q.ARCHIE.TEMP")).isFalse();
+        assertThat(nested.matches("Q.ARCHIVE")).isTrue();
+
+        QueueNameMatcher repeated = QueueNameMatcher.compile(List.of("AAB"));
+        assertThat(repeated.matches("AAAAAB")).isTrue();
+        assertThat(repeated.matches("ABABAA")).isFalse();
+    }
+
+    @Test
+    void handlesCharactersOutsideAscii() {
+        QueueNameMatcher matcher = QueueNameMatcher.compile(List.of("Ü.Ä", "é"));
+
+        assertThat(matcher.matches("Q.ü.ä.X")).isTrue();
+        assertThat(matcher.matches("CAFÉ")).isTrue();
+        assertThat(matcher.matches("Q.Ü.Ö")).isFalse();
+        assertThat(matcher.matches("Q.ñ")).isFalse();
+    }
+
+    @Test
+    void agreesWithNaiveContainsOnRandomInput() {
+        Random random = new Random(7);
+        String alphabet = "ABC.";
+        for (int round = 0; round < 500; round++) {
+            List<String> patterns = new ArrayList<>();
+            for (int i = 0, count = 1 + random.nextInt(5); i < count; i++) {
+                patterns.add(randomString(random, alphabet, 1 + random.nextInt(4)));
+            }
+            QueueNameMatcher matcher = QueueNameMatcher.compile(patterns);
+            for (int i = 0; i < 20; i++) {
+                String name = randomString(random, alphabet + "abcx", random.nextInt(12));
+                String upper = name.toUpperCase(Locale.ROOT);
+                boolean expected = patterns.stream().anyMatch(upper::contains);
+                assertThat(matcher.matches(name)).as("%s in %s", patterns, name).isEqualTo(expected);
+            }
+        }
+    }
+
+    private static String randomString(Random random, String alphabet, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,139 @@
+package com.integrationhub.dashboard.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SingleFlight singleFlight = new SingleFlight(registry);
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Starts a leader whose work blocks until {@code release} opens, then the other
+     * callers once the leader is inside the work, so all of them arrive while it is in flight.
+     */
+    private List<Future<String>> callConcurrently(List<?> arguments, AtomicInteger executions,
+                                                  CountDownLatch release, RuntimeException failure)
+            throws InterruptedException {
+        CountDownLatch leaderRunning = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> singleFlight.execute("op", arguments, () -> {
+            executions.incrementAndGet();
+            leaderRunning.countDown();
+            await(release);
+            if (failure != null) {
+                throw failure;
+            }
+            return "result";
+        })));
+        assertThat(leaderRunning.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 1; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.execute("op", arguments, () -> {
+                executions.incrementAndGet();
+                return "own result";
+            })));
+        }
+        // The followers have to be waiting on the leader before it finishes
+        while (singleFlight.getStats().get("op").coalesced() < CALLERS - 1) {
+            Thread.sleep(1);
+        }
+        return results;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void concurrentCallersShareOneExecution() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<String>> results = callConcurrently(List.of("EMS-1"), executions, release, null);
+
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        }
+        assertThat(executions).hasValue(1);
+        SingleFlight.FlightStats stats = singleFlight.getStats().get("op");
+        assertThat(stats).isEqualTo(new SingleFlight.FlightStats(CALLERS, 1, CALLERS - 1, (CALLERS - 1) / (double) CALLERS));
+        assertThat(registry.get("singleflight.coalesced").tag("operation", "op").functionCounter().count())
+                .isEqualTo(CALLERS - 1);
+    }
+
+    @Test
+    void concurrentCallersShareTheLeadersException() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("EMS down");
+        List<Future<String>> results = callConcurrently(List.of(), executions, release, failure);
+
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS)).hasCause(failure);
+        }
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void differentArgumentsAreNotCoalesced() throws Exception {
+        CountDownLatch leaderRunning = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> first = executor.submit(() -> singleFlight.execute("op", List.of("EMS-1"), () -> {
+            leaderRunning.countDown();
+            await(release);
+            return "EMS-1";
+        }));
+        assertThat(leaderRunning.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Would block until release if it joined the flight for EMS-1
+        assertThat(singleFlight.execute("op", List.of("EMS-2"), () -> "EMS-2")).isEqualTo("EMS-2");
+        assertThat(singleFlight.execute("other", List.of("EMS-1"), () -> "other")).isEqualTo("other");
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("EMS-1");
+        assertThat(singleFlight.getStats().get("op").coalesced()).isZero();
+    }
+
+    @Test
+    void nothingIsCachedOnceTheCallReturns() {
+        AtomicInteger executions = new AtomicInteger();
+
+        singleFlight.execute("op", executions::incrementAndGet);
+        singleFlight.execute("op", executions::incrementAndGet);
+        assertThatThrownBy(() -> singleFlight.execute("op", () -> {
+            throw new IllegalArgumentException("bad");
+        })).isInstanceOf(IllegalArgumentException.class);
+        singleFlight.execute("op", executions::incrementAndGet);
+
+        assertThat(executions).hasValue(3);
+        assertThat(singleFlight.getStats().get("op")).isEqualTo(new SingleFlight.FlightStats(4, 4, 0, 0));
+    }
+}
@@ -0,0 +1,128 @@
+package com.integrationhub.dashboard.service;
+
+import com.integrationhub.dashboard.config.TibcoEmsProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ThresholdMatcherTest {
+
+    private final List<TibcoEmsProperties.ThresholdRule> rules = new ArrayList<>();
+
+    /** Adds a rule whose warning threshold identifies it in assertions. */
+    private void rule(String pattern, long warning, String... servers) {
+        TibcoEmsProperties.ThresholdRule rule = new TibcoEmsProperties.ThresholdRule();
+        rule.setPattern(pattern);
+        rule.setWarning(warning);
+        rule.setCritical(warning * 10);
+        rule.setServers(List.of(servers));
+        rules.add(rule);
+    }
+
+    private ThresholdMatcher compile() {
+        TibcoEmsProperties.Thresholds settings = new TibcoEmsProperties.Thresholds();
+        settings.setRules(rules);
+        return ThresholdMatcher.compile(settings);
+    }
+
+    private static long warning(ThresholdMatcher matcher, String server, String name) {
+        return matcher.thresholdsFor(server, name).warning();
+    }
+
+    @Test
+    void unmatchedNamesGetTheDefaults() {
+        rule("ORDER.>", 1);
+        ThresholdMatcher matcher = compile();
+
+        ThresholdMatcher.Thresholds thresholds = matcher.thresholdsFor("EMS-1", "PAYMENT.IN");
+        assertThat(thresholds).isEqualTo(new ThresholdMatcher.Thresholds(5000, 10000, null));
+        // '>' needs at least one element after the prefix
+        assertThat(warning(matcher, "EMS-1", "ORDER")).isEqualTo(5000);
+        assertThat(warning(matcher, "EMS-1", null)).isEqualTo(5000);
+    }
+
+    @Test
+    void literalWinsOverStarWhichWinsOverGreaterThan() {
+        rule("A.>", 1);
+        rule("A.*.C", 2);
+        rule("A.B.C", 3);
+        rule("A.*", 4);
+        rule("A.B.>", 5);
+        ThresholdMatcher matcher = compile();
+
+        assertThat(warning(matcher, "EMS-1", "A.B.C")).isEqualTo(3);
+        assertThat(warning(matcher, "EMS-1", "A.X.C")).isEqualTo(2);
+        assertThat(warning(matcher, "EMS-1", "A.B.D")).isEqualTo(5);
+        assertThat(warning(matcher, "EMS-1", "A.X.D")).isEqualTo(1);
+        assertThat(warning(matcher, "EMS-1", "A.X")).isEqualTo(4);
+        assertThat(warning(matcher, "EMS-1", "A.B.C.D")).isEqualTo(5);
+        assertThat(warning(matcher, "EMS-1", "B.A")).isEqualTo(5000);
+    }
+
+    @Test
+    void backtracksWhenTheLiteralBranchDeadEnds() {
+        rule("SC.Q.AUDIT.X", 1);
+        rule("SC.*.AUDIT.LOG", 2);
+        ThresholdMatcher matcher = compile();
+
+        assertThat(warning(matcher, "EMS-1", "SC.Q.AUDIT.LOG")).isEqualTo(2);
+        assertThat(warning(matcher, "EMS-1", "SC.Q.AUDIT.X")).isEqualTo(1);
+        assertThat(matcher.thresholdsFor("EMS-1", "SC.Q.AUDIT.LOG").pattern()).isEqualTo("SC.*.AUDIT.LOG");
+    }
+
+    @Test
+    void serverRulesWinOverGlobalRules() {
+        rule("ORDER.RETRY", 1);
+        rule(">", 2, "EMS-1");
+        rule("PAYMENT.>", 3, "EMS-2", "EMS-3");
+        ThresholdMatcher matcher = compile();
+
+        // Any server rule beats a global one, however specific the global pattern is
+        assertThat(warning(matcher, "EMS-1", "ORDER.RETRY")).isEqualTo(2);
+        assertThat(warning(matcher, "EMS-2", "ORDER.RETRY")).isEqualTo(1);
+        assertThat(warning(matcher, "EMS-3", "PAYMENT.IN")).isEqualTo(3);
+        // A server whose rules do not match falls back to the global ones, then the defaults
+        assertThat(warning(matcher, "EMS-2", "AUDIT")).isEqualTo(5000);
+        assertThat(warning(matcher, null, "ORDER.RETRY")).isEqualTo(1);
+    }
+
+    @Test
+    void laterRuleWithTheSamePatternAndScopeWins() {
+        rule("ORDER.>", 1);
+        rule("ORDER.>", 2);
+        rule("ORDER.>", 3, "EMS-1");
+        ThresholdMatcher matcher = compile();
+
+        assertThat(warning(matcher, "EMS-2", "ORDER.IN")).isEqualTo(2);
+        assertThat(warning(matcher, "EMS-1", "ORDER.IN")).isEqualTo(3);
+    }
+
+    @Test
+    void missingThresholdsComeFromTheDefaults() {
+        TibcoEmsProperties.ThresholdRule rule = new TibcoEmsProperties.ThresholdRule();
+        rule.setPattern(" ORDER.*.RETRY ");
+        rule.setCritical(500L);
+        rules.add(rule);
+        ThresholdMatcher matcher = compile();
+
+        assertThat(matcher.thresholdsFor("EMS-1", "ORDER.X.RETRY"))
+                .isEqualTo(new ThresholdMatcher.Thresholds(5000, 500, "ORDER.*.RETRY"));
+    }
+
+    @Test
+    void skipsInvalidPatterns() {
+        rule("", 1);
+        rule("A..B", 2);
+        rule("A.>.B", 3);
+        rule(".A", 4);
+        rule("A.B", 5);
+        ThresholdMatcher matcher = compile();
+
+        assertThat(matcher.getRuleCount()).isEqualTo(1);
+        assertThat(warning(matcher, "EMS-1", "A.B")).isEqualTo(5);
+        assertThat(warning(matcher, "EMS-1", "A.X.B")).isEqualTo(5000);
+    }
+}